@@ -19,6 +19,7 @@ package org.ssgwt.client.ui;
 
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.datepicker.DateBox;
+import org.ssgwt.client.ui.datepicker.DatePickerPool;
 import org.ssgwt.client.ui.datepicker.SSDateBox;
 import org.ssgwt.client.ui.datepicker.SSDatePicker;
 
@@ -122,6 +123,20 @@ public class AdvancedDateBox extends DateBox implements AdvancedInputField<SSDat
         addHandlers(handler);
     }
 
+    /**
+     * Class constructor for a date box that borrows its date picker from a
+     * pool when it is shown
+     *
+     * @param pool - The pool to borrow the date picker from
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public AdvancedDateBox(DatePickerPool pool) {
+        super(pool, null, SSDateBox.DEFAULT_FORMAT, false);
+        addHandlers(handler);
+    }
+
     /**
      * Sets the place holder text to be displayed when no value is given in the
      * text input.
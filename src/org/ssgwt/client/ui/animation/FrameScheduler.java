@@ -0,0 +1,344 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.animation;
+
+import java.util.ArrayList;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationHandle;
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * A scheduler shared by the widgets that runs tasks on animation frames.
+ * All the scheduled tasks run in a single animation frame callback, no
+ * frames are requested while there are no tasks and the tasks are paused
+ * while the document is hidden.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FrameScheduler {
+
+    /**
+     * A task that is run on every animation frame until it is cancelled or
+     * indicates that it is done
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface FrameTask {
+
+        /**
+         * Runs the task for an animation frame
+         *
+         * @param timestamp - The time of the animation frame in milliseconds
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the task should run on the next animation frame
+         */
+        boolean execute(double timestamp);
+    }
+
+    /**
+     * A task that runs at most once per animation frame and not more often
+     * than its interval. If frames are late the task is not run more than
+     * once to catch up.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public abstract static class RepeatingTask implements FrameTask {
+
+        /**
+         * The minimum number of milliseconds between runs of the task
+         */
+        private final int interval;
+
+        /**
+         * The time the task should run next, -1 before the first frame
+         */
+        private double nextRun = -1;
+
+        /**
+         * Class constructor
+         *
+         * @param interval - The minimum number of milliseconds between runs of the task
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        public RepeatingTask(int interval) {
+            this.interval = interval;
+        }
+
+        /**
+         * Schedules the task to run repeatedly, starting one interval from now
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        public void schedule() {
+            nextRun = -1;
+            FrameScheduler.get().schedule(this);
+        }
+
+        /**
+         * Stops running the task
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        public void cancel() {
+            FrameScheduler.get().cancel(this);
+        }
+
+        /**
+         * Whether the task is scheduled to run
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the task is scheduled
+         */
+        public boolean isRunning() {
+            return FrameScheduler.get().isScheduled(this);
+        }
+
+        /**
+         * Runs the task if its interval passed since it last ran
+         *
+         * @param timestamp - The time of the animation frame in milliseconds
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the task is still scheduled
+         */
+        @Override
+        public final boolean execute(double timestamp) {
+            if (nextRun < 0) {
+                nextRun = timestamp + interval;
+            } else if (timestamp >= nextRun) {
+                nextRun = Math.max(nextRun + interval, timestamp);
+                run();
+            }
+            return isRunning();
+        }
+
+        /**
+         * Called each time the interval of the task passed
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        protected abstract void run();
+    }
+
+    /**
+     * The shared instance of the scheduler
+     */
+    private static FrameScheduler instance;
+
+    /**
+     * The tasks that are scheduled
+     */
+    private final ArrayList<FrameTask> tasks = new ArrayList<FrameTask>();
+
+    /**
+     * The animation frame that was requested, null if no frame was requested
+     */
+    private AnimationHandle frameHandle;
+
+    /**
+     * The listener waiting for the document to become visible, null if the scheduler is not paused
+     */
+    private JavaScriptObject visibilityListener;
+
+    /**
+     * The callback that runs the tasks on an animation frame
+     */
+    private final AnimationCallback frameCallback = new AnimationCallback() {
+
+        @Override
+        public void execute(double timestamp) {
+            runFrame(timestamp);
+        }
+    };
+
+    /**
+     * Retrieves the scheduler shared by the widgets
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The shared scheduler
+     */
+    public static FrameScheduler get() {
+        if (instance == null) {
+            instance = new FrameScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules a task to run on every animation frame
+     *
+     * @param task - The task to schedule
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void schedule(FrameTask task) {
+        if (!tasks.contains(task)) {
+            tasks.add(task);
+        }
+        requestFrame();
+    }
+
+    /**
+     * Cancels a scheduled task
+     *
+     * @param task - The task to cancel
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void cancel(FrameTask task) {
+        tasks.remove(task);
+        if (tasks.isEmpty() && frameHandle != null) {
+            frameHandle.cancel();
+            frameHandle = null;
+        }
+    }
+
+    /**
+     * Whether a task is scheduled
+     *
+     * @param task - The task to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the task is scheduled
+     */
+    public boolean isScheduled(FrameTask task) {
+        return tasks.contains(task);
+    }
+
+    /**
+     * Requests an animation frame if there are tasks and no frame was
+     * requested yet. If the document is hidden the scheduler waits for it to
+     * become visible instead.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void requestFrame() {
+        if (frameHandle != null || visibilityListener != null || tasks.isEmpty()) {
+            return;
+        }
+        if (isDocumentHidden()) {
+            visibilityListener = addVisibilityListener();
+        } else {
+            frameHandle = AnimationScheduler.get().requestAnimationFrame(frameCallback);
+        }
+    }
+
+    /**
+     * Runs the scheduled tasks for an animation frame
+     *
+     * @param timestamp - The time of the animation frame in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void runFrame(double timestamp) {
+        frameHandle = null;
+        try {
+            if (!isDocumentHidden()) {
+                FrameTask[] frameTasks = tasks.toArray(new FrameTask[tasks.size()]);
+                for (FrameTask task : frameTasks) {
+                    // A task can be cancelled by another task in the same frame
+                    if (tasks.contains(task) && !task.execute(timestamp)) {
+                        tasks.remove(task);
+                    }
+                }
+            }
+        } finally {
+            requestFrame();
+        }
+    }
+
+    /**
+     * Called when the visibility of the document changed while the scheduler is paused
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onVisibilityChange() {
+        if (visibilityListener != null && !isDocumentHidden()) {
+            removeVisibilityListener(visibilityListener);
+            visibilityListener = null;
+            requestFrame();
+        }
+    }
+
+    /**
+     * Whether the document is hidden, for example when the browser tab is in the background
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the document is hidden
+     */
+    private static native boolean isDocumentHidden() /*-{
+        return !!($doc.hidden || $doc.webkitHidden || $doc.msHidden);
+    }-*/;
+
+    /**
+     * Adds a listener that is called when the visibility of the document changes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The listener that was added
+     */
+    private native JavaScriptObject addVisibilityListener() /*-{
+        var scheduler = this;
+        var listener = $entry(function() {
+            scheduler.@org.ssgwt.client.ui.animation.FrameScheduler::onVisibilityChange()();
+        });
+        $doc.addEventListener('visibilitychange', listener, false);
+        $doc.addEventListener('webkitvisibilitychange', listener, false);
+        $doc.addEventListener('msvisibilitychange', listener, false);
+        return listener;
+    }-*/;
+
+    /**
+     * Removes a listener that was added by addVisibilityListener
+     *
+     * @param listener - The listener to remove
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static native void removeVisibilityListener(JavaScriptObject listener) /*-{
+        $doc.removeEventListener('visibilitychange', listener, false);
+        $doc.removeEventListener('webkitvisibilitychange', listener, false);
+        $doc.removeEventListener('msvisibilitychange', listener, false);
+    }-*/;
+}
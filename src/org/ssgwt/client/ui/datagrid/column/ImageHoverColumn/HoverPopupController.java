@@ -0,0 +1,363 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid.column.ImageHoverColumn;
+
+import java.util.HashMap;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.PopupPanel.PositionCallback;
+
+/**
+ * Controls the hover popup of the hover columns of a grid. The controller
+ * owns a single popup that the cells of all the columns it is passed to
+ * delegate their mouse over and mouse out events to. The popup is only shown
+ * once the mouse rested on a cell for the show delay and is hidden after the
+ * hide delay, so moving the mouse across a grid does not show and hide a
+ * popup for every cell it passes.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ *
+ * @param <T> - The type of data displayed in the popup
+ */
+public class HoverPopupController<T> {
+
+    /**
+     * The default number of milliseconds the mouse should rest on a cell before the popup is shown
+     */
+    public static final int DEFAULT_SHOW_DELAY = 150;
+
+    /**
+     * The default number of milliseconds before the popup is hidden after the mouse left a cell
+     */
+    public static final int DEFAULT_HIDE_DELAY = 100;
+
+    /**
+     * The popup displayed on hover
+     */
+    private final AbstractImageColumnPopup<T> popup;
+
+    /**
+     * The measured width and height of the popup keyed on the size key of the data
+     */
+    private final HashMap<Object, int[]> popupSizes = new HashMap<Object, int[]>();
+
+    /**
+     * The number of milliseconds the mouse should rest on a cell before the popup is shown
+     */
+    private int showDelay = DEFAULT_SHOW_DELAY;
+
+    /**
+     * The number of milliseconds before the popup is hidden after the mouse left a cell
+     */
+    private int hideDelay = DEFAULT_HIDE_DELAY;
+
+    /**
+     * The cell element the popup will be shown for
+     */
+    private Element pendingCell;
+
+    /**
+     * The element in the cell the popup will point to
+     */
+    private Element pendingAnchor;
+
+    /**
+     * The fraction of the anchor width the popup will point to, 2 points to the center
+     */
+    private int pendingAnchorDivisor;
+
+    /**
+     * The data the popup will be shown with
+     */
+    private T pendingData;
+
+    /**
+     * The element the popup is currently pointing to
+     */
+    private Element shownAnchor;
+
+    /**
+     * The timer that shows the popup once the mouse rested on a cell
+     */
+    private final Timer showTimer = new Timer() {
+
+        /**
+         * Shows the popup for the cell the mouse rested on
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        @Override
+        public void run() {
+            showPendingPopup();
+        }
+    };
+
+    /**
+     * The timer that hides the popup after the mouse left a cell
+     */
+    private final Timer hideTimer = new Timer() {
+
+        /**
+         * Hides the popup
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        @Override
+        public void run() {
+            hide();
+        }
+    };
+
+    /**
+     * Class constructor
+     *
+     * @param popup - The popup displayed on hover
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public HoverPopupController(AbstractImageColumnPopup<T> popup) {
+        this.popup = popup;
+    }
+
+    /**
+     * Getter for the popup
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The popup displayed on hover
+     */
+    public AbstractImageColumnPopup<T> getPopup() {
+        return popup;
+    }
+
+    /**
+     * Sets the number of milliseconds the mouse should rest on a cell before the popup is shown
+     *
+     * @param showDelay - The show delay in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setShowDelay(int showDelay) {
+        this.showDelay = showDelay;
+    }
+
+    /**
+     * Sets the number of milliseconds before the popup is hidden after the mouse left a cell
+     *
+     * @param hideDelay - The hide delay in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setHideDelay(int hideDelay) {
+        this.hideDelay = hideDelay;
+    }
+
+    /**
+     * Called by a cell when the mouse moves over the element the popup should point to
+     *
+     * @param cell - The element of the cell
+     * @param anchor - The element in the cell the popup should point to
+     * @param anchorDivisor - The fraction of the anchor width the popup should point to, 2 points to the center
+     * @param data - The data to display in the popup
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void onHoverOver(Element cell, Element anchor, int anchorDivisor, T data) {
+        hideTimer.cancel();
+        if (popup.isShowing() && anchor == shownAnchor) {
+            pendingAnchor = null;
+            showTimer.cancel();
+            return;
+        }
+        pendingCell = cell;
+        pendingAnchor = anchor;
+        pendingAnchorDivisor = anchorDivisor;
+        pendingData = data;
+        if (showDelay > 0) {
+            showTimer.schedule(showDelay);
+        } else {
+            showPendingPopup();
+        }
+    }
+
+    /**
+     * Called by a cell when the mouse leaves the element the popup points to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void onHoverOut() {
+        showTimer.cancel();
+        pendingCell = null;
+        pendingAnchor = null;
+        pendingData = null;
+        if (popup.isShowing()) {
+            if (hideDelay > 0) {
+                hideTimer.schedule(hideDelay);
+            } else {
+                hide();
+            }
+        }
+    }
+
+    /**
+     * Hides the popup immediately
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void hide() {
+        showTimer.cancel();
+        hideTimer.cancel();
+        shownAnchor = null;
+        popup.hide();
+    }
+
+    /**
+     * Removes the measured popup sizes, should be called when the popup styles change
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void clearSizeCache() {
+        popupSizes.clear();
+    }
+
+    /**
+     * Retrieves the key the measured size of the popup is cached on. Data
+     * with the same key should produce a popup of the same size. The default
+     * returns null which measures the popup every time it is shown.
+     *
+     * @param data - The data displayed in the popup
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The size key or null if the size should not be cached
+     */
+    protected Object getSizeKey(T data) {
+        return null;
+    }
+
+    /**
+     * Shows the popup for the cell the mouse rested on. If the size of the
+     * popup is cached it is positioned before it is shown, otherwise it is
+     * measured once while hidden and then positioned.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void showPendingPopup() {
+        if (pendingAnchor == null) {
+            return;
+        }
+        final Element cell = pendingCell;
+        final Element anchor = pendingAnchor;
+        final int anchorDivisor = pendingAnchorDivisor;
+        final Object sizeKey = getSizeKey(pendingData);
+        popup.setData(pendingData);
+        pendingCell = null;
+        pendingAnchor = null;
+        pendingData = null;
+        shownAnchor = anchor;
+
+        int[] size = sizeKey == null ? null : popupSizes.get(sizeKey);
+        if (size != null) {
+            positionPopup(size[0], size[1], cell, anchor, anchorDivisor);
+            popup.show();
+        } else {
+            popup.setPopupPositionAndShow(new PositionCallback() {
+
+                /**
+                 * Positions the popup once it was measured
+                 *
+                 * @param offsetWidth - The width of the popup
+                 * @param offsetHeight - The height of the popup
+                 *
+                 * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+                 * @since  19 October 2026
+                 */
+                @Override
+                public void setPosition(int offsetWidth, int offsetHeight) {
+                    if (sizeKey != null) {
+                        popupSizes.put(sizeKey, new int[] {offsetWidth, offsetHeight});
+                    }
+                    positionPopup(offsetWidth, offsetHeight, cell, anchor, anchorDivisor);
+                }
+            });
+        }
+    }
+
+    /**
+     * Positions the popup and its pointer relative to the cell. All the
+     * positions are read before the popup is moved.
+     *
+     * @param popupWidth - The width of the popup
+     * @param popupHeight - The height of the popup
+     * @param cell - The element of the cell
+     * @param anchor - The element in the cell the popup points to
+     * @param anchorDivisor - The fraction of the anchor width the popup points to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void positionPopup(int popupWidth, int popupHeight, Element cell, Element anchor, int anchorDivisor) {
+        int windowHeight = Window.getClientHeight() - 10;
+        int windowWidth = Window.getClientWidth() - 10;
+        int cellLeft = cell.getAbsoluteLeft();
+        int cellTop = cell.getAbsoluteTop();
+        int cellHeight = cell.getOffsetHeight();
+        int parentCenterXPosition = anchor.getAbsoluteLeft() + (anchor.getOffsetWidth() / anchorDivisor);
+        boolean topPointer = false;
+        int popupTopPosition;
+        int popupLeftPosition;
+
+        // Now we need to determine the x and y position of the pointer
+        int xPointerPosition = popupWidth / 6;
+        // -1 is used as it should be shown 1px above/below the border line of the popup
+        int yPointerPosition = popupHeight - 1;
+
+        // By default show the popup upwards if possible
+        if (popupHeight + cellTop + 10 <= windowHeight) {
+            popupTopPosition = cellTop - popupHeight - 10;
+        } else {
+            popupTopPosition = cellTop + cellHeight + 10;
+            // -10 as we used +10 above. -2 is needed to get the pointer to show perfectly
+            yPointerPosition = -12;
+            topPointer = true;
+        }
+
+        // We cannot show the popup as it is out of the screen.
+        if (cellLeft + popupWidth >= windowWidth) {
+            // Point from 5/6 of the popup width and subtract 6 to align the
+            // center of the pointer with the center of the anchor
+            popupLeftPosition = parentCenterXPosition - (xPointerPosition * 5) - 6;
+            popup.setPointerPosition(xPointerPosition * 5, yPointerPosition, topPointer);
+        } else {
+            popupLeftPosition = parentCenterXPosition - (xPointerPosition) - 6;
+            popup.setPointerPosition(xPointerPosition, yPointerPosition, topPointer);
+        }
+        popup.setPopupPosition(popupLeftPosition, popupTopPosition);
+    }
+}
@@ -25,7 +25,6 @@ import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates.Template;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
-import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Image;
 
 /**
@@ -39,25 +38,15 @@ import com.google.gwt.user.client.ui.Image;
 public class SSHoverImageCell<T> extends AbstractCell<T> implements HasHandlers {
 
     /**
-     * The popup the will be displayed on hover
+     * The controller of the popup that will be displayed on hover
      */
-    private final AbstractImageColumnPopup<T> popup;
+    private final HoverPopupController<T> controller;
 
     /**
      * The handler manager used to handle events
      */
     private final HandlerManager handlerManager;
 
-    /**
-     * The image displayed in the cell
-     */
-    private Image image;
-
-    /**
-     * The parent element of the Cell
-     */
-    private Element parent;
-
     /**
      * The column the cell is displayed in.
      * The parent column.
@@ -83,16 +72,6 @@ public class SSHoverImageCell<T> extends AbstractCell<T> implements HasHandlers
      * Instance of the template
      */
     private static Template template;
-    
-    /**
-     * Save the left position of the popup
-     */
-    private int popupLeftPosition = 0;
-    
-    /**
-     * Save the top position of the popup
-     */
-    private int popupTopPosition = 0;
 
     /**
      * The SSBooleanImageCell constructor
@@ -105,11 +84,23 @@ public class SSHoverImageCell<T> extends AbstractCell<T> implements HasHandlers
      * @param column - The column this
      */
     public SSHoverImageCell(AbstractImageColumnPopup<T> popup) {
+        this(new HoverPopupController<T>(popup));
+    }
+
+    /**
+     * Class constructor for a cell that shares the popup of a controller with other cells
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param controller - The controller of the popup displayed on hover
+     */
+    public SSHoverImageCell(HoverPopupController<T> controller) {
         super(MOUSE_OVER, MOUSE_OUT);
         if (template == null) {
             template = GWT.create(Template.class);
         }
-        this.popup = popup;
+        this.controller = controller;
         this.handlerManager = new HandlerManager(this);
     }
 
@@ -154,7 +145,7 @@ public class SSHoverImageCell<T> extends AbstractCell<T> implements HasHandlers
     @Override
     public void render(Context context, T value, SafeHtmlBuilder sb) {
 
-        image = this.column.getImage(value);
+        Image image = this.column.getImage(value);
         image.getElement().setAttribute("name", CELL_IMAGE_NAME);
 
         sb.append(template.openContainerTag());
@@ -186,99 +177,21 @@ public class SSHoverImageCell<T> extends AbstractCell<T> implements HasHandlers
         // All the already browser event should still behave as it use to
         super.onBrowserEvent(context, parent, value, event, valueUpdater);
 
-        this.parent = parent;
         // Get the image tag in the cell
         Element imageElement = getImageElement(parent);
 
         // If the event happened on the image tag
         if (event.getEventTarget().equals(imageElement)) {
             if (MOUSE_OVER.equals(event.getType())) { // The event is MOUSE_OVER
-                // Display the popup
-                displayPopup(value);
+                // Display the popup pointing to the center of the image
+                controller.onHoverOver(parent, imageElement, 2, value);
             } else if (MOUSE_OUT.equals(event.getType())) { // The event is MOUSE_OUT
                 // Close the popup
-                hidePopup();
+                controller.onHoverOut();
             }
         }
     };
 
-    /**
-     * Displays the popup relative to the cell
-     *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since  31 May 2013
-     *
-     * @param data - The data that will be set in the popup
-     */
-    private void displayPopup(T data) {
-        this.popup.center();
-        this.popup.setData(data);
-        
-        calculatePopupPosition();
-        
-        this.popup.setPopupPosition(
-            popupLeftPosition,
-            popupTopPosition
-        );
-    }
-    
-    /**
-     * Calculate the position of the popup.
-     * 
-     * @author Ryno Hartzer <ryno.hartzer@a24group.com>
-     * @since  14 June 2013
-     */
-    private void calculatePopupPosition() {
-        int windowHeight = Window.getClientHeight() - 10;
-        int windowWidth = Window.getClientWidth() - 10;
-        boolean topPointer = false;
-        
-        // Now we need to determine the x and y position of the pointer
-        int xPointerPosition = this.popup.getOffsetWidth() / 6;
-        // -1 is used as it should be shown 1px above/below the border line of the popup
-        int yPointerPosition = this.popup.getOffsetHeight() - 1;
-        int parentCenterXPosition = getImageElement(this.parent).getAbsoluteLeft()
-            + (getImageElement(this.parent).getOffsetWidth() / 2);
-        
-        // By default show the popup upwards if possible
-        if (this.popup.getOffsetHeight() + this.parent.getAbsoluteTop() + 10 <= windowHeight) {
-            popupTopPosition = this.parent.getAbsoluteTop() - this.popup.getOffsetHeight() - 10;
-            topPointer = false;
-        } else {
-            popupTopPosition = this.parent.getAbsoluteTop() + this.parent.getOffsetHeight() + 10;
-            // -10 as we used +10 above. -2 is needed to get the pointer to show perfectly
-            yPointerPosition = -12;
-            topPointer = true;
-        }
-        
-        // maxX will be the reference point plus the width of the popup.
-        // Used to determine if we are 'out' of the screen horizontally
-        int maxX = this.parent.getAbsoluteLeft() + this.popup.getOffsetWidth();
-        
-        // We cannot show the popup as it is out of the screen.
-        if (maxX >= windowWidth) {
-            // parentCenterXPosition is the middle x position of the parent image.
-            // xPointerPosition is a 1/6 of the popup width. Multiply this by 5
-            // so that we get 5/6.
-            // Subtract 6 to align the center of the pointer with the center of the parent image
-            popupLeftPosition = parentCenterXPosition - (xPointerPosition * 5) - 6;
-            this.popup.setPointerPosition(xPointerPosition * 5, yPointerPosition, topPointer);
-        } else {
-            popupLeftPosition = parentCenterXPosition - (xPointerPosition) - 6;
-            this.popup.setPointerPosition(xPointerPosition, yPointerPosition, topPointer);
-        }
-    }
-
-    /** 
-     * Hides the popup
-     *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since  31 May 2013
-     */
-    private void hidePopup() {
-        this.popup.hide();
-    }
-    
     /**
      * Retrieves the element of the image that is being displayed in the Cell.
      * The cell being the parent;
@@ -42,6 +42,22 @@ public abstract class SSHoverImageColumn<T> extends Column<T, T> {
         hoverImageCell.setParentColumn(this);
     }
 
+    /**
+     * Construct a new SSHoverImageColumn that shares the popup of the
+     * controller with the other hover columns of the grid.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     *
+     * @param controller - The controller of the popup to display on hover
+     */
+    public SSHoverImageColumn(HoverPopupController<T> controller) {
+        super(new SSHoverImageCell<T>(controller));
+
+        SSHoverImageCell<T> hoverImageCell = (SSHoverImageCell<T>) getCell();
+        hoverImageCell.setParentColumn(this);
+    }
+
     /**
      * Function that will return the image that will be displayed in the in the cell.
      *
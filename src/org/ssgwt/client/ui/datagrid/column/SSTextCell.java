@@ -16,6 +16,7 @@ package org.ssgwt.client.ui.datagrid.column;
 import org.ssgwt.client.i18n.DateTimeFormat;
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.AbstractImageColumnPopup;
+import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.HoverPopupController;
 
 import com.google.gwt.cell.client.AbstractCell;
 import com.google.gwt.cell.client.ValueUpdater;
@@ -28,7 +29,6 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
-import com.google.gwt.user.client.Window;
 
 /**
  * A text cell that will display text in a cell with a tooltip with the
@@ -55,9 +55,9 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
     String styleName = "";
 
     /**
-     * The popup the will be displayed on hover
+     * The controller of the popup that will be displayed on hover
      */
-    private AbstractImageColumnPopup<T> popup;
+    private HoverPopupController<T> controller;
 
     /**
      * The handler manager used to handle events
@@ -69,11 +69,6 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
      */
     private SSTextColumn<T> column;
 
-    /**
-     * The parent element of the Cell
-     */
-    private Element parent;
-
     /**
      * The mouse over event cont
      */
@@ -89,16 +84,6 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
      */
     private static Template template;
 
-    /**
-     * The left position of the popup
-     */
-    int popupLeftPosition = 0;
-
-    /**
-     * The top position of the popup
-     */
-    int popupTopPosition = 0;
-
     /**
      * Template providing SafeHTML templates to build the widget
      *
@@ -163,11 +148,24 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
      * @param popup - The custom popup to display on hover
      */
     public SSTextCell(AbstractImageColumnPopup<T> popup) {
+        this(new HoverPopupController<T>(popup));
+    }
+
+    /**
+     * Class Constructor for text cell with a custom tool tip that shares the
+     * popup of a controller with other cells
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param controller - The controller of the custom popup to display on hover
+     */
+    public SSTextCell(HoverPopupController<T> controller) {
         super(MOUSE_OVER, MOUSE_OUT);
         if (template == null) {
             template = GWT.create(Template.class);
         }
-        this.popup = popup;
+        this.controller = controller;
         this.handlerManager = new HandlerManager(this);
     }
 
@@ -239,95 +237,22 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
         // All the already browser event should still behave as it use to
         super.onBrowserEvent(context, parent, value, event, valueUpdater);
 
-        this.parent = parent;
-        Element imageElement = getLabelElement(parent);
-        if (event.getEventTarget().equals(imageElement)) {
+        Element labelElement = getLabelElement(parent);
+        if (event.getEventTarget().equals(labelElement)) {
             if (MOUSE_OVER.equals(event.getType())) { // The event is MOUSE_OVER
                 // Display the popup only if it is allowed.
-                if (column.showPopup(column.getRowData())) {
-                    displayPopup();
+                T rowData = column.getRowData();
+                if (column.showPopup(rowData)) {
+                    // Point the popup to the first third of the label
+                    controller.onHoverOver(parent, labelElement, 3, rowData);
                 }
             } else if (MOUSE_OUT.equals(event.getType())) { // The event is MOUSE_OUT
                 // Close the popup
-                hidePopup();
+                controller.onHoverOut();
             }
         }
     };
 
-    /**
-     * Displays the popup relative to the cell
-     *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since  17 June 2013
-     */
-    private void displayPopup() {
-        this.popup.center();
-        this.popup.setData(column.getRowData());
-
-        calculatePopupPosition();
-
-        this.popup.setPopupPosition(
-            popupLeftPosition,
-            popupTopPosition
-        );
-    }
-
-    /**
-     * Calculate the position of the popup.
-     *
-     * @author Ryno Hartzer <ryno.hartzer@a24group.com>
-     * @since  19 June 2013
-     */
-    private void calculatePopupPosition() {
-        int windowHeight = Window.getClientHeight() - 10;
-        int windowWidth = Window.getClientWidth() - 10;
-        boolean topPointer = false;
-
-        // Now we need to determine the x and y position of the pointer
-        int xPointerPosition = this.popup.getOffsetWidth() / 6;
-        // -1 is used as it should be shown 1px above/below the border line of the popup
-        int yPointerPosition = this.popup.getOffsetHeight() - 1;
-        int parentCenterXPosition = getLabelElement(this.parent).getAbsoluteLeft()
-            + (getLabelElement(this.parent).getOffsetWidth() / 3);
-
-        // By default show the popup upwards if possible
-        if (this.popup.getOffsetHeight() + this.parent.getAbsoluteTop() + 10 <= windowHeight) {
-            popupTopPosition = this.parent.getAbsoluteTop() - this.popup.getOffsetHeight() - 10;
-            topPointer = false;
-        } else {
-            popupTopPosition = this.parent.getAbsoluteTop() + this.parent.getOffsetHeight() + 10;
-            // -10 as we used +10 above. -2 is needed to get the pointer to show perfectly
-            yPointerPosition = -12;
-            topPointer = true;
-        }
-        // maxX will be the reference point plus the width of the popup.
-        // Used to determine if we are 'out' of the screen horizontally
-        int maxX = this.parent.getAbsoluteLeft() + this.popup.getOffsetWidth();
-
-        // We cannot show the popup as it is out of the screen.
-        if (maxX >= windowWidth) {
-            // parentCenterXPosition is the middle x position of the parent image.
-            // xPointerPosition is a 1/6 of the popup width. Multiply this by 5
-            // so that we get 5/6.
-            // Subtract 6 to align the center of the pointer with the center of the parent image
-            popupLeftPosition = parentCenterXPosition - (xPointerPosition * 5) - 6;
-            this.popup.setPointerPosition(xPointerPosition * 5, yPointerPosition, topPointer);
-        } else {
-            popupLeftPosition = parentCenterXPosition - (xPointerPosition) - 6;
-            this.popup.setPointerPosition(xPointerPosition, yPointerPosition, topPointer);
-        }
-    }
-
-    /**
-     * Hides the popup
-     *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since  17 June 2013
-     */
-    private void hidePopup() {
-        this.popup.hide();
-    }
-
     /**
      * Retrieves the element of the label displayed in the cell
      *
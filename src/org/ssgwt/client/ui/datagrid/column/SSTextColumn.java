@@ -14,6 +14,7 @@
 package org.ssgwt.client.ui.datagrid.column;
 
 import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.AbstractImageColumnPopup;
+import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.HoverPopupController;
 
 import com.google.gwt.user.cellview.client.Column;
 
@@ -66,6 +67,23 @@ public abstract class SSTextColumn<T> extends Column<T, String> implements Sorta
         textCell.setParentColumn(this);
     }
 
+    /**
+     * Construct a new TextColumn.
+     * With a custom tool tip that shares the popup of the controller with
+     * the other hover columns of the grid
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param controller - The controller of the custom popup to display on hover
+     */
+    public SSTextColumn(HoverPopupController<T> controller) {
+        super(new SSTextCell<T>(controller));
+
+        SSTextCell<T> textCell = (SSTextCell<T>) getCell();
+        textCell.setParentColumn(this);
+    }
+
     /**
      * This function return the data represented by the row.
      * If you use a custom popup fir the tool tip you need to override this function
@@ -15,8 +15,8 @@ package org.ssgwt.client.ui.datagrid.filter;
 
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.datepicker.DateBox;
+import org.ssgwt.client.ui.datepicker.DatePickerPool;
 import org.ssgwt.client.ui.datepicker.SSDateBox;
-import org.ssgwt.client.ui.datepicker.SSDatePicker;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.dom.client.ChangeEvent;
@@ -474,20 +474,18 @@ public class DateFilter extends AbstractHeaderFilter {
         this.resources = resources;
         this.resources.textFilterStyle().ensureInjected();
         this.setStyleName("");
-        // Create datepickers, set their styles, and insert them into the dateboxes
+        // Create the dateboxes, they borrow their datepickers from the shared pool when opened
         // To date
-        SSDatePicker toDatePicker = new SSDatePicker();
-        toDatePicker.setMinimumDate(toMinDate);
-        toDatePicker.setMaximumDate(toMaxDate);
-        toDatePicker.setStyleName(datePickerStyle);
-        toDateBox = new DateBox(toDatePicker, null, SSDateBox.DEFAULT_FORMAT);
+        toDateBox = new DateBox(DatePickerPool.getSharedPool(), null, SSDateBox.DEFAULT_FORMAT);
+        toDateBox.setMinimumDate(toMinDate);
+        toDateBox.setMaximumDate(toMaxDate);
+        toDateBox.setDatePickerStyleName(datePickerStyle);
         toDateBox.setStyleName(getResources().textFilterStyle().dateBoxStyle());
         // From date
-        SSDatePicker fromDatePicker = new SSDatePicker();
-        fromDatePicker.setMinimumDate(fromMinDate);
-        fromDatePicker.setMaximumDate(fromMaxDate);
-        fromDatePicker.setStyleName(datePickerStyle);
-        fromDateBox = new DateBox(fromDatePicker, null, SSDateBox.DEFAULT_FORMAT);
+        fromDateBox = new DateBox(DatePickerPool.getSharedPool(), null, SSDateBox.DEFAULT_FORMAT);
+        fromDateBox.setMinimumDate(fromMinDate);
+        fromDateBox.setMaximumDate(fromMaxDate);
+        fromDateBox.setDatePickerStyleName(datePickerStyle);
         fromDateBox.setStyleName(getResources().textFilterStyle().dateBoxStyle());
 
         this.setWidget(uiBinder.createAndBindUi(this));
@@ -20,6 +20,9 @@ import java.util.List;
 import java.util.Map;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Node;
+import com.google.gwt.dom.client.OptionElement;
 import com.google.gwt.event.dom.client.KeyCodes;
 import com.google.gwt.event.dom.client.KeyUpEvent;
 import com.google.gwt.event.dom.client.KeyUpHandler;
@@ -143,6 +146,21 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      */
     HashMap<String, String> valueMap = new HashMap<String, String>();
 
+    /**
+     * The index of the first item in the drop down list with each value
+     */
+    private final HashMap<String, Integer> valueIndexMap = new HashMap<String, Integer>();
+
+    /**
+     * The key of each value in the value map, used to look up keys by value
+     */
+    private final HashMap<String, String> valueKeyMap = new HashMap<String, String>();
+
+    /**
+     * The text of the items in the drop down list of the advanced map
+     */
+    private String[] itemTexts = new String[0];
+
     /**
      * Flag to indicate whether or not a advanced list will be used
      */
@@ -583,17 +601,20 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the selected items separated with a ","
      */
     public String getMultiselectListBoxAdvancedSelectedItems() {
-        String selectedItem = null;
-        for (int i = 0; i < listBox.getItemCount(); i++) {
+        StringBuilder selectedItems = null;
+        int itemCount = listBox.getItemCount();
+        for (int i = 0; i < itemCount; i++) {
             if (listBox.isItemSelected(i)) {
-                if (selectedItem == null) {
-                    selectedItem = getKeyFromValueMap(listBox.getItemText(i));
+                String itemText = i < itemTexts.length ? itemTexts[i] : listBox.getItemText(i);
+                if (selectedItems == null) {
+                    selectedItems = new StringBuilder();
                 } else {
-                    selectedItem = selectedItem + "," + getKeyFromValueMap(listBox.getItemText(i));
+                    selectedItems.append(',');
                 }
+                selectedItems.append(getKeyFromValueMap(itemText));
              }
         }
-        return selectedItem;
+        return selectedItems == null ? null : selectedItems.toString();
     }
 
     /**
@@ -605,17 +626,19 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the selected items separated with a ","
      */
     public String getMultiselectListBoxSelectedItems() {
-        String selectedItem = null;
-        for (int i = 0; i < listBox.getItemCount(); i++) {
+        StringBuilder selectedItems = null;
+        int itemCount = listBox.getItemCount();
+        for (int i = 0; i < itemCount; i++) {
             if (listBox.isItemSelected(i)) {
-                if (selectedItem == null) {
-                    selectedItem = values[i];
+                if (selectedItems == null) {
+                    selectedItems = new StringBuilder();
                 } else {
-                    selectedItem = selectedItem + "," + values[i];
+                    selectedItems.append(',');
                 }
+                selectedItems.append(values[i]);
              }
         }
-        return selectedItem;
+        return selectedItems == null ? null : selectedItems.toString();
     }
 
     /**
@@ -925,18 +948,32 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             }
         }
         previousIndex = 0;
+        ArrayList<String> texts = new ArrayList<String>(valueMap.size() + 1);
+        ArrayList<String> keys = new ArrayList<String>(valueMap.size() + 1);
         if (emptyInclude) {
-            listBox.addItem("", sEmptyKey);
+            texts.add("");
+            keys.add(sEmptyKey);
         }
         Map<String, String> map = valueMap;
         Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
         while (entries.hasNext()) {
             Map.Entry<String, String> entry = entries.next();
-            listBox.addItem(entry.getValue(), entry.getKey());
+            texts.add(entry.getValue());
+            keys.add(entry.getKey());
         }
+        itemTexts = texts.toArray(new String[texts.size()]);
+        addListBoxItems(itemTexts, keys.toArray(new String[keys.size()]));
         if (emptyInclude) {
             valueMap.put(sEmptyKey, "");
         }
+        indexItems(itemTexts);
+        entries = map.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, String> entry = entries.next();
+            if (!valueKeyMap.containsKey(entry.getValue())) {
+                valueKeyMap.put(entry.getValue(), entry.getKey());
+            }
+        }
         bIsAdvancedMap = true;
         updateFieldData();
     }
@@ -967,13 +1004,61 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             }
         }
         previousIndex = 0;
-        for (int x = 0; x < this.values.length; x++) {
-            listBox.addItem(this.values[x]);
-        }
+        addListBoxItems(this.values, this.values);
+        indexItems(this.values);
         bIsAdvancedMap = false;
         updateFieldData();
     }
 
+    /**
+     * Adds the items to the drop down list. The options are built in a
+     * document fragment and added to the list in one operation.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param texts - The text of each item
+     * @param optionValues - The value of each item
+     */
+    private void addListBoxItems(String[] texts, String[] optionValues) {
+        Node fragment = createDocumentFragment();
+        for (int x = 0; x < texts.length; x++) {
+            OptionElement option = Document.get().createOptionElement();
+            option.setText(texts[x]);
+            option.setValue(optionValues[x]);
+            fragment.appendChild(option);
+        }
+        listBox.getElement().appendChild(fragment);
+    }
+
+    /**
+     * Creates an empty document fragment the options can be added to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The document fragment
+     */
+    private static native Node createDocumentFragment() /*-{
+        return $doc.createDocumentFragment();
+    }-*/;
+
+    /**
+     * Stores the index of the first item with each text in the value index map
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param texts - The text of each item in the drop down list
+     */
+    private void indexItems(String[] texts) {
+        for (int x = 0; x < texts.length; x++) {
+            if (!valueIndexMap.containsKey(texts[x])) {
+                valueIndexMap.put(texts[x], x);
+            }
+        }
+    }
+
     /**
      * Gets the value from the dropdown list in the filter item
      *
@@ -1076,12 +1161,16 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             getCriteria().setCriteria(sEmptyKey);
             item = "";
         }
-        for (int x = 0; x < values.length; x++) {
-            if (item.equals(values[x])) {
-                return x;
+        if (bIsAdvancedMap) {
+            for (int x = 0; x < values.length; x++) {
+                if (item.equals(values[x])) {
+                    return x;
+                }
             }
+            return -1;
         }
-        return -1;
+        Integer index = valueIndexMap.get(item);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -1095,23 +1184,12 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the index of the current item's key passed in
      */
     public int findAdvancedIndexValue(String item) {
-        Map<String, String> map = valueMap;
-        Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            if (item.equals((entry.getKey()))) {
-                item = entry.getValue();
-                int listCount = listBox.getItemCount();
-                for (int x = 0; x < listCount; x++) {
-                    if (item.equals(listBox.getItemText(x))) {
-                        return x;
-                    }
-                }
-
-                return -1;
-            }
+        String value = valueMap.get(item);
+        if (value == null) {
+            return -1;
         }
-        return -1;
+        Integer index = valueIndexMap.get(value);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -1128,16 +1206,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         if (includeEmptyValue && value.equals("")) {
             return sEmptyKey;
         }
-        Map<String, String> map = valueMap;
-        Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            if (value.equals((entry.getValue()))) {
-                return "" + entry.getKey();
-
-            }
-        }
-        return "";
+        String key = valueKeyMap.get(value);
+        return key == null ? "" : key;
     }
 
     /**
@@ -1161,6 +1231,9 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
     public void emptyListBox() {
         listBox.clear();
         valueMap.clear();
+        valueIndexMap.clear();
+        valueKeyMap.clear();
+        itemTexts = new String[0];
         values = new String[]{""};
     }
 
@@ -200,16 +200,6 @@ public class DateTimeComponent extends Composite {
      */
     private final SSDate minDate;
 
-    /**
-     * The max length of the shift in milliseconds
-     */
-    private final long maxShiftTime;
-
-    /**
-     * The min length of the shift in milliseconds
-     */
-    private final long minShiftTime;
-
     /**
      * The date picker used select the start date
      */
@@ -260,6 +250,36 @@ public class DateTimeComponent extends Composite {
      */
     private SSDate previousEndDate = null;
 
+    /**
+     * The slots the shift can end on for the selected start time
+     */
+    private final ShiftSlotModel shiftSlots;
+
+    /**
+     * The minimum time set on the end time picker
+     */
+    private long endTimePickerMin;
+
+    /**
+     * The maximum time set on the end time picker
+     */
+    private long endTimePickerMax;
+
+    /**
+     * The minimum date set on the end date picker
+     */
+    private long endDatePickerMin;
+
+    /**
+     * The maximum date set on the end date picker
+     */
+    private long endDatePickerMax;
+
+    /**
+     * The text displayed in the total time label
+     */
+    private String totalTimeText;
+
     /**
      * UiBinder interface for the composite
      *
@@ -313,8 +333,7 @@ public class DateTimeComponent extends Composite {
         this.defaultSelectedDate.setSeconds(0);
         this.defaultSelectedDate.setMinutes(roundUpTime(defaultSelectedDate.getMinutes()));
 
-        this.maxShiftTime = maxShiftTime;
-        this.minShiftTime = minShiftTime;
+        this.shiftSlots = new ShiftSlotModel(minShiftTime, maxShiftTime);
 
         // The date picker for the start date
         startDatePicker = new SSDatePicker(this.minDate, this.maxDate);
@@ -373,7 +392,10 @@ public class DateTimeComponent extends Composite {
             }
         );
 
-        endDatePicker = new SSDatePicker(getMinEndDate(getShiftMinDate()), getMaxEndDate(getShiftMaxDate()));
+        updateShiftSlots();
+        endDatePickerMin = shiftSlots.getMinEndDay().getTime();
+        endDatePickerMax = shiftSlots.getMaxEndDay().getTime();
+        endDatePicker = new SSDatePicker(shiftSlots.getMinEndDay(), shiftSlots.getMaxEndDay());
         endDatePicker.setStyleName(dtPickerSizeStyle);
 
         endDateBox = new DateBox(endDatePicker, getShiftMinDate(), DEFAULT_FORMAT);
@@ -412,6 +434,8 @@ public class DateTimeComponent extends Composite {
             15,
             1
         );
+        endTimePickerMin = shiftSlots.getMinEnd();
+        endTimePickerMax = shiftSlots.getMaxEnd();
         this.lastEndDate = getShiftMinDate();
         endTimePicker.addChangeHandler(
             new ChangeHandler<SSDate>() {
@@ -439,7 +463,7 @@ public class DateTimeComponent extends Composite {
         startTimePicker.addStyleName(timePickerStyle);
         endTimePicker.addStyleName(timePickerStyle);
 
-        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+        updateTotalTime();
     }
 
     /**
@@ -456,8 +480,7 @@ public class DateTimeComponent extends Composite {
     private void onStartTimePickerValueChange(SSDate date) {
         if (startDateManuallySet) {
             startDateManuallySet = false;
-            endTimePicker.setMinDate(getShiftMinDate());
-            endTimePicker.setMaxDate(getShiftMaxDate());
+            updateEndTimePickerRange();
         } else {
             if (startDateTimeManuallySet) {
                 startDateTimeManuallySet = false;
@@ -480,14 +503,13 @@ public class DateTimeComponent extends Composite {
                 if (startTimePicker.getDateTime().getDay() != startDateBox.getValue().getDay()) {
                     startTimePicker.setDate(startDateBox.getValue());
                 }
-                endTimePicker.setMinDate(getShiftMinDate());
-                endTimePicker.setMaxDate(getShiftMaxDate());
+                updateEndTimePickerRange();
                 endTimePicker.setDateTime(getShiftMinDate());
                 endDateBox.setValue(startDateBox.getValue());
                 onEndDateBoxValueChange(startDateBox.getValue());
             }
         }
-        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+        updateTotalTime();
     }
 
     /**
@@ -523,21 +545,21 @@ public class DateTimeComponent extends Composite {
                         (startDateBox.getValue().getDay() == endDateBox.getValue().getDay())
                     ) {
                         if (getShiftMinDate().getTime() == endTimePicker.getDateTime().getTime()) {
-                            totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                            updateTotalTime();
                             return;
                         }
                         if (endTimePicker.getDateTime().getMinutes() % 60 != 0) {
-                            totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                            updateTotalTime();
                         }
                         endTimePicker.setDateTime(getShiftMinDate());
-                        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                        updateTotalTime();
                     } else {
                         if (getShiftMaxDate().getTime() == endTimePicker.getDateTime().getTime()) {
-                            totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                            updateTotalTime();
                             return;
                         }
                         if (endTimePicker.getDateTime().getMinutes() % 60 != 0) {
-                            totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                            updateTotalTime();
                             return;
                         }
                     }
@@ -547,7 +569,7 @@ public class DateTimeComponent extends Composite {
                     startDateBox.getValue().getDay() == endDateBox.getValue().getDay()
                 ) {
                     endTimePicker.setDateTime(getShiftMinDate());
-                    totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+                    updateTotalTime();
                     return;
                 }
                 if (endDateBox.getValue().getDay() != endTimePicker.getDateTime().getDay()) {
@@ -555,7 +577,7 @@ public class DateTimeComponent extends Composite {
                 }
             }
         }
-        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+        updateTotalTime();
     }
 
     /**
@@ -571,15 +593,13 @@ public class DateTimeComponent extends Composite {
     private void onStartDateBoxValueChange(SSDate date) {
         startTimePicker.setDate(date);
 
-        endDatePicker.setMinimumDate(getMinEndDate(getShiftMinDate()));
-        endDatePicker.setMaximumDate(getMaxEndDate(getShiftMaxDate()));
+        updateEndDatePickerRange();
 
         endDateBox.setValue(getShiftMinDate());
         endTimePicker.setDateTime(getShiftMinDate());
 
-        endTimePicker.setMinDate(getShiftMinDate());
-        endTimePicker.setMaxDate(getShiftMaxDate());
-        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+        updateEndTimePickerRange();
+        updateTotalTime();
     }
 
     /**
@@ -594,7 +614,7 @@ public class DateTimeComponent extends Composite {
     private void onEndDateBoxValueChange(SSDate date) {
         endTimePicker.setDateTime(getShiftMinDate());
         endTimePicker.setDate(date);
-        totalTime.setText(getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime()));
+        updateTotalTime();
     }
 
     /**
@@ -635,7 +655,8 @@ public class DateTimeComponent extends Composite {
      * @return the shift max date
      */
     private SSDate getShiftMaxDate() {
-        return new SSDate(startTimePicker.getDateTime().getTime() + maxShiftTime);
+        updateShiftSlots();
+        return new SSDate(shiftSlots.getMaxEnd());
     }
 
     /**
@@ -647,49 +668,81 @@ public class DateTimeComponent extends Composite {
      * @return the shift min date
      */
     private SSDate getShiftMinDate() {
-        return new SSDate(startTimePicker.getDateTime().getTime() + minShiftTime);
+        updateShiftSlots();
+        return new SSDate(shiftSlots.getMinEnd());
     }
 
     /**
-     * This function is used to get the max date the date picker is allowed to display for the end date
-     *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since 14 May 2013
-     *
-     * @param startDate - The start date the max date must be calculated from
+     * Sets the selected start time on the shift slots, the end bounds are
+     * only recalculated when the start time changed
      *
-     * @return the max end date
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
      */
-    private SSDate getMaxEndDate(SSDate startDate) {
-        SSDate dMax = startDate;
-        dMax.setHours(23);
-        dMax.setMinutes(45);
-        dMax.setSeconds(00);
-        return dMax;
+    private void updateShiftSlots() {
+        shiftSlots.setStart(startTimePicker.getDateTime().getTime());
     }
 
     /**
-     * This function is used to get the min date the date picker is allowed to display for the end date
+     * Sets the range of the end time picker to the slots the shift can end
+     * on, only the bounds that changed are set
      *
-     * @author Alec Erasmus <alec.erasmus@a24group.com>
-     * @since 14 May 2013
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void updateEndTimePickerRange() {
+        updateShiftSlots();
+        if (endTimePickerMin != shiftSlots.getMinEnd()) {
+            endTimePickerMin = shiftSlots.getMinEnd();
+            endTimePicker.setMinDate(new SSDate(endTimePickerMin));
+        }
+        if (endTimePickerMax != shiftSlots.getMaxEnd()) {
+            endTimePickerMax = shiftSlots.getMaxEnd();
+            endTimePicker.setMaxDate(new SSDate(endTimePickerMax));
+        }
+    }
+
+    /**
+     * Sets the range of the end date picker to the days the shift can end
+     * on. The date picker redraws when a bound is set, so only the bounds
+     * that changed are set.
      *
-     * @param startDate - The start date the min date must be calculated from
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void updateEndDatePickerRange() {
+        updateShiftSlots();
+        SSDate minEndDay = shiftSlots.getMinEndDay();
+        if (endDatePickerMin != minEndDay.getTime()) {
+            endDatePickerMin = minEndDay.getTime();
+            endDatePicker.setMinimumDate(minEndDay);
+        }
+        SSDate maxEndDay = shiftSlots.getMaxEndDay();
+        if (endDatePickerMax != maxEndDay.getTime()) {
+            endDatePickerMax = maxEndDay.getTime();
+            endDatePicker.setMaximumDate(maxEndDay);
+        }
+    }
+
+    /**
+     * Displays the length of the selected shift if it changed
      *
-     * @return the min end date
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
      */
-    private SSDate getMinEndDate(SSDate startDate) {
-        SSDate dMin = startDate;
-        dMin.setHours(0);
-        dMin.setMinutes(0);
-        dMin.setSeconds(0);
-        return dMin;
+    private void updateTotalTime() {
+        String text = getShiftTimeDiff(startTimePicker.getDateTime(), endTimePicker.getDateTime());
+        if (!text.equals(totalTimeText)) {
+            totalTimeText = text;
+            totalTime.setText(text);
+        }
     }
 
     /**
      * Get the total number min and hours of a shift.
      * Note the max date time is 24 hours.
      * If the the diff is 0 is seen as a 24h shift
+     * The labels are built once and cached by the ShiftSlotModel
      *
      * @author Alec Erasmus <alec.erasmus@a24group.com>
      * @since 15 May 2013
@@ -700,38 +753,7 @@ public class DateTimeComponent extends Composite {
      * @return the shift is format "(H.M)"
      */
     public String getShiftTimeDiff(SSDate startDate, SSDate endDate) {
-        boolean reversed = false;
-        if (endDate.getTime() < startDate.getTime() - 1000) {
-            reversed = true;
-        }
-        int shiftTotalHours = (int) (((endDate.getTime() - startDate.getTime()) / (1000 * 60 * 60)));
-        int shiftTotalMin = (int) (((endDate.getTime() - startDate.getTime()) / (1000 * 60)) % 60);
-        if (shiftTotalMin == 59) {
-            shiftTotalMin = 0;
-            shiftTotalHours++;
-        } else if (shiftTotalMin % 15 == 14) {
-            shiftTotalMin++;
-        }
-        int totalMinAndHours = (shiftTotalHours * 60) + shiftTotalMin;
-
-        if (totalMinAndHours >= 1441 || totalMinAndHours <= 1439) {
-            if (endDate.getTime() - startDate.getTime() > 86399000) {
-                shiftTotalHours = 24;
-                totalMinAndHours = 1440;
-                shiftTotalMin = 0;
-            }
-        }
-
-        //check if date difference are a varient of 0.25
-        if (((15 - (shiftTotalMin % 15) < 1)) || (totalMinAndHours > 1440) || reversed) {
-            return "( -err )";
-        }
-
-        if (shiftTotalMin == 0) {
-            return "( " + shiftTotalHours + "h )";
-        }
-        String displayedMinutes = String.valueOf((int)((Math.ceil(shiftTotalMin) / 60) * 100)).replaceAll("0", "");
-        return "( " + shiftTotalHours + "." + displayedMinutes + "h )";
+        return ShiftSlotModel.getDurationLabel(endDate.getTime() - startDate.getTime());
     }
 
     /**
@@ -800,8 +822,7 @@ public class DateTimeComponent extends Composite {
     public void setEndDate(SSDate endDate) {
         endDate.setMinutes(roundUpTime(endDate.getMinutes()));
         endDate.setSeconds(0);
-        endDatePicker.setMinimumDate(getMinEndDate(getShiftMinDate()));
-        endDatePicker.setMaximumDate(getMaxEndDate(getShiftMaxDate()));
+        updateEndDatePickerRange();
         this.endDateManuallySet = true;
         this.endDateTimeManuallySet= true;
         this.lastEndDate = lastEndDate;
@@ -0,0 +1,319 @@
+package org.ssgwt.client.ui.datecomponents;
+
+import org.ssgwt.client.i18n.SSDate;
+
+/**
+ * The quarter hour slots a shift can end on for a start time. The end
+ * bounds are calculated once when the start changes and the duration labels
+ * of the end slots are calculated once when the model is created, so the
+ * DateTimeComponent does not recalculate them every time a picker changes.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ShiftSlotModel {
+
+    /**
+     * The length of a slot in milliseconds
+     */
+    public static final long SLOT_LENGTH = 15 * 60 * 1000;
+
+    /**
+     * The label displayed for a shift that ends before it starts or is longer than a day
+     */
+    public static final String ERROR_LABEL = "( -err )";
+
+    /**
+     * The number of minutes in a day, the longest duration that has a label
+     */
+    private static final int MINUTES_IN_DAY = 24 * 60;
+
+    /**
+     * The duration labels that were built, indexed on the number of minutes
+     */
+    private static final String[] durationLabels = new String[MINUTES_IN_DAY + 1];
+
+    /**
+     * The shortest shift in milliseconds
+     */
+    private final long minShiftTime;
+
+    /**
+     * The longest shift in milliseconds
+     */
+    private final long maxShiftTime;
+
+    /**
+     * The duration labels of the end slots
+     */
+    private final String[] endSlotLabels;
+
+    /**
+     * Whether a start was set
+     */
+    private boolean startSet = false;
+
+    /**
+     * The start of the shift in milliseconds
+     */
+    private long start;
+
+    /**
+     * The first slot the shift can end on
+     */
+    private long minEnd;
+
+    /**
+     * The last slot the shift can end on
+     */
+    private long maxEnd;
+
+    /**
+     * The first day the shift can end on at 00:00
+     */
+    private SSDate minEndDay;
+
+    /**
+     * The last day the shift can end on at 23:45
+     */
+    private SSDate maxEndDay;
+
+    /**
+     * Class constructor
+     *
+     * @param minShiftTime - The shortest shift in milliseconds
+     * @param maxShiftTime - The longest shift in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public ShiftSlotModel(long minShiftTime, long maxShiftTime) {
+        this.minShiftTime = minShiftTime;
+        this.maxShiftTime = Math.max(minShiftTime, maxShiftTime);
+        this.endSlotLabels = new String[(int) ((this.maxShiftTime - minShiftTime) / SLOT_LENGTH) + 1];
+        for (int i = 0; i < endSlotLabels.length; i++) {
+            endSlotLabels[i] = getDurationLabel(minShiftTime + i * SLOT_LENGTH);
+        }
+    }
+
+    /**
+     * Sets the start of the shift. The end bounds are only recalculated if
+     * the start changed.
+     *
+     * @param start - The start of the shift in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the start changed
+     */
+    public boolean setStart(long start) {
+        if (startSet && start == this.start) {
+            return false;
+        }
+        this.startSet = true;
+        this.start = start;
+        this.minEnd = start + minShiftTime;
+        this.maxEnd = start + maxShiftTime;
+        this.minEndDay = null;
+        this.maxEndDay = null;
+        return true;
+    }
+
+    /**
+     * Retrieves the start of the shift
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The start in milliseconds
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Retrieves the first slot the shift can end on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The end in milliseconds
+     */
+    public long getMinEnd() {
+        return minEnd;
+    }
+
+    /**
+     * Retrieves the last slot the shift can end on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The end in milliseconds
+     */
+    public long getMaxEnd() {
+        return maxEnd;
+    }
+
+    /**
+     * Retrieves the first day the shift can end on, used as the minimum
+     * date of the end date picker
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The day at 00:00
+     */
+    public SSDate getMinEndDay() {
+        if (minEndDay == null) {
+            minEndDay = new SSDate(minEnd);
+            minEndDay.setHours(0);
+            minEndDay.setMinutes(0);
+            minEndDay.setSeconds(0);
+        }
+        return minEndDay.clone();
+    }
+
+    /**
+     * Retrieves the last day the shift can end on, used as the maximum
+     * date of the end date picker
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The day at 23:45
+     */
+    public SSDate getMaxEndDay() {
+        if (maxEndDay == null) {
+            maxEndDay = new SSDate(maxEnd);
+            maxEndDay.setHours(23);
+            maxEndDay.setMinutes(45);
+            maxEndDay.setSeconds(0);
+        }
+        return maxEndDay.clone();
+    }
+
+    /**
+     * Retrieves the number of slots the shift can end on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of end slots
+     */
+    public int getEndSlotCount() {
+        return endSlotLabels.length;
+    }
+
+    /**
+     * Retrieves a slot the shift can end on
+     *
+     * @param index - The index of the slot, 0 for the first slot
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The end in milliseconds
+     */
+    public long getEndSlot(int index) {
+        return minEnd + index * SLOT_LENGTH;
+    }
+
+    /**
+     * Retrieves the duration label of a slot the shift can end on
+     *
+     * @param index - The index of the slot, 0 for the first slot
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The label in the format "( H.M )"
+     */
+    public String getEndSlotLabel(int index) {
+        return endSlotLabels[index];
+    }
+
+    /**
+     * Retrieves the index of the slot an end falls on
+     *
+     * @param end - The end in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The index of the slot or -1 if the shift can not end there
+     */
+    public int getEndSlotIndex(long end) {
+        if (end < minEnd || end > maxEnd || (end - minEnd) % SLOT_LENGTH != 0) {
+            return -1;
+        }
+        return (int) ((end - minEnd) / SLOT_LENGTH);
+    }
+
+    /**
+     * Retrieves the label of a shift duration. Durations within a minute of
+     * a quarter hour are rounded up to it and shifts longer than a day less
+     * a second are displayed as 24 hours. The labels are built once for each
+     * number of minutes.
+     *
+     * @param duration - The duration of the shift in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The label in the format "( H.M )" or ERROR_LABEL for a shift that ends before it starts
+     */
+    public static String getDurationLabel(long duration) {
+        if (duration < -1000) {
+            return ERROR_LABEL;
+        }
+        int hours = (int) (duration / (1000 * 60 * 60));
+        int minutes = (int) ((duration / (1000 * 60)) % 60);
+        if (minutes == 59) {
+            minutes = 0;
+            hours++;
+        } else if (minutes % 15 == 14) {
+            minutes++;
+        }
+        int totalMinutes = hours * 60 + minutes;
+        if (totalMinutes != MINUTES_IN_DAY && duration > 86399000) {
+            hours = 24;
+            minutes = 0;
+            totalMinutes = MINUTES_IN_DAY;
+        }
+        String label = durationLabels[totalMinutes];
+        if (label == null) {
+            label = buildDurationLabel(hours, minutes);
+            durationLabels[totalMinutes] = label;
+        }
+        return label;
+    }
+
+    /**
+     * Builds the label of a shift duration. The minutes are displayed as the
+     * hundredths of an hour with the zeros removed, so 30 minutes is
+     * displayed as ".5" and 45 minutes as ".75".
+     *
+     * @param hours - The number of hours
+     * @param minutes - The number of minutes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The label
+     */
+    private static String buildDurationLabel(int hours, int minutes) {
+        if (minutes == 0) {
+            return "( " + hours + "h )";
+        }
+        String hundredths = String.valueOf((int) (((double) minutes / 60) * 100));
+        StringBuilder label = new StringBuilder("( ").append(hours).append('.');
+        for (int i = 0; i < hundredths.length(); i++) {
+            if (hundredths.charAt(i) != '0') {
+                label.append(hundredths.charAt(i));
+            }
+        }
+        return label.append("h )").toString();
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datepicker;
+
+import java.util.HashMap;
+
+import org.ssgwt.client.i18n.SSDate;
+
+/**
+ * The layout of the days displayed by a calendar view for a month. The
+ * layouts are computed once per month and shared by all the calendar views,
+ * so navigating between months does not walk the dates of the grid again.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+@SuppressWarnings(/* Date manipulation required */{"deprecation"})
+final class CalendarMonthLayout {
+
+    /**
+     * The number of cells in the calendar grid
+     */
+    static final int NUM_CELLS = CalendarModel.WEEKS_IN_MONTH * CalendarModel.DAYS_IN_WEEK;
+
+    /**
+     * The maximum number of layouts kept in the cache
+     */
+    private static final int MAX_CACHED_LAYOUTS = 120;
+
+    /**
+     * The cached layouts keyed on the year and month
+     */
+    private static final HashMap<Integer, CalendarMonthLayout> LAYOUTS = new HashMap<Integer, CalendarMonthLayout>();
+
+    /**
+     * The time of the date displayed in each cell
+     */
+    private final long[] times = new long[NUM_CELLS];
+
+    /**
+     * The day of the month displayed in each cell
+     */
+    private final int[] daysOfMonth = new int[NUM_CELLS];
+
+    /**
+     * Whether each cell displays a day outside of the month
+     */
+    private final boolean[] fillers = new boolean[NUM_CELLS];
+
+    /**
+     * Retrieves the layout of the month the model is currently displaying
+     *
+     * @param model - The model of the calendar view
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The layout of the current month
+     */
+    static CalendarMonthLayout get(CalendarModel model) {
+        SSDate currentMonth = model.getCurrentMonth();
+        Integer key = Integer.valueOf(currentMonth.getYear() * 12 + currentMonth.getMonth());
+        CalendarMonthLayout layout = LAYOUTS.get(key);
+        if (layout == null) {
+            if (LAYOUTS.size() >= MAX_CACHED_LAYOUTS) {
+                LAYOUTS.clear();
+            }
+            layout = new CalendarMonthLayout(model.getCurrentFirstDayOfFirstWeek(), currentMonth.getMonth());
+            LAYOUTS.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param firstDayOfFirstWeek - The first day of the week the month starts in
+     * @param month - The month the layout is for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private CalendarMonthLayout(SSDate firstDayOfFirstWeek, int month) {
+        SSDate date = firstDayOfFirstWeek;
+        if (date.getDate() == 1) {
+            // show one empty week if the month starts on the first day of the week
+            CalendarUtil.addDaysToDate(date, -CalendarModel.DAYS_IN_WEEK);
+        }
+        for (int i = 0; i < NUM_CELLS; i++) {
+            if (i != 0) {
+                CalendarUtil.addDaysToDate(date, 1);
+            }
+            times[i] = date.getTime();
+            daysOfMonth[i] = date.getDate();
+            fillers[i] = date.getMonth() != month;
+        }
+    }
+
+    /**
+     * Retrieves the time of the date displayed in a cell
+     *
+     * @param index - The index of the cell
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The time of the date
+     */
+    long getTime(int index) {
+        return times[index];
+    }
+
+    /**
+     * Retrieves the day of the month displayed in a cell
+     *
+     * @param index - The index of the cell
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The day of the month
+     */
+    int getDayOfMonth(int index) {
+        return daysOfMonth[index];
+    }
+
+    /**
+     * Whether a cell displays a day outside of the month
+     *
+     * @param index - The index of the cell
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the day is not in the month
+     */
+    boolean isFiller(int index) {
+        return fillers[index];
+    }
+
+    /**
+     * Whether the date displayed in a cell falls in a range of dates
+     *
+     * @param index - The index of the cell
+     * @param minimumDate - The minimum date of the range
+     * @param maximumDate - The maximum date of the range
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the date is in the range
+     */
+    boolean isInRange(int index, SSDate minimumDate, SSDate maximumDate) {
+        return times[index] >= minimumDate.getTime() && times[index] <= maximumDate.getTime();
+    }
+}
@@ -362,4 +362,16 @@ public class ComboBoxMonthSelector extends MonthSelector {
         populateMonthListBox();
         populateYearListBox();
     }
+
+    /**
+     * Setter for both the minimum and maximum date, the list boxes are only
+     * populated once.
+     *
+     * @param minimumDate The new minimum date
+     * @param maximumDate The new maximum date
+     */
+    public void setDateRange(SSDate minimumDate, SSDate maximumDate) {
+        this.minimumDate = minimumDate;
+        setMaximumDate(maximumDate);
+    }
 }
@@ -250,7 +250,54 @@ public class DateBox extends Composite implements HasValue<SSDate>,
     private static final DefaultFormat DEFAULT_FORMAT = GWT.create(DefaultFormat.class);
     private final PopupPanel popup;
     private final TextBox box = new TextBox();
-    private final DatePicker picker;
+    private DatePicker picker;
+
+    /**
+     * The pool the date picker is borrowed from, null if the date box has its
+     * own date picker
+     */
+    private final DatePickerPool pool;
+
+    /**
+     * The value of a pooled date box while it has not borrowed a date picker
+     */
+    private SSDate value;
+
+    /**
+     * The minimum date that can be chosen on a pooled date picker
+     */
+    private SSDate minimumDate;
+
+    /**
+     * The maximum date that can be chosen on a pooled date picker
+     */
+    private SSDate maximumDate;
+
+    /**
+     * The style name of a pooled date picker
+     */
+    private String datePickerStyleName = DatePicker.StandardCss.DEFAULT.getWidgetStyleName();
+
+    /**
+     * The date styles of a pooled date picker, kept by the date box so they
+     * can be changed while no date picker is borrowed
+     */
+    private DateStyleStore dateStyles;
+
+    /**
+     * Whether the style of today's date was added to the date styles
+     */
+    private boolean todayStyleAdded;
+
+    /**
+     * The handler of the value changes of a pooled date picker
+     */
+    private ValueChangeHandler<SSDate> pickerValueChangeHandler;
+
+    /**
+     * The registration of the value change handler on the borrowed date picker
+     */
+    private HandlerRegistration pickerValueChangeRegistration;
     private LeafValueEditor<SSDate> editor;
     private Format format;
     private boolean allowDPShow = true;
@@ -286,13 +333,67 @@ public class DateBox extends Composite implements HasValue<SSDate>,
      * @since 18 July 2012
      */
     protected DateBox(DatePicker picker, SSDate date, Format format, boolean addHandlers) {
+        this(picker, null, date, format, addHandlers);
+    }
+
+    /**
+     * Create a new date box that borrows its date picker from a pool when the
+     * date picker is shown.
+     *
+     * @param pool the pool to borrow the date picker from
+     * @param date the default date.
+     * @param format to use to parse and format dates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public DateBox(DatePickerPool pool, SSDate date, Format format) {
+        this(pool, date, format, true);
+    }
+
+    /**
+     * Create a new date box that borrows its date picker from a pool when the
+     * date picker is shown.
+     *
+     * @param pool the pool to borrow the date picker from
+     * @param date the default date.
+     * @param format to use to parse and format dates
+     * @param addHandlers indicating whether a default handler should be added or not
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    protected DateBox(DatePickerPool pool, SSDate date, Format format, boolean addHandlers) {
+        this(null, pool, date, format, addHandlers);
+    }
+
+    /**
+     * Create a new date box with either its own date picker or a pool to
+     * borrow the date picker from.
+     *
+     * @param picker the picker to drop down from the date box
+     * @param pool the pool to borrow the date picker from
+     * @param date the default date.
+     * @param format to use to parse and format dates
+     * @param addHandlers indicating whether a default handler should be added or not
+     */
+    private DateBox(DatePicker picker, DatePickerPool pool, SSDate date, Format format, boolean addHandlers) {
         this.picker = picker;
+        this.pool = pool;
         this.popup = new PopupPanel(true);
         assert format != null : "You may not construct a date box with a null format";
         this.format = format;
 
         popup.addAutoHidePartner(box.getElement());
-        popup.setWidget(picker);
+        if (pool == null) {
+            popup.setWidget(picker);
+        } else {
+            popup.addCloseHandler(new CloseHandler<PopupPanel>() {
+                public void onClose(CloseEvent<PopupPanel> event) {
+                    releaseDatePicker();
+                }
+            });
+        }
         popup.setStyleName("dateBoxPopup");
 
         initWidget(box);
@@ -310,7 +411,11 @@ public class DateBox extends Composite implements HasValue<SSDate>,
      * @param handler to use in on the object
      */
     protected void addHandlers(DateBoxHandler handler) {
-        picker.addValueChangeHandler(handler);
+        if (pool == null) {
+            picker.addValueChangeHandler(handler);
+        } else {
+            pickerValueChangeHandler = handler;
+        }
         box.addFocusHandler(handler);
         box.addBlurHandler(handler);
         box.addClickHandler(handler);
@@ -345,8 +450,18 @@ public class DateBox extends Composite implements HasValue<SSDate>,
 
     /**
      * Gets the date picker.
+     * <p>
+     * A date box that borrows its date picker from a {@link DatePickerPool}
+     * only has a date picker while the popup is showing, so this returns
+     * null for a pooled date box whenever the popup is closed. Changes made
+     * to a borrowed date picker apply to every date box that borrows it
+     * later. Use the date box's own methods, such as
+     * {@link #addStyleToDates(String, SSDate)}, {@link #setMinimumDate(SSDate)}
+     * and {@link #setDatePickerStyleName(String)}, to configure the date
+     * picker of a pooled date box.
+     * </p>
      *
-     * @return the date picker
+     * @return the date picker, or null if no date picker is borrowed
      */
     public DatePicker getDatePicker() {
         return picker;
@@ -476,7 +591,154 @@ public class DateBox extends Composite implements HasValue<SSDate>,
     }
 
     public void setValue(SSDate date, boolean fireEvents) {
-        setValue(picker.getValue(), date, fireEvents);
+        setValue(getPickerValue(), date, fireEvents);
+    }
+
+    /**
+     * Sets the minimum date that can be chosen on the date picker.
+     *
+     * @param minimumDate the minimum date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMinimumDate(SSDate minimumDate) {
+        this.minimumDate = minimumDate;
+        if (picker instanceof SSDatePicker) {
+            ((SSDatePicker) picker).setMinimumDate(minimumDate);
+        }
+    }
+
+    /**
+     * Sets the maximum date that can be chosen on the date picker.
+     *
+     * @param maximumDate the maximum date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMaximumDate(SSDate maximumDate) {
+        this.maximumDate = maximumDate;
+        if (picker instanceof SSDatePicker) {
+            ((SSDatePicker) picker).setMaximumDate(maximumDate);
+        }
+    }
+
+    /**
+     * Sets the style name of the date picker.
+     *
+     * @param styleName the style name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setDatePickerStyleName(String styleName) {
+        this.datePickerStyleName = styleName;
+        if (picker != null) {
+            picker.setStyleName(styleName);
+        }
+    }
+
+    /**
+     * Adds a style name to the given date. The style is kept by the date box
+     * if it borrows its date picker from a pool, so it can be added while the
+     * date picker is not showing.
+     *
+     * @param styleName the style name
+     * @param date the date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addStyleToDates(String styleName, SSDate date) {
+        if (picker != null) {
+            picker.addStyleToDates(styleName, date);
+        } else {
+            getDateStyles().setStyleName(date, styleName, true);
+        }
+    }
+
+    /**
+     * Adds a style name to the given dates.
+     *
+     * @param styleName the style name
+     * @param dates the dates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addStyleToDates(String styleName, Iterable<SSDate> dates) {
+        for (SSDate date : dates) {
+            addStyleToDates(styleName, date);
+        }
+    }
+
+    /**
+     * Adds a style name to every date from start to end, both inclusive.
+     *
+     * @param styleName the style name
+     * @param start the first date of the range
+     * @param end the last date of the range
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addStyleToDateRange(String styleName, SSDate start, SSDate end) {
+        if (picker != null) {
+            picker.addStyleToDateRange(styleName, start, end);
+        } else {
+            getDateStyles().setStyleNameOnRange(start, end, styleName, true);
+        }
+    }
+
+    /**
+     * Removes a style name from the given date.
+     *
+     * @param styleName the style name
+     * @param date the date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void removeStyleFromDates(String styleName, SSDate date) {
+        if (picker != null) {
+            picker.removeStyleFromDates(styleName, date);
+        } else {
+            getDateStyles().setStyleName(date, styleName, false);
+        }
+    }
+
+    /**
+     * Removes a style name from the given dates.
+     *
+     * @param styleName the style name
+     * @param dates the dates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void removeStyleFromDates(String styleName, Iterable<SSDate> dates) {
+        for (SSDate date : dates) {
+            removeStyleFromDates(styleName, date);
+        }
+    }
+
+    /**
+     * Removes a style name from every date from start to end, both inclusive.
+     *
+     * @param styleName the style name
+     * @param start the first date of the range
+     * @param end the last date of the range
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void removeStyleFromDateRange(String styleName, SSDate start, SSDate end) {
+        if (picker != null) {
+            picker.removeStyleFromDateRange(styleName, start, end);
+        } else {
+            getDateStyles().setStyleNameOnRange(start, end, styleName, false);
+        }
     }
 
     /**
@@ -493,6 +755,9 @@ public class DateBox extends Composite implements HasValue<SSDate>,
      * @param parseDate Whether to parse the date or not.
      */
     public void showDatePicker(boolean parseDate) {
+        if (picker == null) {
+            borrowDatePicker();
+        }
         if (parseDate) {
             SSDate current = parseDate(false);
             if (current == null) {
@@ -503,6 +768,69 @@ public class DateBox extends Composite implements HasValue<SSDate>,
         popup.showRelativeTo(this);
     }
 
+    /**
+     * Borrows a date picker from the pool and applies the minimum and maximum
+     * date, style name, date styles and value of this date box to it.
+     */
+    private void borrowDatePicker() {
+        SSDatePicker borrowed = pool.borrow();
+        borrowed.setDateRange(minimumDate, maximumDate);
+        borrowed.setStyleName(datePickerStyleName);
+        if (!todayStyleAdded) {
+            borrowed.addTodayStyle(getDateStyles());
+            todayStyleAdded = true;
+        }
+        borrowed.setDateStyleStore(dateStyles);
+        borrowed.setValue(value, false);
+        borrowed.setCurrentMonth(value != null ? value : new SSDate());
+        if (pickerValueChangeHandler != null) {
+            pickerValueChangeRegistration = borrowed.addValueChangeHandler(pickerValueChangeHandler);
+        }
+        picker = borrowed;
+        popup.setWidget(borrowed);
+    }
+
+    /**
+     * Gets the date styles of a pooled date picker, creating them if needed.
+     *
+     * @return the date styles
+     */
+    private DateStyleStore getDateStyles() {
+        if (dateStyles == null) {
+            dateStyles = new DateStyleStore();
+        }
+        return dateStyles;
+    }
+
+    /**
+     * Returns the borrowed date picker to the pool.
+     */
+    private void releaseDatePicker() {
+        if (picker == null) {
+            return;
+        }
+        if (pickerValueChangeRegistration != null) {
+            pickerValueChangeRegistration.removeHandler();
+            pickerValueChangeRegistration = null;
+        }
+        popup.clear();
+        pool.release((SSDatePicker) picker);
+        picker = null;
+    }
+
+    /**
+     * Gets the value of the date picker, or the value of the date box if it
+     * has not borrowed a date picker.
+     *
+     * @return the value
+     */
+    private SSDate getPickerValue() {
+        if (picker == null) {
+            return CalendarUtil.copyDate(value);
+        }
+        return picker.getValue();
+    }
+
     private SSDate parseDate(boolean reportError) {
         if (reportError) {
             getFormat().reset(this, false);
@@ -521,10 +849,13 @@ public class DateBox extends Composite implements HasValue<SSDate>,
     }
 
     private void setValue(SSDate oldDate, SSDate date, boolean fireEvents) {
-        if (date != null) {
-            picker.setCurrentMonth(date);
+        value = CalendarUtil.copyDate(date);
+        if (picker != null) {
+            if (date != null) {
+                picker.setCurrentMonth(date);
+            }
+            picker.setValue(date, false);
         }
-        picker.setValue(date, false);
         format.reset(this, false);
         box.setText(getFormat().format(this, date));
 
@@ -536,7 +867,7 @@ public class DateBox extends Composite implements HasValue<SSDate>,
     private void updateDateFromTextBox() {
         SSDate parsedDate = parseDate(true);
         if (parsedDate != null) {
-            setValue(picker.getValue(), parsedDate, true);
+            setValue(getPickerValue(), parsedDate, true);
         }
     }
 }
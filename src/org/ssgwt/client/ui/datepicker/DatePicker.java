@@ -16,9 +16,6 @@
 
 package org.ssgwt.client.ui.datepicker;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.ssgwt.client.i18n.SSDate;
 
 import com.google.gwt.editor.client.IsEditor;
@@ -212,45 +209,7 @@ public class DatePicker extends Composite implements
         }
     }
 
-    private static class DateStyler {
-        private Map<String, String> info = new HashMap<String, String>();
-
-        public String getStyleName(SSDate d) {
-            return info.get(genKey(d));
-        }
-
-        public void setStyleName(SSDate d, String styleName, boolean add) {
-            // Code is easier to maintain if surrounded by " ", and on all browsers
-            // this is a no-op.
-            styleName = " " + styleName + " ";
-            String key = genKey(d);
-            String current = info.get(key);
-
-            if (add) {
-                if (current == null) {
-                    info.put(key, styleName);
-                } else if (current.indexOf(styleName) == -1) {
-                    info.put(key, current + styleName);
-                }
-            } else {
-                if (current != null) {
-                    String newValue = current.replaceAll(styleName, "");
-                    if (newValue.trim().length() == 0) {
-                        info.remove(key);
-                    } else {
-                        info.put(key, newValue);
-                    }
-                }
-            }
-        }
-
-        @SuppressWarnings("deprecation")
-        private String genKey(SSDate d) {
-            return d.getYear() + "/" + d.getMonth() + "/" + d.getDate();
-        }
-    }
-
-    private final DateStyler styler = new DateStyler();
+    private DateStyleStore styler = new DateStyleStore();
 
     private final MonthSelector monthSelector;
     private final CalendarView view;
@@ -346,6 +305,15 @@ public class DatePicker extends Composite implements
         }
     }
 
+    /**
+     * Add a style name to every date from start to end, both inclusive. The
+     * range is stored as an interval instead of an entry per date.
+     */
+    public void addStyleToDateRange(String styleName, SSDate start, SSDate end) {
+        styler.setStyleNameOnRange(start, end, styleName, true);
+        setStyleOnVisibleDates(styleName, start, end, true);
+    }
+
     /**
      * Adds the given style name to the specified dates, which must be visible.
      * This is only set until the next time the DatePicker is refreshed.
@@ -517,6 +485,15 @@ public class DatePicker extends Composite implements
         }
     }
 
+    /**
+     * Removes the styleName from every date from start to end, both
+     * inclusive, whether it was added to the dates one by one or as a range.
+     */
+    public void removeStyleFromDateRange(String styleName, SSDate start, SSDate end) {
+        styler.setStyleNameOnRange(start, end, styleName, false);
+        setStyleOnVisibleDates(styleName, start, end, false);
+    }
+
     /**
      * Sets the date picker to show the given month, use {@link #getFirstDate()}
      * and {@link #getLastDate()} to access the exact date range the date picker
@@ -681,4 +658,54 @@ public class DatePicker extends Composite implements
         this.highlighted = highlighted;
         fireEvent(new DateHighlightEvent(highlighted));
     }
+
+    /**
+     * Adds the style of today's date to a date style store. Used by date boxes
+     * that borrow the date picker from a {@link DatePickerPool} to keep their
+     * own date styles.
+     *
+     * @param store the date style store
+     */
+    void addTodayStyle(DateStyleStore store) {
+        store.setStyleName(new SSDate(), css().dayIsToday(), true);
+    }
+
+    /**
+     * Sets the store the date styles are kept in. The view is updated the next
+     * time the date picker is refreshed.
+     *
+     * @param store the date style store
+     */
+    void setDateStyleStore(DateStyleStore store) {
+        styler = store;
+    }
+
+    /**
+     * Adds or removes a style on the visible dates that fall in a range.
+     *
+     * @param styleName the style name
+     * @param start the first date of the range
+     * @param end the last date of the range
+     * @param add whether to add or remove the style
+     */
+    private void setStyleOnVisibleDates(String styleName, SSDate start, SSDate end, boolean add) {
+        SSDate first = getView().getFirstDate();
+        SSDate last = getView().getLastDate();
+        if (first == null || last == null) {
+            return;
+        }
+        SSDate current = CalendarUtil.copyDate(first);
+        int lastDay = Math.min(DateStyleStore.getDayNumber(end), DateStyleStore.getDayNumber(last));
+        int startDay = DateStyleStore.getDayNumber(start);
+        for (int day = DateStyleStore.getDayNumber(first); day <= lastDay; day++) {
+            if (day >= startDay) {
+                if (add) {
+                    getView().addStyleToDate(styleName, current);
+                } else {
+                    getView().removeStyleFromDate(styleName, current);
+                }
+            }
+            CalendarUtil.addDaysToDate(current, 1);
+        }
+    }
 }
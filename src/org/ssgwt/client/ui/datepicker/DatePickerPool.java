@@ -0,0 +1,108 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datepicker;
+
+import java.util.ArrayList;
+
+/**
+ * A pool of date pickers shared by date boxes. A date box created with a pool
+ * borrows a date picker when its popup opens and returns it when the popup
+ * closes, so a page with many date boxes only holds as many date pickers as
+ * are open at the same time.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class DatePickerPool {
+
+    /**
+     * The pool shared by the whole application
+     */
+    private static DatePickerPool sharedPool;
+
+    /**
+     * The date pickers that are not borrowed by a date box
+     */
+    private final ArrayList<SSDatePicker> idlePickers = new ArrayList<SSDatePicker>();
+
+    /**
+     * Retrieves the pool shared by the whole application
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The shared pool
+     */
+    public static DatePickerPool getSharedPool() {
+        if (sharedPool == null) {
+            sharedPool = new DatePickerPool();
+        }
+        return sharedPool;
+    }
+
+    /**
+     * Borrows a date picker from the pool, a new date picker is created if
+     * all the date pickers are borrowed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The date picker
+     */
+    public SSDatePicker borrow() {
+        if (idlePickers.isEmpty()) {
+            return createDatePicker();
+        }
+        return idlePickers.remove(idlePickers.size() - 1);
+    }
+
+    /**
+     * Returns a borrowed date picker to the pool
+     *
+     * @param picker - The date picker to return
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void release(SSDatePicker picker) {
+        if (picker != null && !idlePickers.contains(picker)) {
+            idlePickers.add(picker);
+        }
+    }
+
+    /**
+     * Retrieves the number of date pickers that are not borrowed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of idle date pickers
+     */
+    public int getIdleCount() {
+        return idlePickers.size();
+    }
+
+    /**
+     * Creates a date picker for the pool. Can be overridden to create date
+     * pickers with custom month selector images.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The new date picker
+     */
+    protected SSDatePicker createDatePicker() {
+        return new SSDatePicker();
+    }
+}
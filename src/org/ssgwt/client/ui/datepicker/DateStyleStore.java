@@ -0,0 +1,446 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datepicker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.ssgwt.client.i18n.SSDate;
+
+/**
+ * Stores the styles of the dates of a date picker. Dates are keyed on their
+ * day number and the styles of a day are held as a bitset of interned style
+ * ids. Styles added to a range of dates are stored as intervals instead of an
+ * entry per day.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+class DateStyleStore {
+
+    /**
+     * The number of style ids held by a word of a bitset
+     */
+    private static final int BITS_PER_WORD = 32;
+
+    /**
+     * The ids of the interned style names
+     */
+    private final HashMap<String, Integer> styleIds = new HashMap<String, Integer>();
+
+    /**
+     * The interned style names, indexed on the style id
+     */
+    private final ArrayList<String> styleNames = new ArrayList<String>();
+
+    /**
+     * The bitsets of the styles added to single days, keyed on the day number
+     */
+    private final HashMap<Integer, int[]> dayStyles = new HashMap<Integer, int[]>();
+
+    /**
+     * The ranges of days each style was added to, indexed on the style id
+     */
+    private final ArrayList<DayRangeSet> styleRanges = new ArrayList<DayRangeSet>();
+
+    /**
+     * A sorted set of disjoint ranges of day numbers
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    static class DayRangeSet {
+
+        /**
+         * The first day of each range
+         */
+        private int[] starts = new int[4];
+
+        /**
+         * The last day of each range
+         */
+        private int[] ends = new int[4];
+
+        /**
+         * The number of ranges in the set
+         */
+        private int size;
+
+        /**
+         * Adds a range of days to the set, merging it with the ranges it
+         * overlaps or touches
+         *
+         * @param start - The first day of the range
+         * @param end - The last day of the range
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void add(int start, int end) {
+            int first = indexOfEndFrom(start - 1);
+            int last = first;
+            while (last < size && starts[last] <= end + 1) {
+                last++;
+            }
+            if (first < last) {
+                start = Math.min(start, starts[first]);
+                end = Math.max(end, ends[last - 1]);
+            }
+            replace(first, last, new int[] {start, end});
+        }
+
+        /**
+         * Removes a range of days from the set, splitting the ranges that
+         * extend past it
+         *
+         * @param start - The first day of the range
+         * @param end - The last day of the range
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void remove(int start, int end) {
+            int first = indexOfEndFrom(start);
+            int last = first;
+            while (last < size && starts[last] <= end) {
+                last++;
+            }
+            if (first == last) {
+                return;
+            }
+            int[] pieces = new int[4];
+            int pieceCount = 0;
+            if (starts[first] < start) {
+                pieces[pieceCount++] = starts[first];
+                pieces[pieceCount++] = start - 1;
+            }
+            if (ends[last - 1] > end) {
+                pieces[pieceCount++] = end + 1;
+                pieces[pieceCount++] = ends[last - 1];
+            }
+            int[] replacement = new int[pieceCount];
+            System.arraycopy(pieces, 0, replacement, 0, pieceCount);
+            replace(first, last, replacement);
+        }
+
+        /**
+         * Whether the set contains a day
+         *
+         * @param day - The day number
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if a range in the set contains the day
+         */
+        boolean contains(int day) {
+            int index = indexOfEndFrom(day);
+            return index < size && starts[index] <= day;
+        }
+
+        /**
+         * Whether the set is empty
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the set holds no ranges
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Retrieves the index of the first range that ends on or after a day
+         *
+         * @param day - The day number
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The index of the range, or the size of the set if there is none
+         */
+        private int indexOfEndFrom(int day) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ends[middle] < day) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Replaces the ranges from first (inclusive) to last (exclusive) with
+         * the ranges held as start and end pairs in the replacement
+         *
+         * @param first - The index of the first range to replace
+         * @param last - The index after the last range to replace
+         * @param replacement - The start and end pairs of the new ranges
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        private void replace(int first, int last, int[] replacement) {
+            int count = replacement.length / 2;
+            int newSize = size - (last - first) + count;
+            if (newSize > starts.length) {
+                int capacity = Math.max(newSize, starts.length * 2);
+                int[] newStarts = new int[capacity];
+                int[] newEnds = new int[capacity];
+                System.arraycopy(starts, 0, newStarts, 0, size);
+                System.arraycopy(ends, 0, newEnds, 0, size);
+                starts = newStarts;
+                ends = newEnds;
+            }
+            System.arraycopy(starts, last, starts, first + count, size - last);
+            System.arraycopy(ends, last, ends, first + count, size - last);
+            for (int i = 0; i < count; i++) {
+                starts[first + i] = replacement[i * 2];
+                ends[first + i] = replacement[i * 2 + 1];
+            }
+            size = newSize;
+        }
+    }
+
+    /**
+     * Retrieves the day number of a date, the number of days since 1 January 1970
+     *
+     * @param date - The date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The day number
+     */
+    @SuppressWarnings("deprecation")
+    static int getDayNumber(SSDate date) {
+        int year = date.getYear() + 1900;
+        int month = date.getMonth() + 1;
+        if (month <= 2) {
+            year--;
+        }
+        int era = (year >= 0 ? year : year - 399) / 400;
+        int yearOfEra = year - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + date.getDate() - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Retrieves the style names of a date
+     *
+     * @param date - The date
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The style names separated and surrounded by spaces, or null if the date has no styles
+     */
+    String getStyleName(SSDate date) {
+        int day = getDayNumber(date);
+        int[] bits = dayStyles.get(day);
+        StringBuilder styleName = null;
+        for (int styleId = 0; styleId < styleNames.size(); styleId++) {
+            DayRangeSet ranges = styleRanges.get(styleId);
+            if (isSet(bits, styleId) || (ranges != null && ranges.contains(day))) {
+                if (styleName == null) {
+                    styleName = new StringBuilder(" ");
+                }
+                styleName.append(styleNames.get(styleId)).append(' ');
+            }
+        }
+        return styleName == null ? null : styleName.toString();
+    }
+
+    /**
+     * Adds or removes a style on a date
+     *
+     * @param date - The date
+     * @param styleName - The style name
+     * @param add - true to add the style, false to remove it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setStyleName(SSDate date, String styleName, boolean add) {
+        int day = getDayNumber(date);
+        if (add) {
+            int styleId = getStyleId(styleName);
+            int[] bits = dayStyles.get(day);
+            int word = styleId / BITS_PER_WORD;
+            if (bits == null || bits.length <= word) {
+                int[] newBits = new int[word + 1];
+                if (bits != null) {
+                    System.arraycopy(bits, 0, newBits, 0, bits.length);
+                }
+                bits = newBits;
+                dayStyles.put(day, bits);
+            }
+            bits[word] |= 1 << (styleId % BITS_PER_WORD);
+        } else {
+            Integer styleId = styleIds.get(styleName);
+            if (styleId != null) {
+                clearStyle(day, styleId);
+                removeRange(styleId, day, day);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes a style on every date from start to end, both inclusive.
+     * Added ranges are stored as intervals, removing a range also removes the
+     * style from the single dates in it.
+     *
+     * @param start - The first date of the range
+     * @param end - The last date of the range
+     * @param styleName - The style name
+     * @param add - true to add the style, false to remove it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setStyleNameOnRange(SSDate start, SSDate end, String styleName, boolean add) {
+        int startDay = getDayNumber(start);
+        int endDay = getDayNumber(end);
+        if (startDay > endDay) {
+            return;
+        }
+        if (add) {
+            int styleId = getStyleId(styleName);
+            DayRangeSet ranges = styleRanges.get(styleId);
+            if (ranges == null) {
+                ranges = new DayRangeSet();
+                styleRanges.set(styleId, ranges);
+            }
+            ranges.add(startDay, endDay);
+        } else {
+            Integer styleId = styleIds.get(styleName);
+            if (styleId != null) {
+                removeRange(styleId, startDay, endDay);
+                Iterator<Map.Entry<Integer, int[]>> days = dayStyles.entrySet().iterator();
+                while (days.hasNext()) {
+                    Map.Entry<Integer, int[]> entry = days.next();
+                    int day = entry.getKey();
+                    if (day >= startDay && day <= endDay && clearBit(entry.getValue(), styleId)) {
+                        days.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the id of a style name, interning the style name if it has no id yet
+     *
+     * @param styleName - The style name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The style id
+     */
+    private int getStyleId(String styleName) {
+        Integer styleId = styleIds.get(styleName);
+        if (styleId == null) {
+            styleId = styleNames.size();
+            styleIds.put(styleName, styleId);
+            styleNames.add(styleName);
+            styleRanges.add(null);
+        }
+        return styleId;
+    }
+
+    /**
+     * Removes a style from the bitset of a single day
+     *
+     * @param day - The day number
+     * @param styleId - The style id
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void clearStyle(int day, int styleId) {
+        int[] bits = dayStyles.get(day);
+        if (bits != null && clearBit(bits, styleId)) {
+            dayStyles.remove(day);
+        }
+    }
+
+    /**
+     * Removes a range of days from the ranges of a style
+     *
+     * @param styleId - The style id
+     * @param startDay - The first day of the range
+     * @param endDay - The last day of the range
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void removeRange(int styleId, int startDay, int endDay) {
+        DayRangeSet ranges = styleRanges.get(styleId);
+        if (ranges != null) {
+            ranges.remove(startDay, endDay);
+            if (ranges.isEmpty()) {
+                styleRanges.set(styleId, null);
+            }
+        }
+    }
+
+    /**
+     * Whether a style is set in a bitset
+     *
+     * @param bits - The bitset, may be null
+     * @param styleId - The style id
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the bit of the style is set
+     */
+    private static boolean isSet(int[] bits, int styleId) {
+        int word = styleId / BITS_PER_WORD;
+        return bits != null && word < bits.length && (bits[word] & (1 << (styleId % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Clears the bit of a style in a bitset
+     *
+     * @param bits - The bitset
+     * @param styleId - The style id
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if no bits remain set
+     */
+    private static boolean clearBit(int[] bits, int styleId) {
+        int word = styleId / BITS_PER_WORD;
+        if (word < bits.length) {
+            bits[word] &= ~(1 << (styleId % BITS_PER_WORD));
+        }
+        for (int value : bits) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
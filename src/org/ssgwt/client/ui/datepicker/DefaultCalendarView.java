@@ -42,6 +42,16 @@ public final class DefaultCalendarView extends CalendarView {
             private String cellStyle;
             private String dateStyle;
 
+            /**
+             * The day of the month currently displayed, -1 before the first update
+             */
+            private int displayedDayOfMonth = -1;
+
+            /**
+             * The style name currently set on the element
+             */
+            private String appliedStyle;
+
             DateCell(Element td, boolean isWeekend) {
                 super(td, new SSDate());
                 cellStyle = css().day();
@@ -85,16 +95,26 @@ public final class DefaultCalendarView extends CalendarView {
                 updateStyle();
             }
 
-            public void update(SSDate current) {
-                setEnabled(true);
-                getValue().setTime(current.getTime());
-                String value = getModel().formatDayOfMonth(getValue());
-                setText(value);
+            /**
+             * Updates the cell to display a cell of a month layout. The text
+             * is only set when the day of the month differs from the one
+             * already displayed.
+             *
+             * @param layout - The layout of the month being displayed
+             * @param index - The index of the cell in the layout
+             */
+            public void update(CalendarMonthLayout layout, int index) {
+                getValue().setTime(layout.getTime(index));
+                int dayOfMonth = layout.getDayOfMonth(index);
+                if (dayOfMonth != displayedDayOfMonth) {
+                    setText(getModel().formatDayOfMonth(getValue()));
+                    displayedDayOfMonth = dayOfMonth;
+                }
                 dateStyle = cellStyle;
-                if (isFiller()) {
+                if (layout.isFiller(index)) {
                     dateStyle += " " + css().dayIsFiller();
                 } else {
-                    String extraStyle = getDatePicker().getStyleOfDate(current);
+                    String extraStyle = getDatePicker().getStyleOfDate(getValue());
                     if (extraStyle != null) {
                         dateStyle += " " + extraStyle;
                     }
@@ -102,7 +122,7 @@ public final class DefaultCalendarView extends CalendarView {
                 // We want to certify that all date styles have " " before and after
                 // them for ease of adding to and replacing them.
                 dateStyle += " ";
-                updateStyle();
+                setEnabled(true);
             }
 
             @Override
@@ -119,7 +139,10 @@ public final class DefaultCalendarView extends CalendarView {
                 if (!isEnabled()) {
                     accum += " " + css().dayIsDisabled();
                 }
-                setStyleName(accum);
+                if (!accum.equals(appliedStyle)) {
+                    setStyleName(accum);
+                    appliedStyle = accum;
+                }
             }
 
             private void setText(String value) {
@@ -173,21 +196,13 @@ public final class DefaultCalendarView extends CalendarView {
 
     @Override
     public void refresh() {
-        firstDisplayed = getModel().getCurrentFirstDayOfFirstWeek();
-
-        if (firstDisplayed.getDate() == 1) {
-            // show one empty week if date is Monday is the first in month.
-            CalendarUtil.addDaysToDate(firstDisplayed, -7);
-        }
-
-        lastDisplayed.setTime(firstDisplayed.getTime());
+        CalendarMonthLayout layout = CalendarMonthLayout.get(getModel());
+        firstDisplayed = new SSDate(layout.getTime(0));
+        lastDisplayed.setTime(layout.getTime(grid.getNumCells() - 1));
 
         for (int i = 0; i < grid.getNumCells(); i++) {
-            if (i != 0) {
-                CalendarUtil.addDaysToDate(lastDisplayed, 1);
-            }
             DateCell cell = (DateCell) grid.getCell(i);
-            cell.update(lastDisplayed);
+            cell.update(layout, i);
         }
     }
 
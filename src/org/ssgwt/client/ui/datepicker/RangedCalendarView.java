@@ -113,34 +113,13 @@ public class RangedCalendarView extends CalendarView {
      * Refreshes the view.
      */
     public void refresh() {
-        firstDisplayed = getModel().getCurrentFirstDayOfFirstWeek();
-        if (firstDisplayed.getDate() == 1) {
-            CalendarUtil.addDaysToDate(firstDisplayed, -7);
-        }
-
-        lastDisplayed.setTime(firstDisplayed.getTime());
+        CalendarMonthLayout layout = CalendarMonthLayout.get(getModel());
+        firstDisplayed = new SSDate(layout.getTime(0));
+        lastDisplayed.setTime(layout.getTime(grid.getNumCells() - 1));
 
         for (int i = 0 ; i < grid.getNumCells(); i++) {
-            if (i != 0) {
-                CalendarUtil.addDaysToDate(lastDisplayed, 1);
-            }
             DateCell cell = (DateCell) grid.getCell(i);
-            cell.update(lastDisplayed);
-
-            if (lastDisplayed.getTime() >= minimumDate.getTime() && lastDisplayed.getTime() <= maximumDate.getTime()) {
-                cell.setEnabled(true);
-            } else {
-                cell.setEnabled(false);
-            }
-
-            if (i >= (grid.getNumCells() - CalendarModel.DAYS_IN_WEEK)) {
-                cell.addStyleName(css().day("LastRow"));
-            }
-            if (i % CalendarModel.DAYS_IN_WEEK == 0) {
-                cell.addStyleName(css().day("FirstCol"));
-            } else if (i % CalendarModel.DAYS_IN_WEEK == CalendarModel.DAYS_IN_WEEK - 1) {
-                cell.addStyleName(css().day("LastCol"));
-            }
+            cell.update(layout, i, layout.isInRange(i, minimumDate, maximumDate));
         }
     }
 
@@ -201,13 +180,36 @@ public class RangedCalendarView extends CalendarView {
             for (int column = 0; column < CalendarModel.DAYS_IN_WEEK; column++) {
                 // set up formatter.
                 Element e = formatter.getElement(row, column);
-                grid.new DateCell(e, column == weekendStartColumn || column == weekendEndColumn);
+                grid.new DateCell(e, column == weekendStartColumn || column == weekendEndColumn,
+                        getPositionStyle(row, column));
             }
         }
         initWidget(grid);
         grid.setStyleName(css().days());
     }
 
+    /**
+     * Retrieves the styles of the position of a cell in the grid. The
+     * position of a cell does not change, so the styles are only added once.
+     *
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     *
+     * @return The styles with a leading space, or an empty string.
+     */
+    private String getPositionStyle(int row, int column) {
+        String positionStyle = "";
+        if (row == CalendarModel.WEEKS_IN_MONTH) {
+            positionStyle += " " + css().day("LastRow");
+        }
+        if (column == 0) {
+            positionStyle += " " + css().day("FirstCol");
+        } else if (column == CalendarModel.DAYS_IN_WEEK - 1) {
+            positionStyle += " " + css().day("LastCol");
+        }
+        return positionStyle;
+    }
+
     /**
      * Retrieves the date cell for a provided date.
      *
@@ -253,13 +255,24 @@ public class RangedCalendarView extends CalendarView {
              */
             private String dateStyle;
 
+            /**
+             * The day of the month currently displayed, -1 before the first update
+             */
+            private int displayedDayOfMonth = -1;
+
+            /**
+             * The style name currently set on the element
+             */
+            private String appliedStyle;
+
             /**
              * Constructor
              *
              * @param td The table cell in which this will be.
              * @param isWeekend Whether the cell represents a day during the weekend.
+             * @param positionStyle The styles of the position of the cell in the grid.
              */
-            public DateCell(Element td, boolean isWeekend) {
+            public DateCell(Element td, boolean isWeekend, String positionStyle) {
                 super(td, new SSDate());
                 //td.appendChild()
                 cellStyle = css().day();
@@ -268,6 +281,7 @@ public class RangedCalendarView extends CalendarView {
                 } else {
                     cellStyle += " " + css().dayIsWeek();
                 }
+                cellStyle += positionStyle;
             }
 
             /**
@@ -325,26 +339,32 @@ public class RangedCalendarView extends CalendarView {
             }
 
             /**
-             * Updates the current date on the view.
+             * Updates the cell to display a cell of a month layout. The text
+             * is only set when the day of the month differs from the one
+             * already displayed.
              *
-             * @param current The current date.
+             * @param layout The layout of the month being displayed.
+             * @param index The index of the cell in the layout.
+             * @param enabled Whether the cell should be enabled.
              */
-            public void update(SSDate current) {
-                setEnabled(true);
-                ((SSDate) getValue()).setTime(current.getTime());
-                String value = getModel().formatDayOfMonth((SSDate) getValue());
-                setText(value);
+            public void update(CalendarMonthLayout layout, int index, boolean enabled) {
+                ((SSDate) getValue()).setTime(layout.getTime(index));
+                int dayOfMonth = layout.getDayOfMonth(index);
+                if (dayOfMonth != displayedDayOfMonth) {
+                    setText(getModel().formatDayOfMonth((SSDate) getValue()));
+                    displayedDayOfMonth = dayOfMonth;
+                }
                 dateStyle = cellStyle;
-                if (isFiller()) {
+                if (layout.isFiller(index)) {
                     dateStyle += " " + css().dayIsFiller();
                 } else {
-                    String extraStyle = getDatePicker().getStyleOfDate(current);
+                    String extraStyle = getDatePicker().getStyleOfDate((SSDate) getValue());
                     if (extraStyle != null) {
                         dateStyle += " " + extraStyle;
                     }
                 }
                 dateStyle += " ";
-                updateStyle();
+                setEnabled(enabled);
             }
 
             /**
@@ -383,7 +403,10 @@ public class RangedCalendarView extends CalendarView {
                 if (!isEnabled()) {
                     accum += " " + css().dayIsDisabled();
                 }
-                setStyleName(accum);
+                if (!accum.equals(appliedStyle)) {
+                    setStyleName(accum);
+                    appliedStyle = accum;
+                }
             }
 
         }
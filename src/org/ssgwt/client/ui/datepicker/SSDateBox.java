@@ -99,7 +99,51 @@ public class SSDateBox extends Composite implements HasName, HasValue<SSDate>, I
      * @param space Space between calendar image and input box
      */
     public SSDateBox(DatePicker picker, SSDate date, Format format, FocusImage img, int space) {
-        box = new DateBox(picker, date, format);
+        this(new DateBox(picker, date, format), img, space);
+    }
+
+    /**
+     * Constructor used when not specifying an icon image, the date picker is
+     * borrowed from the pool when it is shown.
+     *
+     * @param pool The pool to borrow the datepicker from.
+     * @param date The date that is selected by default.
+     * @param format The date format that should be displayed in the date box.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public SSDateBox(DatePickerPool pool, SSDate date, Format format) {
+        this(pool, date, format, new FocusImage(23, 22, "images/datepicker/datebox_icon.png"), 0);
+    }
+
+    /**
+     * Constructor to use when sending in a custom focus image and setting the
+     * space between the calendar image and input box, the date picker is
+     * borrowed from the pool when it is shown.
+     *
+     * @param pool The pool to borrow the datepicker from.
+     * @param date The date that is selected by default.
+     * @param format The date format that should be displayed in the date box.
+     * @param img The Focus image to use as an icon.
+     * @param space Space between calendar image and input box
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public SSDateBox(DatePickerPool pool, SSDate date, Format format, FocusImage img, int space) {
+        this(new DateBox(pool, date, format), img, space);
+    }
+
+    /**
+     * Constructor that lays out the date box and focus image.
+     *
+     * @param dateBox The date box that contains the date picker logic.
+     * @param img The Focus image to use as an icon.
+     * @param space Space between calendar image and input box
+     */
+    private SSDateBox(DateBox dateBox, FocusImage img, int space) {
+        box = dateBox;
         image = img;
 
         layoutPanel.add(box);
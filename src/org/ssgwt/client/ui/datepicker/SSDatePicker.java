@@ -102,4 +102,24 @@ public class SSDatePicker extends DatePicker {
         ((RangedCalendarView) getView()).setMaximumDate(maximum);
         refreshAll();
     }
+
+    /**
+     * Sets the minimum and maximum date without refreshing the date picker.
+     * Used when a pooled date picker is configured for the date box borrowing
+     * it, the date box refreshes it when it sets the current month.
+     *
+     * @param minimum The minimum date, or null for the default minimum date
+     * @param maximum The maximum date, or null for the default maximum date
+     */
+    void setDateRange(SSDate minimum, SSDate maximum) {
+        if (minimum == null) {
+            minimum = new SSDate(DEFAULT_MINIMUM_YEAR - 1900, 0, 1);
+        }
+        if (maximum == null) {
+            maximum = new SSDate(DEFAULT_MAXIMUM_YEAR - 1900, 11, 31);
+        }
+        ((ComboBoxMonthSelector) getMonthSelector()).setDateRange(minimum, maximum);
+        ((RangedCalendarView) getView()).setMinimumDate(minimum);
+        ((RangedCalendarView) getView()).setMaximumDate(maximum);
+    }
 }
\ No newline at end of file
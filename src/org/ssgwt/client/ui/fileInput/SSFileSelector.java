@@ -19,6 +19,14 @@ package org.ssgwt.client.ui.fileInput;
 
 import java.util.ArrayList;
 
+import org.ssgwt.client.ui.fileInput.upload.ChunkTransport;
+import org.ssgwt.client.ui.fileInput.upload.ChunkedUpload;
+import org.ssgwt.client.ui.fileInput.upload.FileChunkSource;
+import org.ssgwt.client.ui.fileInput.validation.FilePreValidationResult;
+import org.ssgwt.client.ui.fileInput.validation.FilePreValidator;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.dom.client.ChangeHandler;
 import com.google.gwt.event.dom.client.HasChangeHandlers;
 import com.google.gwt.event.dom.client.MouseDownEvent;
@@ -28,6 +36,7 @@ import com.google.gwt.event.dom.client.MouseOutHandler;
 import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.gwt.user.client.ui.Button;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FileUpload;
@@ -209,6 +218,108 @@ public class SSFileSelector extends Composite implements HasName, HasChangeHandl
         return true;
     }
     
+    /**
+     * Whether the browser supports uploading the selected file in chunks
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return true if the file can be uploaded with createChunkedUpload
+     */
+    public boolean isChunkedUploadSupported() {
+        return FileChunkSource.isSupported();
+    }
+    
+    /**
+     * Retrieves the file the user selected as a chunk source
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The selected file or null if no file was selected or the browser does not support the File API
+     */
+    public FileChunkSource getSelectedFile() {
+        if (!FileChunkSource.isSupported()) {
+            return null;
+        }
+        JavaScriptObject file = getSelectedFile(fileUpload.getElement());
+        return file == null ? null : new FileChunkSource(file);
+    }
+    
+    /**
+     * Creates an upload that sends the selected file in chunks instead of
+     * submitting the form. The upload id is created from the name, size and
+     * modification time of the file so an interrupted upload of the same
+     * file resumes where it stopped.
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @param transport - The transport that sends the chunks to the server
+     * 
+     * @return The upload or null if no file was selected or chunked uploads are not supported
+     */
+    public ChunkedUpload createChunkedUpload(ChunkTransport transport) {
+        FileChunkSource file = getSelectedFile();
+        if (file == null) {
+            return null;
+        }
+        return new ChunkedUpload(file, transport, file.createUploadId());
+    }
+    
+    /**
+     * Creates a pre validator that only allows the extensions set with
+     * setAllowedFiles. Column rules can be added to it before the selected
+     * file is validated.
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The pre validator
+     */
+    public FilePreValidator createPreValidator() {
+        FilePreValidator validator = new FilePreValidator();
+        if (isValidation) {
+            validator.setAllowedExtensions(allowedFiles);
+        }
+        return validator;
+    }
+    
+    /**
+     * Reads the selected file in the browser and checks its content before
+     * it is uploaded
+     * 
+     * @param validator - The pre validator with the checks to do
+     * @param callback - The callback that receives the result
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return false if no file was selected or the browser does not support the File API
+     */
+    public boolean preValidateSelectedFile(FilePreValidator validator, AsyncCallback<FilePreValidationResult> callback) {
+        FileChunkSource file = getSelectedFile();
+        if (file == null) {
+            return false;
+        }
+        validator.validate(file, callback);
+        return true;
+    }
+    
+    /**
+     * Retrieves the first file selected in a file input element
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @param input - The file input element
+     * 
+     * @return The browser File object or null if no file was selected
+     */
+    private static native JavaScriptObject getSelectedFile(Element input) /*-{
+        return input.files && input.files.length > 0 ? input.files[0] : null;
+    }-*/;
+    
     /**
      * Sets whether this browser button is visible.
      * 
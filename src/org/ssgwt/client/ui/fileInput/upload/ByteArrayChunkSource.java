@@ -0,0 +1,116 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import org.ssgwt.share.upload.Crc32;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * A chunk source that holds the data of the file in memory. It can be used
+ * with the LocalChunkTransport in tests or to upload data the application
+ * generated. The payload of the chunks is a byte array.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ByteArrayChunkSource implements ChunkSource, FileByteSource {
+
+    /**
+     * The name of the file
+     */
+    private final String name;
+
+    /**
+     * The data of the file
+     */
+    private final byte[] data;
+
+    /**
+     * Class constructor
+     *
+     * @param name - The name of the file
+     * @param data - The data of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public ByteArrayChunkSource(String name, byte[] data) {
+        this.name = name;
+        this.data = data;
+    }
+
+    /**
+     * Retrieves the name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The name of the file
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the size of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the file
+     */
+    @Override
+    public long getSize() {
+        return data.length;
+    }
+
+    /**
+     * Reads part of the file
+     *
+     * @param offset - The offset of the first byte to read
+     * @param length - The number of bytes to read
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void readBytes(long offset, int length, AsyncCallback<byte[]> callback) {
+        byte[] bytes = new byte[(int) Math.max(0, Math.min(length, data.length - offset))];
+        System.arraycopy(data, (int) offset, bytes, 0, bytes.length);
+        callback.onSuccess(bytes);
+    }
+
+    /**
+     * Reads a chunk of the file and calculates its checksum
+     *
+     * @param index - The index of the chunk
+     * @param offset - The offset of the chunk in the file
+     * @param length - The number of bytes in the chunk
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void readChunk(int index, long offset, int length, AsyncCallback<UploadChunk> callback) {
+        byte[] chunkData = new byte[length];
+        System.arraycopy(data, (int) offset, chunkData, 0, length);
+        Crc32 crc = new Crc32();
+        crc.update(chunkData, 0, length);
+        callback.onSuccess(new UploadChunk(index, offset, length, crc.getHexValue(), chunkData));
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * The source of the data of a file that is uploaded by a {@link ChunkedUpload}
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface ChunkSource {
+
+    /**
+     * Retrieves the name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The name of the file
+     */
+    String getName();
+
+    /**
+     * Retrieves the size of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the file
+     */
+    long getSize();
+
+    /**
+     * Reads a chunk of the file and calculates its checksum
+     *
+     * @param index - The index of the chunk
+     * @param offset - The offset of the chunk in the file
+     * @param length - The number of bytes in the chunk
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void readChunk(int index, long offset, int length, AsyncCallback<UploadChunk> callback);
+}
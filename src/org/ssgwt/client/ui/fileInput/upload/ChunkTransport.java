@@ -0,0 +1,65 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import java.util.Set;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Sends the chunks of a {@link ChunkedUpload} to the server
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface ChunkTransport {
+
+    /**
+     * Retrieves the indexes of the chunks of an upload the server already
+     * received, so an upload that failed or was interrupted can resume
+     *
+     * @param uploadId - The id of the upload
+     * @param callback - The callback that receives the chunk indexes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void getUploadedChunks(String uploadId, AsyncCallback<Set<Integer>> callback);
+
+    /**
+     * Sends a chunk to the server
+     *
+     * @param uploadId - The id of the upload
+     * @param chunk - The chunk to send
+     * @param callback - The callback that is called when the server stored the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void sendChunk(String uploadId, UploadChunk chunk, AsyncCallback<Void> callback);
+
+    /**
+     * Tells the server that all the chunks of an upload were sent
+     *
+     * @param uploadId - The id of the upload
+     * @param fileName - The name of the file
+     * @param fileSize - The number of bytes in the file
+     * @param chunkCount - The number of chunks in the file
+     * @param callback - The callback that is called when the server assembled the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void completeUpload(String uploadId, String fileName, long fileSize, int chunkCount, AsyncCallback<Void> callback);
+}
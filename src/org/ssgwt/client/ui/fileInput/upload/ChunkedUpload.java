@@ -0,0 +1,542 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Set;
+
+import org.ssgwt.client.ui.fileInput.upload.event.UploadCompleteEvent;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadCompleteEvent.UploadCompleteHandler;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadCompleteEvent.UploadCompleteHasHandlers;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadProgressEvent;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadProgressEvent.UploadProgressHandler;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadProgressEvent.UploadProgressHasHandlers;
+
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerManager;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Uploads a file in chunks. Each chunk is read from the chunk source with
+ * its checksum and sent with the chunk transport, with a limited number of
+ * chunks in flight at a time. A chunk that fails is retried a number of
+ * times before the upload fails.
+ *
+ * Before chunks are sent the transport is asked which chunks the server
+ * already has, so calling start again after an upload failed only sends the
+ * missing chunks. If the upload id stays the same for the same file, as the
+ * one created by FileChunkSource.createUploadId does, the upload also
+ * resumes after the page was reloaded.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ChunkedUpload implements UploadProgressHasHandlers, UploadCompleteHasHandlers {
+
+    /**
+     * The default number of bytes in a chunk
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The default number of chunks that are uploaded at the same time
+     */
+    public static final int DEFAULT_PARALLEL_CHUNKS = 3;
+
+    /**
+     * The default number of times a chunk is retried before the upload fails
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * The default number of milliseconds before the first retry of a chunk
+     */
+    public static final int DEFAULT_RETRY_DELAY = 1000;
+
+    /**
+     * The source of the file data
+     */
+    private final ChunkSource source;
+
+    /**
+     * The transport that sends the chunks to the server
+     */
+    private final ChunkTransport transport;
+
+    /**
+     * The id of the upload on the server
+     */
+    private final String uploadId;
+
+    /**
+     * The handler manager used to handle events
+     */
+    private final HandlerManager handlerManager = new HandlerManager(this);
+
+    /**
+     * The number of bytes in a chunk
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * The number of chunks that are uploaded at the same time
+     */
+    private int parallelChunks = DEFAULT_PARALLEL_CHUNKS;
+
+    /**
+     * The number of times a chunk is retried before the upload fails
+     */
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+
+    /**
+     * The number of milliseconds before the first retry of a chunk, doubled for each further retry
+     */
+    private int retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * The number of chunks in the file
+     */
+    private int chunkCount;
+
+    /**
+     * The indexes of the chunks that still have to be uploaded
+     */
+    private final LinkedList<Integer> pendingChunks = new LinkedList<Integer>();
+
+    /**
+     * The number of times each chunk was retried
+     */
+    private final HashMap<Integer, Integer> retryCounts = new HashMap<Integer, Integer>();
+
+    /**
+     * The number of chunks that are being read, sent or waiting to be retried
+     */
+    private int activeChunks;
+
+    /**
+     * The number of bytes that were uploaded
+     */
+    private long uploadedBytes;
+
+    /**
+     * Whether the upload is running
+     */
+    private boolean running = false;
+
+    /**
+     * Whether the server was asked to complete the upload
+     */
+    private boolean completing = false;
+
+    /**
+     * Incremented each time the upload is started or stopped so callbacks
+     * of an earlier run are ignored
+     */
+    private int run = 0;
+
+    /**
+     * Whether chunks are being started, used to avoid recursion when the
+     * transport calls back immediately
+     */
+    private boolean startingChunks = false;
+
+    /**
+     * Whether startChunks was called while chunks were being started
+     */
+    private boolean startChunksAgain = false;
+
+    /**
+     * Class constructor
+     *
+     * @param source - The source of the file data
+     * @param transport - The transport that sends the chunks to the server
+     * @param uploadId - The id of the upload on the server
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public ChunkedUpload(ChunkSource source, ChunkTransport transport, String uploadId) {
+        this.source = source;
+        this.transport = transport;
+        this.uploadId = uploadId;
+    }
+
+    /**
+     * Sets the number of bytes in a chunk, takes effect the next time the upload is started
+     *
+     * @param chunkSize - The number of bytes in a chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Sets the number of chunks that are uploaded at the same time
+     *
+     * @param parallelChunks - The number of chunks that are uploaded at the same time
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setParallelChunks(int parallelChunks) {
+        this.parallelChunks = Math.max(1, parallelChunks);
+    }
+
+    /**
+     * Sets the number of times a chunk is retried before the upload fails
+     *
+     * @param maxRetries - The number of retries
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    /**
+     * Sets the number of milliseconds before the first retry of a chunk. The
+     * delay is doubled for each further retry of the chunk.
+     *
+     * @param retryDelay - The delay in milliseconds, 0 to retry immediately
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setRetryDelay(int retryDelay) {
+        this.retryDelay = Math.max(0, retryDelay);
+    }
+
+    /**
+     * Getter for the uploadId
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the id of the upload on the server
+     */
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    /**
+     * Retrieves the number of bytes that were uploaded
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes
+     */
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    /**
+     * Whether the upload is running
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the upload is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts the upload or resumes it after it failed or was cancelled.
+     * Only the chunks the server does not have yet are sent.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        completing = false;
+        final int currentRun = ++run;
+        long size = source.getSize();
+        chunkCount = (int) ((size + chunkSize - 1) / chunkSize);
+        pendingChunks.clear();
+        retryCounts.clear();
+        activeChunks = 0;
+        uploadedBytes = 0;
+
+        transport.getUploadedChunks(uploadId, new AsyncCallback<Set<Integer>>() {
+
+            @Override
+            public void onSuccess(Set<Integer> uploadedChunks) {
+                if (currentRun != run) {
+                    return;
+                }
+                for (int index = 0; index < chunkCount; index++) {
+                    if (uploadedChunks.contains(index)) {
+                        uploadedBytes += getChunkLength(index);
+                    } else {
+                        pendingChunks.add(index);
+                    }
+                }
+                UploadProgressEvent.fire(ChunkedUpload.this, uploadedBytes, source.getSize());
+                startChunks(currentRun);
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                fail(currentRun, caught);
+            }
+        });
+    }
+
+    /**
+     * Stops the upload. Chunks that are in flight are not cancelled but
+     * their results are ignored. The upload can be resumed with start.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void cancel() {
+        if (running) {
+            running = false;
+            run++;
+        }
+    }
+
+    /**
+     * Starts uploading pending chunks until the maximum number of chunks is
+     * in flight, and completes the upload once all the chunks were uploaded
+     *
+     * @param currentRun - The run the chunks are started for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void startChunks(int currentRun) {
+        if (startingChunks) {
+            startChunksAgain = true;
+            return;
+        }
+        startingChunks = true;
+        try {
+            do {
+                startChunksAgain = false;
+                while (currentRun == run && activeChunks < parallelChunks && !pendingChunks.isEmpty()) {
+                    activeChunks++;
+                    uploadChunk(currentRun, pendingChunks.removeFirst());
+                }
+            } while (startChunksAgain);
+        } finally {
+            startingChunks = false;
+        }
+        if (currentRun == run && !completing && activeChunks == 0 && pendingChunks.isEmpty()) {
+            complete(currentRun);
+        }
+    }
+
+    /**
+     * Reads and sends a chunk
+     *
+     * @param currentRun - The run the chunk is uploaded for
+     * @param index - The index of the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void uploadChunk(final int currentRun, final int index) {
+        final AsyncCallback<Void> sendCallback = new AsyncCallback<Void>() {
+
+            @Override
+            public void onSuccess(Void result) {
+                if (currentRun != run) {
+                    return;
+                }
+                activeChunks--;
+                uploadedBytes += getChunkLength(index);
+                UploadProgressEvent.fire(ChunkedUpload.this, uploadedBytes, source.getSize());
+                startChunks(currentRun);
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                onChunkFailed(currentRun, index, caught);
+            }
+        };
+        source.readChunk(index, (long) index * chunkSize, getChunkLength(index), new AsyncCallback<UploadChunk>() {
+
+            @Override
+            public void onSuccess(UploadChunk chunk) {
+                if (currentRun == run) {
+                    transport.sendChunk(uploadId, chunk, sendCallback);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                onChunkFailed(currentRun, index, caught);
+            }
+        });
+    }
+
+    /**
+     * Retries a chunk that failed or fails the upload if the chunk was retried too often
+     *
+     * @param currentRun - The run the chunk was uploaded for
+     * @param index - The index of the chunk
+     * @param caught - The error that caused the chunk to fail
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onChunkFailed(final int currentRun, final int index, Throwable caught) {
+        if (currentRun != run) {
+            return;
+        }
+        Integer retryCount = retryCounts.get(index);
+        int retries = retryCount == null ? 1 : retryCount + 1;
+        if (retries > maxRetries) {
+            fail(currentRun, caught);
+            return;
+        }
+        retryCounts.put(index, retries);
+        if (retryDelay == 0) {
+            activeChunks--;
+            pendingChunks.addFirst(index);
+            startChunks(currentRun);
+        } else {
+            // The chunk stays active while it waits so the other chunks do not take its place
+            new Timer() {
+
+                @Override
+                public void run() {
+                    if (currentRun == run) {
+                        activeChunks--;
+                        pendingChunks.addFirst(index);
+                        startChunks(currentRun);
+                    }
+                }
+            }.schedule(retryDelay << Math.min(retries - 1, 5));
+        }
+    }
+
+    /**
+     * Asks the server to complete the upload once all the chunks were uploaded
+     *
+     * @param currentRun - The run that uploaded the chunks
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void complete(final int currentRun) {
+        completing = true;
+        transport.completeUpload(uploadId, source.getName(), source.getSize(), chunkCount, new AsyncCallback<Void>() {
+
+            @Override
+            public void onSuccess(Void result) {
+                if (currentRun == run) {
+                    running = false;
+                    run++;
+                    UploadCompleteEvent.fire(ChunkedUpload.this, null);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                fail(currentRun, caught);
+            }
+        });
+    }
+
+    /**
+     * Stops the upload and dispatches the event that it failed
+     *
+     * @param currentRun - The run that failed
+     * @param caught - The error that caused the upload to fail
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void fail(int currentRun, Throwable caught) {
+        if (currentRun != run) {
+            return;
+        }
+        running = false;
+        run++;
+        UploadCompleteEvent.fire(this, caught);
+    }
+
+    /**
+     * Retrieves the number of bytes in a chunk, the last chunk can be shorter
+     *
+     * @param index - The index of the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the chunk
+     */
+    private int getChunkLength(int index) {
+        long offset = (long) index * chunkSize;
+        return (int) Math.min(chunkSize, source.getSize() - offset);
+    }
+
+    /**
+     * Adds a handler that is called each time a chunk was uploaded
+     *
+     * @param handler - The handler to add
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The handler registration
+     */
+    @Override
+    public HandlerRegistration addUploadProgressHandler(UploadProgressHandler handler) {
+        return handlerManager.addHandler(UploadProgressEvent.TYPE, handler);
+    }
+
+    /**
+     * Adds a handler that is called when the upload completed or failed
+     *
+     * @param handler - The handler to add
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The handler registration
+     */
+    @Override
+    public HandlerRegistration addUploadCompleteHandler(UploadCompleteHandler handler) {
+        return handlerManager.addHandler(UploadCompleteEvent.TYPE, handler);
+    }
+
+    /**
+     * This is used to fire an event
+     *
+     * @param event - The event that needs to be fired
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void fireEvent(GwtEvent<?> event) {
+        handlerManager.fireEvent(event);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * A file whose bytes can be read in parts, so it can be checked before it
+ * is uploaded without reading it all into memory
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface FileByteSource {
+
+    /**
+     * Retrieves the name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The name of the file
+     */
+    String getName();
+
+    /**
+     * Retrieves the size of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the file
+     */
+    long getSize();
+
+    /**
+     * Reads part of the file
+     *
+     * @param offset - The offset of the first byte to read
+     * @param length - The number of bytes to read
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void readBytes(long offset, int length, AsyncCallback<byte[]> callback);
+}
@@ -0,0 +1,359 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import org.ssgwt.share.upload.Crc32;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * A chunk source that reads a file selected by the user with the browser
+ * File API. The payload of the chunks is the Blob holding the chunk data,
+ * which is what the HttpChunkTransport sends.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FileChunkSource implements ChunkSource, FileByteSource {
+
+    /**
+     * The browser File object of the file
+     */
+    private final JavaScriptObject file;
+
+    /**
+     * A view of the bytes of an ArrayBuffer
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static final class ByteView extends JavaScriptObject {
+
+        /**
+         * Required protected constructor for JavaScriptObject overlay types
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        protected ByteView() {
+        }
+
+        /**
+         * Retrieves the number of bytes in the view
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The number of bytes
+         */
+        public native int length() /*-{
+            return this.length;
+        }-*/;
+
+        /**
+         * Retrieves a byte from the view
+         *
+         * @param index - The index of the byte
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The byte as a value from 0 to 255
+         */
+        public native int get(int index) /*-{
+            return this[index];
+        }-*/;
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param file - The browser File object of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public FileChunkSource(JavaScriptObject file) {
+        this.file = file;
+    }
+
+    /**
+     * Whether the browser supports reading files in chunks
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the File API with Blob slicing is supported
+     */
+    public static native boolean isSupported() /*-{
+        return !!($wnd.File && $wnd.Blob && $wnd.FileReader && $wnd.Uint8Array && $wnd.Blob.prototype.slice);
+    }-*/;
+
+    /**
+     * Retrieves the name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The name of the file
+     */
+    @Override
+    public String getName() {
+        return getName(file);
+    }
+
+    /**
+     * Retrieves the size of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the file
+     */
+    @Override
+    public long getSize() {
+        return (long) getSize(file);
+    }
+
+    /**
+     * Creates an upload id from the name, size and modification time of the
+     * file, so an upload of the same file resumes where it stopped, even
+     * after the page was reloaded. The id can be guessed, so the server has
+     * to keep the uploads of each user apart, as the ChunkedUploadServlet
+     * does.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The upload id
+     */
+    public String createUploadId() {
+        StringBuilder uploadId = new StringBuilder();
+        String name = getName();
+        for (int i = 0; i < name.length() && uploadId.length() < 100; i++) {
+            char character = name.charAt(i);
+            boolean valid = (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                    || (character >= '0' && character <= '9');
+            uploadId.append(valid ? character : '_');
+        }
+        uploadId.append('-').append(getSize()).append('-').append((long) getLastModified(file));
+        return uploadId.toString();
+    }
+
+    /**
+     * Reads a chunk of the file and calculates its checksum
+     *
+     * @param index - The index of the chunk
+     * @param offset - The offset of the chunk in the file
+     * @param length - The number of bytes in the chunk
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void readChunk(int index, long offset, int length, AsyncCallback<UploadChunk> callback) {
+        JavaScriptObject blob = slice(file, (double) offset, (double) (offset + length));
+        readBlob(index, (double) offset, blob, callback);
+    }
+
+    /**
+     * Reads part of the file
+     *
+     * @param offset - The offset of the first byte to read
+     * @param length - The number of bytes to read
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void readBytes(long offset, int length, AsyncCallback<byte[]> callback) {
+        double end = Math.min((double) (offset + length), getSize(file));
+        readBlobBytes(slice(file, (double) offset, end), callback);
+    }
+
+    /**
+     * Called when the bytes of part of the file were read
+     *
+     * @param bytes - A view of the bytes that were read
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onBytesRead(ByteView bytes, AsyncCallback<byte[]> callback) {
+        int length = bytes.length();
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) bytes.get(i);
+        }
+        callback.onSuccess(data);
+    }
+
+    /**
+     * Called when the bytes of part of the file could not be read
+     *
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onBytesReadFailed(AsyncCallback<byte[]> callback) {
+        callback.onFailure(new Exception("The file " + getName() + " could not be read"));
+    }
+
+    /**
+     * Called when the data of a chunk was read
+     *
+     * @param index - The index of the chunk
+     * @param offset - The offset of the chunk in the file
+     * @param blob - The Blob holding the chunk data
+     * @param bytes - A view of the bytes of the chunk
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onChunkRead(int index, double offset, JavaScriptObject blob, ByteView bytes,
+            AsyncCallback<UploadChunk> callback) {
+        Crc32 crc = new Crc32();
+        int length = bytes.length();
+        for (int i = 0; i < length; i++) {
+            crc.update(bytes.get(i));
+        }
+        callback.onSuccess(new UploadChunk(index, (long) offset, length, crc.getHexValue(), blob));
+    }
+
+    /**
+     * Called when the data of a chunk could not be read
+     *
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void onChunkReadFailed(AsyncCallback<UploadChunk> callback) {
+        callback.onFailure(new Exception("The file " + getName() + " could not be read"));
+    }
+
+    /**
+     * Reads the data of a chunk
+     *
+     * @param index - The index of the chunk
+     * @param offset - The offset of the chunk in the file
+     * @param blob - The Blob holding the chunk data
+     * @param callback - The callback that receives the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private native void readBlob(int index, double offset, JavaScriptObject blob,
+            AsyncCallback<UploadChunk> callback) /*-{
+        var source = this;
+        var reader = new $wnd.FileReader();
+        reader.onload = $entry(function() {
+            var bytes = new $wnd.Uint8Array(reader.result);
+            source.@org.ssgwt.client.ui.fileInput.upload.FileChunkSource::onChunkRead(IDLcom/google/gwt/core/client/JavaScriptObject;Lorg/ssgwt/client/ui/fileInput/upload/FileChunkSource$ByteView;Lcom/google/gwt/user/client/rpc/AsyncCallback;)(index, offset, blob, bytes, callback);
+        });
+        reader.onerror = $entry(function() {
+            source.@org.ssgwt.client.ui.fileInput.upload.FileChunkSource::onChunkReadFailed(Lcom/google/gwt/user/client/rpc/AsyncCallback;)(callback);
+        });
+        reader.readAsArrayBuffer(blob);
+    }-*/;
+
+    /**
+     * Reads the bytes of a Blob
+     *
+     * @param blob - The Blob to read
+     * @param callback - The callback that receives the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private native void readBlobBytes(JavaScriptObject blob, AsyncCallback<byte[]> callback) /*-{
+        var source = this;
+        var reader = new $wnd.FileReader();
+        reader.onload = $entry(function() {
+            var bytes = new $wnd.Uint8Array(reader.result);
+            source.@org.ssgwt.client.ui.fileInput.upload.FileChunkSource::onBytesRead(Lorg/ssgwt/client/ui/fileInput/upload/FileChunkSource$ByteView;Lcom/google/gwt/user/client/rpc/AsyncCallback;)(bytes, callback);
+        });
+        reader.onerror = $entry(function() {
+            source.@org.ssgwt.client.ui.fileInput.upload.FileChunkSource::onBytesReadFailed(Lcom/google/gwt/user/client/rpc/AsyncCallback;)(callback);
+        });
+        reader.readAsArrayBuffer(blob);
+    }-*/;
+
+    /**
+     * Retrieves a Blob holding part of the file
+     *
+     * @param file - The browser File object
+     * @param start - The offset of the first byte
+     * @param end - The offset after the last byte
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The Blob
+     */
+    private static native JavaScriptObject slice(JavaScriptObject file, double start, double end) /*-{
+        return file.slice(start, end);
+    }-*/;
+
+    /**
+     * Retrieves the name of a browser File object
+     *
+     * @param file - The browser File object
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The name of the file
+     */
+    private static native String getName(JavaScriptObject file) /*-{
+        return file.name;
+    }-*/;
+
+    /**
+     * Retrieves the size of a browser File object
+     *
+     * @param file - The browser File object
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes in the file
+     */
+    private static native double getSize(JavaScriptObject file) /*-{
+        return file.size;
+    }-*/;
+
+    /**
+     * Retrieves the modification time of a browser File object
+     *
+     * @param file - The browser File object
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The modification time in milliseconds, 0 if the browser does not provide it
+     */
+    private static native double getLastModified(JavaScriptObject file) /*-{
+        if (file.lastModified) {
+            return file.lastModified;
+        }
+        return file.lastModifiedDate ? file.lastModifiedDate.getTime() : 0;
+    }-*/;
+}
@@ -0,0 +1,241 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.ssgwt.share.upload.ChunkedUploadProtocol;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.http.client.URL;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * A chunk transport that sends the chunks of a FileChunkSource to a
+ * ChunkedUploadServlet, or any endpoint that implements the same protocol,
+ * using HTTP requests
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class HttpChunkTransport implements ChunkTransport {
+
+    /**
+     * The url of the upload endpoint
+     */
+    private final String url;
+
+    /**
+     * Class constructor
+     *
+     * @param url - The url of the upload endpoint
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public HttpChunkTransport(String url) {
+        this.url = url;
+    }
+
+    /**
+     * Retrieves the indexes of the chunks of an upload the server already received
+     *
+     * @param uploadId - The id of the upload
+     * @param callback - The callback that receives the chunk indexes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void getUploadedChunks(String uploadId, final AsyncCallback<Set<Integer>> callback) {
+        String requestUrl = createUrl(ChunkedUploadProtocol.UPLOAD_ID, uploadId);
+        send(RequestBuilder.GET, requestUrl, new AsyncCallback<String>() {
+
+            @Override
+            public void onSuccess(String text) {
+                HashSet<Integer> chunks = new HashSet<Integer>();
+                try {
+                    for (String index : text.split(ChunkedUploadProtocol.CHUNK_SEPARATOR)) {
+                        if (index.trim().length() > 0) {
+                            chunks.add(Integer.valueOf(index.trim()));
+                        }
+                    }
+                } catch (NumberFormatException exception) {
+                    callback.onFailure(new Exception("Invalid response listing the uploaded chunks: " + text, exception));
+                    return;
+                }
+                callback.onSuccess(chunks);
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                callback.onFailure(caught);
+            }
+        });
+    }
+
+    /**
+     * Sends a chunk to the server with its checksum in a header
+     *
+     * @param uploadId - The id of the upload
+     * @param chunk - The chunk to send, its payload should be a Blob
+     * @param callback - The callback that is called when the server stored the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void sendChunk(String uploadId, UploadChunk chunk, AsyncCallback<Void> callback) {
+        String requestUrl = createUrl(ChunkedUploadProtocol.ACTION, ChunkedUploadProtocol.ACTION_CHUNK)
+                + "&" + ChunkedUploadProtocol.UPLOAD_ID + "=" + URL.encodeQueryString(uploadId)
+                + "&" + ChunkedUploadProtocol.CHUNK_INDEX + "=" + chunk.getIndex()
+                + "&" + ChunkedUploadProtocol.CHUNK_OFFSET + "=" + chunk.getOffset();
+        sendBlob(requestUrl, ChunkedUploadProtocol.CHUNK_CHECKSUM_HEADER, chunk.getChecksum(),
+                (JavaScriptObject) chunk.getPayload(), callback);
+    }
+
+    /**
+     * Tells the server that all the chunks of an upload were sent
+     *
+     * @param uploadId - The id of the upload
+     * @param fileName - The name of the file
+     * @param fileSize - The number of bytes in the file
+     * @param chunkCount - The number of chunks in the file
+     * @param callback - The callback that is called when the server assembled the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void completeUpload(String uploadId, String fileName, long fileSize, int chunkCount,
+            final AsyncCallback<Void> callback) {
+        String requestUrl = createUrl(ChunkedUploadProtocol.ACTION, ChunkedUploadProtocol.ACTION_COMPLETE)
+                + "&" + ChunkedUploadProtocol.UPLOAD_ID + "=" + URL.encodeQueryString(uploadId)
+                + "&" + ChunkedUploadProtocol.FILE_NAME + "=" + URL.encodeQueryString(fileName)
+                + "&" + ChunkedUploadProtocol.FILE_SIZE + "=" + fileSize
+                + "&" + ChunkedUploadProtocol.CHUNK_COUNT + "=" + chunkCount;
+        send(RequestBuilder.POST, requestUrl, new AsyncCallback<String>() {
+
+            @Override
+            public void onSuccess(String text) {
+                callback.onSuccess(null);
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                callback.onFailure(caught);
+            }
+        });
+    }
+
+    /**
+     * Creates the url of a request with its first parameter
+     *
+     * @param name - The name of the parameter
+     * @param value - The value of the parameter
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The url
+     */
+    private String createUrl(String name, String value) {
+        return url + (url.indexOf('?') < 0 ? "?" : "&") + name + "=" + URL.encodeQueryString(value);
+    }
+
+    /**
+     * Sends a request without a body and passes the response text to the callback
+     *
+     * @param method - The HTTP method of the request
+     * @param requestUrl - The url of the request
+     * @param callback - The callback that receives the response text
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void send(RequestBuilder.Method method, String requestUrl, final AsyncCallback<String> callback) {
+        RequestBuilder builder = new RequestBuilder(method, requestUrl);
+        try {
+            builder.sendRequest(null, new RequestCallback() {
+
+                @Override
+                public void onResponseReceived(Request request, Response response) {
+                    if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+                        callback.onSuccess(response.getText());
+                    } else {
+                        callback.onFailure(new Exception("The upload request failed with status "
+                                + response.getStatusCode()));
+                    }
+                }
+
+                @Override
+                public void onError(Request request, Throwable exception) {
+                    callback.onFailure(exception);
+                }
+            });
+        } catch (RequestException exception) {
+            callback.onFailure(exception);
+        }
+    }
+
+    /**
+     * Called when a chunk request completed
+     *
+     * @param status - The HTTP status of the response, 0 if the request failed
+     * @param callback - The callback that is called when the server stored the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static void onChunkSent(int status, AsyncCallback<Void> callback) {
+        if (status >= 200 && status < 300) {
+            callback.onSuccess(null);
+        } else {
+            callback.onFailure(new Exception("The chunk request failed with status " + status));
+        }
+    }
+
+    /**
+     * Sends a Blob as the body of a POST request
+     *
+     * @param requestUrl - The url of the request
+     * @param headerName - The name of the header holding the checksum
+     * @param checksum - The checksum of the Blob
+     * @param blob - The Blob to send
+     * @param callback - The callback that is called when the server stored the chunk
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static native void sendBlob(String requestUrl, String headerName, String checksum,
+            JavaScriptObject blob, AsyncCallback<Void> callback) /*-{
+        var xhr = new $wnd.XMLHttpRequest();
+        xhr.open('POST', requestUrl, true);
+        xhr.setRequestHeader(headerName, checksum);
+        xhr.setRequestHeader('Content-Type', 'application/octet-stream');
+        xhr.onreadystatechange = $entry(function() {
+            if (xhr.readyState == 4) {
+                xhr.onreadystatechange = null;
+                @org.ssgwt.client.ui.fileInput.upload.HttpChunkTransport::onChunkSent(ILcom/google/gwt/user/client/rpc/AsyncCallback;)(xhr.status, callback);
+            }
+        });
+        xhr.send(blob);
+    }-*/;
+}
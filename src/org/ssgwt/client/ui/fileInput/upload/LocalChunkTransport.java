@@ -0,0 +1,178 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.ssgwt.share.upload.Crc32;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * A chunk transport that stores the chunks in memory instead of sending
+ * them to a server. It checks the checksums the same way the
+ * ChunkedUploadServlet does and can be made to fail sends, so it can stand
+ * in for the server in tests. It only accepts chunks with byte array
+ * payloads, such as the chunks of a ByteArrayChunkSource.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class LocalChunkTransport implements ChunkTransport {
+
+    /**
+     * The chunks received for each upload by chunk index
+     */
+    private final HashMap<String, HashMap<Integer, byte[]>> uploads = new HashMap<String, HashMap<Integer, byte[]>>();
+
+    /**
+     * The assembled files of the completed uploads
+     */
+    private final HashMap<String, byte[]> completedFiles = new HashMap<String, byte[]>();
+
+    /**
+     * The number of sends that should still fail
+     */
+    private int failingSends = 0;
+
+    /**
+     * The number of chunks that were sent, including the sends that failed
+     */
+    private int sendCount = 0;
+
+    /**
+     * Makes the next sends fail as if the connection was lost
+     *
+     * @param count - The number of sends that should fail
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void failNextSends(int count) {
+        failingSends = count;
+    }
+
+    /**
+     * Retrieves the number of chunks that were sent, including the sends that failed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of chunks that were sent
+     */
+    public int getSendCount() {
+        return sendCount;
+    }
+
+    /**
+     * Retrieves the assembled file of a completed upload
+     *
+     * @param uploadId - The id of the upload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The data of the file or null if the upload was not completed
+     */
+    public byte[] getCompletedFile(String uploadId) {
+        return completedFiles.get(uploadId);
+    }
+
+    /**
+     * Retrieves the indexes of the chunks of an upload that were received
+     *
+     * @param uploadId - The id of the upload
+     * @param callback - The callback that receives the chunk indexes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void getUploadedChunks(String uploadId, AsyncCallback<Set<Integer>> callback) {
+        HashMap<Integer, byte[]> chunks = uploads.get(uploadId);
+        callback.onSuccess(chunks == null ? new HashSet<Integer>() : new HashSet<Integer>(chunks.keySet()));
+    }
+
+    /**
+     * Stores a chunk if its checksum is correct
+     *
+     * @param uploadId - The id of the upload
+     * @param chunk - The chunk to store
+     * @param callback - The callback that is called when the chunk was stored
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void sendChunk(String uploadId, UploadChunk chunk, AsyncCallback<Void> callback) {
+        sendCount++;
+        if (failingSends > 0) {
+            failingSends--;
+            callback.onFailure(new Exception("The chunk " + chunk.getIndex() + " could not be sent"));
+            return;
+        }
+        byte[] data = (byte[]) chunk.getPayload();
+        Crc32 crc = new Crc32();
+        crc.update(data, 0, data.length);
+        if (!crc.getHexValue().equals(chunk.getChecksum())) {
+            callback.onFailure(new Exception("The checksum of chunk " + chunk.getIndex() + " is incorrect"));
+            return;
+        }
+        HashMap<Integer, byte[]> chunks = uploads.get(uploadId);
+        if (chunks == null) {
+            chunks = new HashMap<Integer, byte[]>();
+            uploads.put(uploadId, chunks);
+        }
+        chunks.put(chunk.getIndex(), data);
+        callback.onSuccess(null);
+    }
+
+    /**
+     * Assembles the file of an upload from its chunks
+     *
+     * @param uploadId - The id of the upload
+     * @param fileName - The name of the file
+     * @param fileSize - The number of bytes in the file
+     * @param chunkCount - The number of chunks in the file
+     * @param callback - The callback that is called when the file was assembled
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void completeUpload(String uploadId, String fileName, long fileSize, int chunkCount,
+            AsyncCallback<Void> callback) {
+        HashMap<Integer, byte[]> chunks = uploads.get(uploadId);
+        byte[] file = new byte[(int) fileSize];
+        int offset = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            byte[] chunk = chunks == null ? null : chunks.get(i);
+            if (chunk == null || offset + chunk.length > file.length) {
+                callback.onFailure(new Exception("The upload " + uploadId + " is missing chunk " + i));
+                return;
+            }
+            System.arraycopy(chunk, 0, file, offset, chunk.length);
+            offset += chunk.length;
+        }
+        if (offset != fileSize) {
+            callback.onFailure(new Exception("The upload " + uploadId + " is not the expected size"));
+            return;
+        }
+        uploads.remove(uploadId);
+        completedFiles.put(uploadId, file);
+        callback.onSuccess(null);
+    }
+}
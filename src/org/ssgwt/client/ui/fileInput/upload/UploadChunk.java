@@ -0,0 +1,128 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+/**
+ * A chunk of a file that is uploaded by a {@link ChunkedUpload}
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class UploadChunk {
+
+    /**
+     * The index of the chunk in the file
+     */
+    private final int index;
+
+    /**
+     * The offset of the chunk in the file
+     */
+    private final long offset;
+
+    /**
+     * The number of bytes in the chunk
+     */
+    private final int length;
+
+    /**
+     * The CRC-32 checksum of the chunk as hexadecimal digits
+     */
+    private final String checksum;
+
+    /**
+     * The data of the chunk in the form the chunk source provides it
+     */
+    private final Object payload;
+
+    /**
+     * Class constructor
+     *
+     * @param index - The index of the chunk in the file
+     * @param offset - The offset of the chunk in the file
+     * @param length - The number of bytes in the chunk
+     * @param checksum - The CRC-32 checksum of the chunk as hexadecimal digits
+     * @param payload - The data of the chunk in the form the chunk source provides it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public UploadChunk(int index, long offset, int length, String checksum, Object payload) {
+        this.index = index;
+        this.offset = offset;
+        this.length = length;
+        this.checksum = checksum;
+        this.payload = payload;
+    }
+
+    /**
+     * Getter for the index
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the index of the chunk in the file
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter for the offset
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the offset of the chunk in the file
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Getter for the length
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the number of bytes in the chunk
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Getter for the checksum
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the CRC-32 checksum of the chunk as hexadecimal digits
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Getter for the payload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the data of the chunk in the form the chunk source provides it
+     */
+    public Object getPayload() {
+        return payload;
+    }
+}
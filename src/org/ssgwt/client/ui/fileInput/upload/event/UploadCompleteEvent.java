@@ -0,0 +1,156 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload.event;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Event dispatched by a chunked upload when the upload completed or failed
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class UploadCompleteEvent extends GwtEvent<UploadCompleteEvent.UploadCompleteHandler> {
+
+    /**
+     * Type of the event.
+     */
+    public static Type<UploadCompleteHandler> TYPE = new Type<UploadCompleteHandler>();
+
+    /**
+     * The error that caused the upload to fail, null if the upload succeeded
+     */
+    private Throwable error;
+
+    /**
+     * Handler interface that should be implemented by components that wish to
+     * handle the event when it is dispatched.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface UploadCompleteHandler extends EventHandler {
+
+        /**
+         * Method to be called when a {@link UploadCompleteEvent} is
+         * being handled.
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @param event The event being handled.
+         */
+        void onUploadComplete(UploadCompleteEvent event);
+    }
+
+    /**
+     * Function to add the handler to the class
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface UploadCompleteHasHandlers extends HasHandlers {
+        HandlerRegistration addUploadCompleteHandler(UploadCompleteHandler handler);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param error - The error that caused the upload to fail, null if the upload succeeded
+     */
+    public UploadCompleteEvent(Throwable error) {
+        this.error = error;
+    }
+
+    /**
+     * Whether the upload succeeded
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the upload succeeded
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    /**
+     * Getter for the error
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the error that caused the upload to fail, null if the upload succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Dispatches the event to the given handler.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param handler - The component that should handle the event.
+     */
+    @Override
+    protected void dispatch(UploadCompleteHandler handler) {
+        handler.onUploadComplete(this);
+    }
+
+    /**
+     * Returns the associated type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The associated type.
+     */
+    @Override
+    public Type<UploadCompleteHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the Type of the event
+     */
+    public static Type<UploadCompleteHandler> getType() {
+        return TYPE;
+    }
+
+    /**
+     * Convenience method used to easily dispatch events of this type.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param source The component that dispatches the event.
+     * @param error - The error that caused the upload to fail, null if the upload succeeded
+     */
+    public static void fire(HasHandlers source, Throwable error) {
+        source.fireEvent(new UploadCompleteEvent(error));
+    }
+}
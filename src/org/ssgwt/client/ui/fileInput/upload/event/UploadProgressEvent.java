@@ -0,0 +1,176 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload.event;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Event dispatched by a chunked upload each time a chunk was uploaded
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class UploadProgressEvent extends GwtEvent<UploadProgressEvent.UploadProgressHandler> {
+
+    /**
+     * Type of the event.
+     */
+    public static Type<UploadProgressHandler> TYPE = new Type<UploadProgressHandler>();
+
+    /**
+     * The number of bytes that were uploaded
+     */
+    private long uploadedBytes;
+
+    /**
+     * The number of bytes in the file
+     */
+    private long totalBytes;
+
+    /**
+     * Handler interface that should be implemented by components that wish to
+     * handle the event when it is dispatched.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface UploadProgressHandler extends EventHandler {
+
+        /**
+         * Method to be called when a {@link UploadProgressEvent} is
+         * being handled.
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @param event The event being handled.
+         */
+        void onUploadProgress(UploadProgressEvent event);
+    }
+
+    /**
+     * Function to add the handler to the class
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface UploadProgressHasHandlers extends HasHandlers {
+        HandlerRegistration addUploadProgressHandler(UploadProgressHandler handler);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param uploadedBytes - The number of bytes that were uploaded
+     * @param totalBytes - The number of bytes in the file
+     */
+    public UploadProgressEvent(long uploadedBytes, long totalBytes) {
+        this.uploadedBytes = uploadedBytes;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Getter for the uploadedBytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the number of bytes that were uploaded
+     */
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    /**
+     * Getter for the totalBytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the number of bytes in the file
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Retrieves the fraction of the file that was uploaded
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return A value from 0 to 1
+     */
+    public double getProgress() {
+        return totalBytes == 0 ? 1 : (double) uploadedBytes / totalBytes;
+    }
+
+    /**
+     * Dispatches the event to the given handler.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param handler - The component that should handle the event.
+     */
+    @Override
+    protected void dispatch(UploadProgressHandler handler) {
+        handler.onUploadProgress(this);
+    }
+
+    /**
+     * Returns the associated type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The associated type.
+     */
+    @Override
+    public Type<UploadProgressHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the Type of the event
+     */
+    public static Type<UploadProgressHandler> getType() {
+        return TYPE;
+    }
+
+    /**
+     * Convenience method used to easily dispatch events of this type.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param source The component that dispatches the event.
+     * @param uploadedBytes - The number of bytes that were uploaded
+     * @param totalBytes - The number of bytes in the file
+     */
+    public static void fire(HasHandlers source, long uploadedBytes, long totalBytes) {
+        source.fireEvent(new UploadProgressEvent(uploadedBytes, totalBytes));
+    }
+}
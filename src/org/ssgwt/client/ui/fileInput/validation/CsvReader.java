@@ -0,0 +1,330 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV rows from UTF-8 bytes that are passed to it in parts, so a file
+ * can be read a chunk at a time. Quoted fields may contain delimiters, line
+ * breaks and doubled quotes and may be split across chunks. The fields of
+ * the first rows are passed to a handler and the remaining rows are only
+ * counted, so the memory used does not grow with the file. Blank lines are
+ * not counted as rows.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class CsvReader {
+
+    /**
+     * The character used for bytes that are not valid UTF-8
+     */
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    /**
+     * Receives the fields of the rows that are read
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface RowHandler {
+
+        /**
+         * Called for each of the first rows of the file
+         *
+         * @param rowNumber - The number of the row, starting at 1
+         * @param fields - The fields of the row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void onRow(long rowNumber, List<String> fields);
+    }
+
+    /**
+     * The character the fields are separated with
+     */
+    private final char delimiter;
+
+    /**
+     * The handler that receives the fields of the first rows
+     */
+    private final RowHandler handler;
+
+    /**
+     * The number of rows whose fields are passed to the handler
+     */
+    private final long handledRowCount;
+
+    /**
+     * The number of rows read
+     */
+    private long rowCount = 0;
+
+    /**
+     * The fields of the current row
+     */
+    private ArrayList<String> fields = new ArrayList<String>();
+
+    /**
+     * The value of the current field
+     */
+    private final StringBuilder field = new StringBuilder();
+
+    /**
+     * Whether the current field started with a quote
+     */
+    private boolean fieldQuoted = false;
+
+    /**
+     * Whether the reader is inside a quoted field
+     */
+    private boolean inQuotes = false;
+
+    /**
+     * Whether a quote was read inside a quoted field, which either closes
+     * the field or is the first half of a doubled quote
+     */
+    private boolean quotePending = false;
+
+    /**
+     * Whether the current row has any content
+     */
+    private boolean rowStarted = false;
+
+    /**
+     * Whether the previous character was a carriage return
+     */
+    private boolean previousCarriageReturn = false;
+
+    /**
+     * Whether a character was read, used to skip the byte order mark
+     */
+    private boolean characterRead = false;
+
+    /**
+     * The bits of the UTF-8 sequence being decoded
+     */
+    private int codePoint = 0;
+
+    /**
+     * The number of continuation bytes the UTF-8 sequence being decoded still needs
+     */
+    private int remainingBytes = 0;
+
+    /**
+     * Class constructor
+     *
+     * @param delimiter - The character the fields are separated with
+     * @param handledRowCount - The number of rows whose fields are passed to the handler
+     * @param handler - The handler that receives the fields of the first rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public CsvReader(char delimiter, long handledRowCount, RowHandler handler) {
+        this.delimiter = delimiter;
+        this.handledRowCount = handledRowCount;
+        this.handler = handler;
+    }
+
+    /**
+     * Reads the next part of the file
+     *
+     * @param bytes - The bytes of the part
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void read(byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            if (remainingBytes > 0) {
+                if ((value & 0xC0) == 0x80) {
+                    codePoint = (codePoint << 6) | (value & 0x3F);
+                    if (--remainingBytes == 0) {
+                        readCodePoint(codePoint);
+                    }
+                    continue;
+                }
+                remainingBytes = 0;
+                readCharacter(REPLACEMENT_CHARACTER);
+            }
+            if (value < 0x80) {
+                readCharacter((char) value);
+            } else if ((value & 0xE0) == 0xC0) {
+                codePoint = value & 0x1F;
+                remainingBytes = 1;
+            } else if ((value & 0xF0) == 0xE0) {
+                codePoint = value & 0x0F;
+                remainingBytes = 2;
+            } else if ((value & 0xF8) == 0xF0) {
+                codePoint = value & 0x07;
+                remainingBytes = 3;
+            } else {
+                readCharacter(REPLACEMENT_CHARACTER);
+            }
+        }
+    }
+
+    /**
+     * Reads the end of the file, completing the last row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return false if the file ended inside a quoted field
+     */
+    public boolean finish() {
+        if (remainingBytes > 0) {
+            remainingBytes = 0;
+            readCharacter(REPLACEMENT_CHARACTER);
+        }
+        boolean terminated = !inQuotes || quotePending;
+        inQuotes = false;
+        quotePending = false;
+        endRow();
+        return terminated;
+    }
+
+    /**
+     * Retrieves the number of rows read
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Reads a decoded code point
+     *
+     * @param codePoint - The code point
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void readCodePoint(int codePoint) {
+        if (codePoint >= 0x10000) {
+            codePoint -= 0x10000;
+            readCharacter((char) (0xD800 + (codePoint >> 10)));
+            readCharacter((char) (0xDC00 + (codePoint & 0x3FF)));
+        } else if (codePoint == 0xFEFF && !characterRead) {
+            characterRead = true;
+        } else {
+            readCharacter((char) codePoint);
+        }
+    }
+
+    /**
+     * Reads a character
+     *
+     * @param character - The character
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void readCharacter(char character) {
+        characterRead = true;
+        if (inQuotes) {
+            if (!quotePending) {
+                if (character == '"') {
+                    quotePending = true;
+                } else {
+                    append(character);
+                }
+                return;
+            }
+            quotePending = false;
+            if (character == '"') {
+                append(character);
+                return;
+            }
+            inQuotes = false;
+        }
+        if (previousCarriageReturn) {
+            previousCarriageReturn = false;
+            if (character == '\n') {
+                return;
+            }
+        }
+        if (character == delimiter) {
+            endField();
+            rowStarted = true;
+        } else if (character == '\r' || character == '\n') {
+            previousCarriageReturn = character == '\r';
+            endRow();
+        } else if (character == '"' && !fieldQuoted && field.length() == 0) {
+            fieldQuoted = true;
+            inQuotes = true;
+            rowStarted = true;
+        } else {
+            append(character);
+            rowStarted = true;
+        }
+    }
+
+    /**
+     * Adds a character to the current field if the fields of the row are kept
+     *
+     * @param character - The character
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void append(char character) {
+        if (rowCount < handledRowCount) {
+            field.append(character);
+        }
+    }
+
+    /**
+     * Ends the current field
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void endField() {
+        if (rowCount < handledRowCount) {
+            fields.add(field.toString());
+        }
+        field.setLength(0);
+        fieldQuoted = false;
+    }
+
+    /**
+     * Ends the current row, blank lines are skipped
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void endRow() {
+        if (!rowStarted) {
+            return;
+        }
+        endField();
+        rowCount++;
+        if (rowCount <= handledRowCount) {
+            List<String> row = fields;
+            fields = new ArrayList<String>();
+            handler.onRow(rowCount, row);
+        }
+        rowStarted = false;
+    }
+}
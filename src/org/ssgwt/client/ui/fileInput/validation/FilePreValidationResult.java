@@ -0,0 +1,361 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of the validation of a file before it is uploaded
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FilePreValidationResult {
+
+    /**
+     * The name of the file
+     */
+    private final String fileName;
+
+    /**
+     * The message that explains why the type of the file is not accepted, null if it is accepted
+     */
+    private String typeError;
+
+    /**
+     * The number of data rows in the file, -1 if the rows were not counted
+     */
+    private long rowCount = -1;
+
+    /**
+     * Whether the whole file was read to count the rows
+     */
+    private boolean rowCountComplete = false;
+
+    /**
+     * Whether the file ended inside a quoted field
+     */
+    private boolean unterminatedQuote = false;
+
+    /**
+     * The number of rows whose values were validated
+     */
+    private long validatedRowCount = 0;
+
+    /**
+     * The errors found in the validated rows
+     */
+    private final ArrayList<CellError> errors = new ArrayList<CellError>();
+
+    /**
+     * Whether more errors were found than are kept
+     */
+    private boolean errorsTruncated = false;
+
+    /**
+     * A rule that failed on a value in a row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public static class CellError {
+
+        /**
+         * The number of the row, starting at 1 for the first data row
+         */
+        private final long rowNumber;
+
+        /**
+         * The index of the column
+         */
+        private final int column;
+
+        /**
+         * The value that is invalid
+         */
+        private final String value;
+
+        /**
+         * The error message of the rule
+         */
+        private final String message;
+
+        /**
+         * Class constructor
+         *
+         * @param rowNumber - The number of the row, starting at 1 for the first data row
+         * @param column - The index of the column
+         * @param value - The value that is invalid
+         * @param message - The error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        public CellError(long rowNumber, int column, String value, String message) {
+            this.rowNumber = rowNumber;
+            this.column = column;
+            this.value = value;
+            this.message = message;
+        }
+
+        /**
+         * Retrieves the number of the row, starting at 1 for the first data row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The row number
+         */
+        public long getRowNumber() {
+            return rowNumber;
+        }
+
+        /**
+         * Retrieves the index of the column
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The column index
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        /**
+         * Retrieves the value that is invalid
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The value
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Retrieves the error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The message
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param fileName - The name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public FilePreValidationResult(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Retrieves the name of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Whether the file passed all the checks
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the file is valid
+     */
+    public boolean isValid() {
+        return isTypeValid() && !unterminatedQuote && errors.isEmpty();
+    }
+
+    /**
+     * Whether the extension of the file is allowed and the content of the file matches it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the type of the file is accepted
+     */
+    public boolean isTypeValid() {
+        return typeError == null;
+    }
+
+    /**
+     * Retrieves the message that explains why the type of the file is not accepted
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The message or null if the type is accepted
+     */
+    public String getTypeError() {
+        return typeError;
+    }
+
+    /**
+     * Sets the message that explains why the type of the file is not accepted
+     *
+     * @param typeError - The message
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setTypeError(String typeError) {
+        this.typeError = typeError;
+    }
+
+    /**
+     * Retrieves the number of data rows in the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of rows, -1 if the file is not a text file
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Whether the whole file was read to count the rows. When only the
+     * validated rows were read the row count is a lower bound.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the row count is the number of rows in the file
+     */
+    public boolean isRowCountComplete() {
+        return rowCountComplete;
+    }
+
+    /**
+     * Sets the number of data rows in the file
+     *
+     * @param rowCount - The number of rows
+     * @param complete - Whether the whole file was read
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setRowCount(long rowCount, boolean complete) {
+        this.rowCount = rowCount;
+        this.rowCountComplete = complete;
+    }
+
+    /**
+     * Whether the file ended inside a quoted field
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if a quote was not closed
+     */
+    public boolean hasUnterminatedQuote() {
+        return unterminatedQuote;
+    }
+
+    /**
+     * Sets whether the file ended inside a quoted field
+     *
+     * @param unterminatedQuote - Whether a quote was not closed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setUnterminatedQuote(boolean unterminatedQuote) {
+        this.unterminatedQuote = unterminatedQuote;
+    }
+
+    /**
+     * Retrieves the number of rows whose values were validated
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of validated rows
+     */
+    public long getValidatedRowCount() {
+        return validatedRowCount;
+    }
+
+    /**
+     * Sets the number of rows whose values were validated
+     *
+     * @param validatedRowCount - The number of validated rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setValidatedRowCount(long validatedRowCount) {
+        this.validatedRowCount = validatedRowCount;
+    }
+
+    /**
+     * Retrieves the errors found in the validated rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The errors in the order they were found
+     */
+    public List<CellError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Whether more errors were found than are kept
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if errors were dropped
+     */
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    /**
+     * Adds an error if fewer than the maximum number of errors are kept
+     *
+     * @param error - The error
+     * @param maxErrors - The maximum number of errors that are kept
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void addError(CellError error, int maxErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,593 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ssgwt.client.ui.fileInput.upload.FileByteSource;
+import org.ssgwt.client.validation.ValidationRule;
+import org.ssgwt.client.validation.ValidatorChain;
+import org.ssgwt.client.validation.validators.ValidatorInterface;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Checks a file on the client before it is uploaded. The first bytes of the
+ * file are compared to the signature of its extension, so a file with a
+ * renamed extension is rejected. Text files are read as CSV: the rows are
+ * counted and the configured column rules are applied to the first rows.
+ *
+ * The file is read a chunk at a time and each chunk is processed when it
+ * was read, so a large file does not have to fit in memory and the browser
+ * stays responsive between chunks. The column rules use the same
+ * ValidationRule and ValidatorChain instances as the FormValidator and the
+ * BulkValidator on the server.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FilePreValidator {
+
+    /**
+     * The default number of bytes read at a time
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * The default number of rows whose values are validated
+     */
+    public static final int DEFAULT_VALIDATED_ROW_COUNT = 100;
+
+    /**
+     * The default maximum number of errors kept in the result
+     */
+    public static final int DEFAULT_MAX_ERRORS = 100;
+
+    /**
+     * The lower case extensions that are allowed, null to allow all extensions
+     */
+    private ArrayList<String> allowedExtensions;
+
+    /**
+     * The character the fields are separated with
+     */
+    private char delimiter = ',';
+
+    /**
+     * Whether the first row holds the column names
+     */
+    private boolean headerRow = false;
+
+    /**
+     * Whether the values are trimmed before they are validated
+     */
+    private boolean trimValues = true;
+
+    /**
+     * Whether the whole file is read to count the rows
+     */
+    private boolean countAllRows = true;
+
+    /**
+     * The number of rows whose values are validated
+     */
+    private int validatedRowCount = DEFAULT_VALIDATED_ROW_COUNT;
+
+    /**
+     * The maximum number of errors kept in the result
+     */
+    private int maxErrors = DEFAULT_MAX_ERRORS;
+
+    /**
+     * The number of bytes read at a time
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * The rules of each column in the order they were added
+     */
+    private final LinkedHashMap<Integer, ArrayList<ColumnRule>> columnRules = new LinkedHashMap<Integer, ArrayList<ColumnRule>>();
+
+    /**
+     * The validation in progress
+     */
+    private Validation validation;
+
+    /**
+     * A validator added to a column along with its error message
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class ColumnRule {
+
+        /**
+         * The configured validator
+         */
+        final ValidatorInterface<String> validator;
+
+        /**
+         * The error message of the rule, null to use the default message of the validator
+         */
+        final String errorMessage;
+
+        /**
+         * Class constructor
+         *
+         * @param validator - The configured validator
+         * @param errorMessage - The error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        ColumnRule(ValidatorInterface<String> validator, String errorMessage) {
+            this.validator = validator;
+            this.errorMessage = errorMessage;
+        }
+    }
+
+    /**
+     * The state of the validation of a single file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private class Validation implements AsyncCallback<byte[]>, CsvReader.RowHandler {
+
+        /**
+         * The file being validated
+         */
+        final FileByteSource source;
+
+        /**
+         * The callback that receives the result
+         */
+        final AsyncCallback<FilePreValidationResult> callback;
+
+        /**
+         * The result of the validation
+         */
+        final FilePreValidationResult result;
+
+        /**
+         * The reader of the rows, null until the file is known to be a text file
+         */
+        CsvReader reader;
+
+        /**
+         * The offset of the next byte to read
+         */
+        long offset = 0;
+
+        /**
+         * Whether the validation was cancelled or completed
+         */
+        boolean done = false;
+
+        /**
+         * Whether the read loop is running
+         */
+        boolean reading = false;
+
+        /**
+         * Whether the next chunk should be read
+         */
+        boolean readPending = false;
+
+        /**
+         * Class constructor
+         *
+         * @param source - The file being validated
+         * @param callback - The callback that receives the result
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        Validation(FileByteSource source, AsyncCallback<FilePreValidationResult> callback) {
+            this.source = source;
+            this.callback = callback;
+            this.result = new FilePreValidationResult(source.getName());
+        }
+
+        /**
+         * Reads the next chunk. A source that reads synchronously calls back
+         * before readBytes returns, so the chunks are read in a loop instead
+         * of recursively.
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void readNext() {
+            readPending = true;
+            if (reading) {
+                return;
+            }
+            reading = true;
+            while (readPending && !done) {
+                readPending = false;
+                int length = (int) Math.min(chunkSize, Math.max(0, source.getSize() - offset));
+                source.readBytes(offset, length, this);
+            }
+            reading = false;
+        }
+
+        /**
+         * Processes a chunk that was read
+         *
+         * @param bytes - The bytes of the chunk
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        @Override
+        public void onSuccess(byte[] bytes) {
+            if (done) {
+                return;
+            }
+            if (offset == 0 && !checkType(bytes)) {
+                complete(false);
+                return;
+            }
+            offset += bytes.length;
+            boolean endOfFile = bytes.length == 0 || offset >= source.getSize();
+            if (reader == null) {
+                complete(false);
+                return;
+            }
+            reader.read(bytes);
+            if (endOfFile || (!countAllRows && reader.getRowCount() >= getHandledRowCount())) {
+                complete(endOfFile);
+            } else {
+                readNext();
+            }
+        }
+
+        /**
+         * Called when a chunk could not be read
+         *
+         * @param caught - The reason the chunk could not be read
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        @Override
+        public void onFailure(Throwable caught) {
+            if (!done) {
+                finish();
+                callback.onFailure(caught);
+            }
+        }
+
+        /**
+         * Checks the extension of the file and compares the first bytes to
+         * the signature of the extension. A reader is created for text files.
+         *
+         * @param header - The first chunk of the file
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return false if the type of the file is not accepted
+         */
+        boolean checkType(byte[] header) {
+            String extension = getExtension(source.getName());
+            if (allowedExtensions != null && !allowedExtensions.contains(extension)) {
+                result.setTypeError("Files of type ." + extension + " are not allowed");
+                return false;
+            }
+            FileSignature signature = FileSignature.getSignature(extension);
+            if (signature == null) {
+                return true;
+            }
+            if (!signature.matches(header)) {
+                result.setTypeError("The content of the file does not match its ." + extension + " extension");
+                return false;
+            }
+            if (signature.isText()) {
+                reader = new CsvReader(delimiter, getHandledRowCount(), this);
+            }
+            return true;
+        }
+
+        /**
+         * Validates the values of one of the first rows
+         *
+         * @param rowNumber - The number of the row, starting at 1
+         * @param fields - The fields of the row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        @Override
+        public void onRow(long rowNumber, List<String> fields) {
+            long dataRowNumber = headerRow ? rowNumber - 1 : rowNumber;
+            if (dataRowNumber < 1) {
+                return;
+            }
+            for (Map.Entry<Integer, ArrayList<ColumnRule>> entry : columnRules.entrySet()) {
+                int column = entry.getKey();
+                String value = column < fields.size() ? fields.get(column) : "";
+                if (trimValues) {
+                    value = value.trim();
+                }
+                for (ColumnRule rule : entry.getValue()) {
+                    if (!rule.validator.isValid(value)) {
+                        String message = rule.errorMessage != null ? rule.errorMessage : rule.validator.getDefaultValidationMessage();
+                        result.addError(new FilePreValidationResult.CellError(dataRowNumber, column, value, message), maxErrors);
+                    }
+                }
+            }
+            result.setValidatedRowCount(dataRowNumber);
+        }
+
+        /**
+         * Completes the validation and passes the result to the callback
+         *
+         * @param endOfFile - Whether the whole file was read
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void complete(boolean endOfFile) {
+            if (reader != null) {
+                if (endOfFile) {
+                    result.setUnterminatedQuote(!reader.finish());
+                }
+                long rowCount = reader.getRowCount() - (headerRow ? 1 : 0);
+                result.setRowCount(Math.max(0, rowCount), endOfFile);
+            }
+            finish();
+            callback.onSuccess(result);
+        }
+
+        /**
+         * Marks the validation as done
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void finish() {
+            done = true;
+            if (validation == this) {
+                validation = null;
+            }
+        }
+    }
+
+    /**
+     * Sets the extensions that are allowed
+     *
+     * @param allowedExtensions - The extensions without the dot, null to allow all extensions
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setAllowedExtensions(List<String> allowedExtensions) {
+        if (allowedExtensions == null) {
+            this.allowedExtensions = null;
+            return;
+        }
+        this.allowedExtensions = new ArrayList<String>();
+        for (String extension : allowedExtensions) {
+            this.allowedExtensions.add(extension.toLowerCase());
+        }
+    }
+
+    /**
+     * Sets the character the fields of text files are separated with
+     *
+     * @param delimiter - The delimiter, a comma by default
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Sets whether the first row holds the column names. The header row is
+     * not validated and not counted.
+     *
+     * @param headerRow - Whether the first row holds the column names
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setHeaderRow(boolean headerRow) {
+        this.headerRow = headerRow;
+    }
+
+    /**
+     * Sets whether the values are trimmed before they are validated
+     *
+     * @param trimValues - Whether the values are trimmed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setTrimValues(boolean trimValues) {
+        this.trimValues = trimValues;
+    }
+
+    /**
+     * Sets whether the whole file is read to count the rows. When this is
+     * switched off reading stops after the validated rows.
+     *
+     * @param countAllRows - Whether the whole file is read
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setCountAllRows(boolean countAllRows) {
+        this.countAllRows = countAllRows;
+    }
+
+    /**
+     * Sets the number of data rows whose values are validated
+     *
+     * @param validatedRowCount - The number of rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setValidatedRowCount(int validatedRowCount) {
+        this.validatedRowCount = Math.max(0, validatedRowCount);
+    }
+
+    /**
+     * Sets the maximum number of errors kept in the result
+     *
+     * @param maxErrors - The maximum number of errors
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = Math.max(0, maxErrors);
+    }
+
+    /**
+     * Sets the number of bytes read at a time. The chunk is at least large
+     * enough to hold the bytes the signature of a file is checked on.
+     *
+     * @param chunkSize - The number of bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = Math.max(FileSignature.TEXT_CHECK_LENGTH, chunkSize);
+    }
+
+    /**
+     * Adds a validation rule to a column. The rule has to use a validator
+     * that validates strings.
+     *
+     * @param column - The index of the column
+     * @param rule - The validation rule
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IllegalArgumentException if the validator of the rule does not validate strings
+     */
+    public void addColumnRule(int column, ValidationRule rule) {
+        getColumnRules(column).add(new ColumnRule(rule.createStringValidator(), rule.getErrorMessage()));
+    }
+
+    /**
+     * Adds the validators of a validator chain to a column. The default
+     * message of a validator is used when it fails.
+     *
+     * @param column - The index of the column
+     * @param chain - The chain with the configured validators
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addColumnChain(int column, ValidatorChain<String> chain) {
+        for (ValidatorInterface<String> validator : chain.getValidators()) {
+            getColumnRules(column).add(new ColumnRule(validator, null));
+        }
+    }
+
+    /**
+     * Validates a file, cancelling the validation in progress
+     *
+     * @param source - The file to validate
+     * @param callback - The callback that receives the result
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void validate(FileByteSource source, AsyncCallback<FilePreValidationResult> callback) {
+        cancel();
+        validation = new Validation(source, callback);
+        validation.readNext();
+    }
+
+    /**
+     * Cancels the validation in progress, its callback is not called
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void cancel() {
+        if (validation != null) {
+            validation.finish();
+        }
+    }
+
+    /**
+     * Whether a validation is in progress
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true while a file is being read
+     */
+    public boolean isValidating() {
+        return validation != null;
+    }
+
+    /**
+     * Retrieves the number of rows whose fields are read, including the header row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of rows
+     */
+    private long getHandledRowCount() {
+        return validatedRowCount + (headerRow ? 1 : 0);
+    }
+
+    /**
+     * Retrieves the lower case extension of a file name
+     *
+     * @param fileName - The file name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The extension without the dot, empty if the name has no extension
+     */
+    private static String getExtension(String fileName) {
+        int index = fileName == null ? -1 : fileName.lastIndexOf('.');
+        return index < 0 ? "" : fileName.substring(index + 1).toLowerCase();
+    }
+
+    /**
+     * Retrieves the rules of a column, adding the column if it has no rules yet
+     *
+     * @param column - The index of the column
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The rules of the column
+     */
+    private ArrayList<ColumnRule> getColumnRules(int column) {
+        ArrayList<ColumnRule> rules = columnRules.get(column);
+        if (rules == null) {
+            rules = new ArrayList<ColumnRule>();
+            columnRules.put(column, rules);
+        }
+        return rules;
+    }
+}
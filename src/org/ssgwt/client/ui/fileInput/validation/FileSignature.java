@@ -0,0 +1,217 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.validation;
+
+import java.util.HashMap;
+
+/**
+ * The bytes a file of a type starts with. The signature of the extension of
+ * a file is compared to the first bytes of the file so a file is not trusted
+ * only because of its extension. Text files have no magic number, they are
+ * accepted when their first bytes contain no NUL bytes.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FileSignature {
+
+    /**
+     * The number of bytes checked for NUL bytes in a text file
+     */
+    public static final int TEXT_CHECK_LENGTH = 4096;
+
+    /**
+     * The signature of text files
+     */
+    public static final FileSignature TEXT = new FileSignature(true, new int[0][]);
+
+    /**
+     * The signatures of the extensions, keyed on the lower case extension
+     */
+    private static final HashMap<String, FileSignature> signatures = new HashMap<String, FileSignature>();
+
+    static {
+        FileSignature zip = new FileSignature(new int[] {0x50, 0x4B, 0x03, 0x04});
+        FileSignature compoundDocument = new FileSignature(new int[] {0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1});
+        FileSignature jpeg = new FileSignature(new int[] {0xFF, 0xD8, 0xFF});
+        registerSignature("pdf", new FileSignature(new int[] {0x25, 0x50, 0x44, 0x46}));
+        registerSignature("png", new FileSignature(new int[] {0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A}));
+        registerSignature("gif", new FileSignature(new int[] {0x47, 0x49, 0x46, 0x38}));
+        registerSignature("jpg", jpeg);
+        registerSignature("jpeg", jpeg);
+        registerSignature("zip", zip);
+        registerSignature("docx", zip);
+        registerSignature("xlsx", zip);
+        registerSignature("pptx", zip);
+        registerSignature("odt", zip);
+        registerSignature("ods", zip);
+        registerSignature("doc", compoundDocument);
+        registerSignature("xls", compoundDocument);
+        registerSignature("ppt", compoundDocument);
+        registerSignature("csv", TEXT);
+        registerSignature("tsv", TEXT);
+        registerSignature("txt", TEXT);
+        registerSignature("xml", TEXT);
+        registerSignature("json", TEXT);
+    }
+
+    /**
+     * Whether the signature is the one of text files
+     */
+    private final boolean text;
+
+    /**
+     * The magic numbers a file can start with
+     */
+    private final int[][] magicNumbers;
+
+    /**
+     * Class constructor for a binary file type
+     *
+     * @param magicNumbers - The magic numbers a file of the type can start with
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public FileSignature(int[]... magicNumbers) {
+        this(false, magicNumbers);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param text - Whether the signature is the one of text files
+     * @param magicNumbers - The magic numbers a file of the type can start with
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private FileSignature(boolean text, int[][] magicNumbers) {
+        this.text = text;
+        this.magicNumbers = magicNumbers;
+    }
+
+    /**
+     * Sets the signature of an extension, replacing the built in signature
+     *
+     * @param extension - The file extension
+     * @param signature - The signature of files with the extension, null to remove it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public static void registerSignature(String extension, FileSignature signature) {
+        if (signature == null) {
+            signatures.remove(extension.toLowerCase());
+        } else {
+            signatures.put(extension.toLowerCase(), signature);
+        }
+    }
+
+    /**
+     * Retrieves the signature of an extension
+     *
+     * @param extension - The file extension
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The signature or null if no signature is known for the extension
+     */
+    public static FileSignature getSignature(String extension) {
+        return extension == null ? null : signatures.get(extension.toLowerCase());
+    }
+
+    /**
+     * Whether the signature is the one of text files
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true for text files
+     */
+    public boolean isText() {
+        return text;
+    }
+
+    /**
+     * Retrieves the number of bytes at the start of a file that are needed to check the signature
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes
+     */
+    public int getHeaderLength() {
+        if (text) {
+            return TEXT_CHECK_LENGTH;
+        }
+        int length = 0;
+        for (int[] magicNumber : magicNumbers) {
+            length = Math.max(length, magicNumber.length);
+        }
+        return length;
+    }
+
+    /**
+     * Whether the first bytes of a file match the signature
+     *
+     * @param header - The first bytes of the file, as many as getHeaderLength or the whole file if it is shorter
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the file matches the signature
+     */
+    public boolean matches(byte[] header) {
+        if (text) {
+            int length = Math.min(header.length, TEXT_CHECK_LENGTH);
+            for (int i = 0; i < length; i++) {
+                if (header[i] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int[] magicNumber : magicNumbers) {
+            if (startsWith(header, magicNumber)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the bytes start with a magic number
+     *
+     * @param bytes - The bytes to check
+     * @param magicNumber - The magic number
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the bytes start with the magic number
+     */
+    private static boolean startsWith(byte[] bytes, int[] magicNumber) {
+        if (bytes.length < magicNumber.length) {
+            return false;
+        }
+        for (int i = 0; i < magicNumber.length; i++) {
+            if ((bytes[i] & 0xFF) != magicNumber[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -16,6 +16,7 @@ import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.HasValue;
@@ -84,13 +85,17 @@ public abstract class ComplexInput<T>
 
     /**
      * The save buttons.
+     *
+     * When the edit form is constructed lazily this is null until the field is first edited
      */
-    protected ImageButton saveButton = new ImageButton("Done");
+    protected ImageButton saveButton;
 
     /**
      * The undo button
+     *
+     * When the edit form is constructed lazily this is null until the field is first edited
      */
-    protected ImageButton undoButton = new ImageButton("Cancel");
+    protected ImageButton undoButton;
 
     /**
      * The add buttons
@@ -153,6 +158,37 @@ public abstract class ComplexInput<T>
      */
     protected ComplexInputFormActionHandler complexInputFormActionHandler;
 
+    /**
+     * Flag that indicates if the dynamic form and edit buttons are only constructed when the field is first edited
+     */
+    private final boolean lazyEditForm;
+
+    /**
+     * Flag that indicates if the dynamic form and edit buttons have been constructed
+     */
+    private boolean editFormConstructed = false;
+
+    /**
+     * Flag that indicates if the edit form is being used to edit or add a
+     * record, a lazily constructed edit form is only released while it is not
+     */
+    private boolean editFormInUse = false;
+
+    /**
+     * The dynamic form created by createDynamicForm when the edit form is constructed lazily
+     */
+    private DynamicForm<T> lazyDynamicForm;
+
+    /**
+     * The number of milliseconds the field should be in view state before a lazily constructed edit form is released, -1 to never release it
+     */
+    private int editFormReleaseDelay = -1;
+
+    /**
+     * The timer that will release the lazily constructed edit form
+     */
+    private Timer editFormReleaseTimer;
+
     /**
      * Class constructor
      *
@@ -160,6 +196,28 @@ public abstract class ComplexInput<T>
      * @since  22 November 2012
      */
     public ComplexInput() {
+        this(false);
+    }
+
+    /**
+     * Class constructor
+     *
+     * If the edit form is constructed lazily the dynamic form and the edit buttons
+     * are only constructed when the field is first put in the edit or add state.
+     * The dynamic form is then created by createDynamicForm, which the
+     * implementation must override instead of getDynamicForm.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param lazyEditForm - Whether the dynamic form and edit buttons should be constructed lazily
+     */
+    protected ComplexInput(boolean lazyEditForm) {
+        this.lazyEditForm = lazyEditForm;
+        if (!lazyEditForm) {
+            saveButton = new ImageButton("Done");
+            undoButton = new ImageButton("Cancel");
+        }
         initWidget(mainPanel);
     }
 
@@ -221,7 +279,9 @@ public abstract class ComplexInput<T>
         messagePanel.setVisible(false);
         mainPanel.add(messagePanel);
 
-        dynamicFormPanel.add(getDynamicForm());
+        if (!lazyEditForm) {
+            dynamicFormPanel.add(getDynamicForm());
+        }
         dynamicFormPanel.addStyleName(displayInlineStyle);
 
         viewPanel.add(getUiBinder());
@@ -242,10 +302,6 @@ public abstract class ComplexInput<T>
         removeLabel.setStyleName(complexLabelButtonStyle, true);
         viewButtons.setStyleName(displayInlineStyle, true);
 
-        editButtons.add(saveButton);
-        saveButton.addStyleName(complexSaveButtonStyle);
-        editButtons.add(undoButton);
-        undoButton.setStyleName(complexUndoButtonStyle, true);
         editButtons.setStyleName(displayInlineStyle);
 
         addButton.setStyleName(complexAddButtonStyle);
@@ -272,6 +328,7 @@ public abstract class ComplexInput<T>
                  */
                 @Override
                 public void onClick(ClickEvent event) {
+                    ensureEditForm();
                     setEditState();
                     mainPanel.removeStyleName(grayRowStyling);
                 }
@@ -320,6 +377,71 @@ public abstract class ComplexInput<T>
             }
         );
 
+        if (!lazyEditForm) {
+            ensureEditForm();
+        }
+    }
+
+    /**
+     * Constructs the dynamic form and the edit buttons if they have not been
+     * constructed yet and marks the edit form as in use, so a lazily
+     * constructed edit form is not released until the field is put in the
+     * view state again with setViewButtons. This is called when the field is
+     * edited or used to add a record.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    protected void ensureEditForm() {
+        if (editFormReleaseTimer != null) {
+            editFormReleaseTimer.cancel();
+        }
+        editFormInUse = true;
+        constructEditForm();
+    }
+
+    /**
+     * Creates the dynamic form of a field that constructs its edit form
+     * lazily. The form is created when the field is first edited or used to
+     * add a record, and again after a released edit form is needed. Fields
+     * that construct the edit form lazily must override this function and
+     * must not override getDynamicForm.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return A new dynamic form
+     */
+    protected DynamicForm<T> createDynamicForm() {
+        throw new UnsupportedOperationException("A ComplexInput that constructs its edit form lazily must override createDynamicForm");
+    }
+
+    /**
+     * Constructs the dynamic form and the edit buttons if they have not been constructed yet
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void constructEditForm() {
+        if (editFormConstructed) {
+            return;
+        }
+        editFormConstructed = true;
+        if (lazyEditForm) {
+            lazyDynamicForm = createDynamicForm();
+            if (getDynamicForm() != lazyDynamicForm) {
+                throw new IllegalStateException("A ComplexInput that constructs its edit form lazily must create "
+                    + "its dynamic form in createDynamicForm instead of overriding getDynamicForm");
+            }
+            dynamicFormPanel.add(lazyDynamicForm);
+            saveButton = new ImageButton("Done");
+            undoButton = new ImageButton("Cancel");
+        }
+        editButtons.add(saveButton);
+        saveButton.addStyleName(complexSaveButtonStyle);
+        editButtons.add(undoButton);
+        undoButton.setStyleName(complexUndoButtonStyle, true);
+
         /**
          * Add click handler on saveButton
          */
@@ -363,6 +485,73 @@ public abstract class ComplexInput<T>
         );
     }
 
+    /**
+     * Sets the number of milliseconds the field should be in view state before
+     * a lazily constructed dynamic form and edit buttons are released again.
+     * Released components are constructed again the next time the field is edited.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param editFormReleaseDelay - The delay in milliseconds, -1 to never release the edit form
+     */
+    public void setEditFormReleaseDelay(int editFormReleaseDelay) {
+        this.editFormReleaseDelay = editFormReleaseDelay;
+    }
+
+    /**
+     * Schedules the release of the lazily constructed edit form once the field is in view state
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void scheduleEditFormRelease() {
+        if (!lazyEditForm || !editFormConstructed || editFormInUse || editFormReleaseDelay < 0) {
+            return;
+        }
+        if (editFormReleaseTimer == null) {
+            editFormReleaseTimer = new Timer() {
+
+                @Override
+                public void run() {
+                    releaseEditForm();
+                }
+            };
+        }
+        editFormReleaseTimer.schedule(editFormReleaseDelay);
+    }
+
+    /**
+     * Releases the lazily constructed dynamic form and edit buttons if the edit form is not in use
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void releaseEditForm() {
+        if (!editFormConstructed || editFormInUse) {
+            return;
+        }
+        editFormConstructed = false;
+        lazyDynamicForm = null;
+        dynamicFormPanel.clear();
+        editButtons.clear();
+        saveButton = null;
+        undoButton = null;
+        onEditFormReleased();
+    }
+
+    /**
+     * Called when a lazily constructed dynamic form has been released. The
+     * implementation should release its references to the input fields of the
+     * released form, createDynamicForm is called again the next time the
+     * field is edited.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    protected void onEditFormReleased() {
+    }
+
     /**
      * This function will be responsible for the canceling of data
      *
@@ -382,14 +571,25 @@ public abstract class ComplexInput<T>
     public abstract Widget getUiBinder();
 
     /**
-     * Abstract function for the get of the DynamicForm
+     * Function for the get of the DynamicForm
+     *
+     * Fields that construct the edit form eagerly must override this function.
+     * For fields that construct the edit form lazily the form created by
+     * createDynamicForm is returned, constructing it if needed.
      *
      * @author Alec Erasmus <alec.erasmus@a24group.com>
      * @since  22 November 2012
      *
      * @return the DynamicForm
      */
-    public abstract DynamicForm<T> getDynamicForm();
+    public DynamicForm<T> getDynamicForm() {
+        if (!lazyEditForm) {
+            throw new UnsupportedOperationException("A ComplexInput that constructs its edit form eagerly must override getDynamicForm");
+        }
+        constructEditForm();
+        scheduleEditFormRelease();
+        return lazyDynamicForm;
+    }
 
     /**
      * Abstract function to set the field in a view state
@@ -453,6 +653,7 @@ public abstract class ComplexInput<T>
      * @return the save button
      */
     public ImageButton getSaveButton() {
+        ensureEditForm();
         return saveButton;
     }
 
@@ -577,6 +778,7 @@ public abstract class ComplexInput<T>
      * @since  22 November 2012
      */
     protected void setAddButton() {
+        ensureEditForm();
         setActionPanel(addButton);
     }
 
@@ -597,6 +799,8 @@ public abstract class ComplexInput<T>
      */
     protected void setViewButtons() {
         setActionPanel(viewButtons);
+        editFormInUse = false;
+        scheduleEditFormRelease();
     }
 
     /**
@@ -606,6 +810,7 @@ public abstract class ComplexInput<T>
      * @since  22 November 2012
      */
     protected void setEditButtons() {
+        ensureEditForm();
         setActionPanel(editButtons);
     }
 
@@ -1,6 +1,7 @@
 package org.ssgwt.client.ui.form;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import org.ssgwt.client.ui.form.event.ComplexInputFormActionEvent;
@@ -57,6 +58,11 @@ public abstract class ComplexInputForm<OutterVO, InnerVO, TheField extends Compl
      */
     private final ArrayList<TheField> fields = new ArrayList<TheField>();
 
+    /**
+     * The VO each field in view state was created for, used to reuse the fields when the values are set again
+     */
+    private final IdentityHashMap<TheField, InnerVO> fieldVOs = new IdentityHashMap<TheField, InnerVO>();
+
     /**
      * Used to apply the gray row style
      */
@@ -219,27 +225,27 @@ public abstract class ComplexInputForm<OutterVO, InnerVO, TheField extends Compl
         if (innerVOs == null) {
             innerVOs = new ArrayList<InnerVO>();
         }
-        innerVOs.add(fields.get(0).getValue());
+        InnerVO addedVO = fields.get(0).getValue();
+        innerVOs.add(addedVO);
+        fieldVOs.put(fields.get(0), addedVO);
         // After the values in the field is added to the array innerVO set the field to view state
         fields.get(0).setViewState();
-        // Create a new add field
+        // Create a new add field, its edit form is always required
         TheField field = createField();
+        field.ensureEditForm();
         // Add the required handlers
         addComplexInputFormHandlers(field);
         // Add the new add field at index 0.
         // The field at index 0 is always the add field
         fields.add(0, field);
-        // The field needs to be re-added to the main panel because the added
-        // field needs to be at the top and cannot be added on a panel at index 0.
-        // The index of the field in the array can be re-added to the main panel
-        // in the correct order but it first needs to be cleared from the main panel.
-        complexInputForm.clear();
+        // Only the new add field is inserted at the top of the main panel, the
+        // other fields stay attached and only have their row styles updated.
+        complexInputForm.insert(field, 0);
         for (TheField inputField : fields) {
             if (!inputField.dynamicFormPanel.isVisible()) {
                 inputField.addStyleName(STYLE_GRAY_ROW);
             }
             inputField.removeStyleName(STYLE_FIRST_ROW);
-            complexInputForm.add(inputField);
         }
         field.removeStyleName(STYLE_GRAY_ROW);
         field.addStyleName(STYLE_FIRST_ROW);
@@ -278,12 +284,15 @@ public abstract class ComplexInputForm<OutterVO, InnerVO, TheField extends Compl
     public void removeField(InnerVO removeVO, TheField removeField) {
         innerVOs.remove(removeVO);
         fields.remove(removeField);
+        fieldVOs.remove(removeField);
         complexInputForm.remove(removeField);
     }
 
     /**
      * Set the values on the fields within the form.
-     * The fields is auto generated for each VO in the list.
+     * The fields that were created for a VO in the list are kept for that VO,
+     * the remaining existing fields are reused for the other VOs and new fields
+     * are only generated if there are more VOs than existing fields.
      *
      * @author Alec Erasmus<alec.erasmus@a24group.com>
      * @since  22 November 2012
@@ -293,14 +302,67 @@ public abstract class ComplexInputForm<OutterVO, InnerVO, TheField extends Compl
     @Override
     public void setValue(List<InnerVO> value) {
         this.innerVOs = value;
-        // Clear the field list
+        // The add field is always at index 0 and is recreated so that it is empty
+        if (!fields.isEmpty()) {
+            complexInputForm.remove(fields.remove(0));
+        }
+        ArrayList<TheField> previousFields = new ArrayList<TheField>(fields);
         fields.clear();
         if (value != null) {
-            for (InnerVO property : this.innerVOs) {
+            reconcileFields(previousFields);
+        }
+        // Remove the fields that were not reused
+        for (TheField field : previousFields) {
+            fieldVOs.remove(field);
+            complexInputForm.remove(field);
+        }
+        this.render();
+    }
+
+    /**
+     * Matches the existing fields to the inner VOs and adds a field for each
+     * VO to the field list. A field created for a VO is kept for the same VO,
+     * unmatched fields are reused for the other VOs and new fields are only
+     * generated if no existing field is left. The fields that are reused are
+     * removed from the list of previous fields.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param previousFields - The fields that were displayed before the values were set
+     */
+    private void reconcileFields(ArrayList<TheField> previousFields) {
+        IdentityHashMap<InnerVO, TheField> keyedFields = new IdentityHashMap<InnerVO, TheField>();
+        for (TheField field : previousFields) {
+            InnerVO fieldVO = fieldVOs.get(field);
+            if (fieldVO != null && !keyedFields.containsKey(fieldVO)) {
+                keyedFields.put(fieldVO, field);
+            }
+        }
+        ArrayList<TheField> matchedFields = new ArrayList<TheField>();
+        for (InnerVO property : this.innerVOs) {
+            TheField field = keyedFields.remove(property);
+            if (field != null) {
+                previousFields.remove(field);
+            }
+            matchedFields.add(field);
+        }
+        int index = 0;
+        for (InnerVO property : this.innerVOs) {
+            TheField field = matchedFields.get(index++);
+            if (field == null && !previousFields.isEmpty()) {
+                field = previousFields.remove(0);
+            }
+            if (field == null) {
                 generateField(property);
+            } else {
+                field.clearMessage();
+                field.setValue(property);
+                field.setViewState();
+                fieldVOs.put(field, property);
+                fields.add(field);
             }
         }
-        this.render();
     }
 
     /**
@@ -323,26 +385,32 @@ public abstract class ComplexInputForm<OutterVO, InnerVO, TheField extends Compl
         field.setViewState();
         // Add the fields to fields list that will be used by the render function to add the fields on the form
         fields.add(field);
+        fieldVOs.put(field, value);
     }
 
     /**
      * Add the field on the form it self.
-     * This is only called on create and on setValue
+     * This is only called on create and on setValue.
+     * Fields that are already on the form are only moved if they are not in the right position.
      *
      * @author Alec Erasmus<alec.erasmus@a24group.com>
      * @since  22 November 2012
      */
     private void render() {
-        // Clear all the fields on the form
-        complexInputForm.clear();
         // Create the add field and add it at index 0.
         TheField addField = createField();
+        addField.ensureEditForm();
         addComplexInputFormHandlers(addField);
         fields.add(0, addField);
-        // Loop through the field list and add to the form
+        // Loop through the field list and place each field at its index on the form
+        int index = 0;
         for (TheField field : fields) {
             field.addStyleName(STYLE_GRAY_ROW);
-            complexInputForm.add(field);
+            field.removeStyleName(STYLE_FIRST_ROW);
+            if (index >= complexInputForm.getWidgetCount() || complexInputForm.getWidget(index) != field) {
+                complexInputForm.insert(field, index);
+            }
+            index++;
         }
         addField.removeStyleName(STYLE_GRAY_ROW);
         addField.addStyleName(STYLE_FIRST_ROW);
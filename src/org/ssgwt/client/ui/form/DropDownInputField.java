@@ -1,10 +1,15 @@
 package org.ssgwt.client.ui.form;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Node;
+import com.google.gwt.dom.client.OptionElement;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.i18n.client.HasDirection.Direction;
 import com.google.gwt.user.client.ui.CheckBox;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.ListBox;
@@ -36,6 +41,31 @@ public abstract class DropDownInputField<T, ListItemType> extends ListBox implem
      */
     private final HashMap<String, ListItemType> dataMap = new HashMap<String, ListItemType>();
 
+    /**
+     * This is a hash map containing the index of the last item with each value
+     */
+    private final HashMap<String, Integer> valueIndexMap = new HashMap<String, Integer>();
+
+    /**
+     * Flag that indicates whether the value index map matches the items in the list
+     */
+    private boolean valueIndexMapValid = false;
+
+    /**
+     * The ids of the items loaded by setListBoxItems, null if the items were changed since
+     */
+    private List<String> loadedIds = null;
+
+    /**
+     * The labels of the items loaded by setListBoxItems, null if the items were changed since
+     */
+    private List<String> loadedLabels = null;
+
+    /**
+     * The prompt that was loaded by setListBoxItems
+     */
+    private String loadedPrompt = null;
+
     /**
      * The value displayed if no value is selected
      */
@@ -103,18 +133,169 @@ public abstract class DropDownInputField<T, ListItemType> extends ListBox implem
     public abstract void setPrompt();
 
     /**
-     * Set the data in the list
+     * Set the data in the list. The options are built in a document fragment
+     * and added to the list in one operation. If the ids and labels of the
+     * data are the same as the items that are already in the list the
+     * existing options are reused.
      *
      * @param data - The data to display on the list
      */
     public void setListBoxItems(List<ListItemType> data) {
-         this.data = data;
-         this.clear();
-         this.addItem(prompt, "");
-         for (ListItemType listItem : this.data) {
-            this.dataMap.put(getListId(listItem), listItem);
-            this.addItem(getListLabel(listItem), getListId(listItem));
-         }
+        this.data = data;
+        ArrayList<String> ids = new ArrayList<String>(data.size());
+        ArrayList<String> labels = new ArrayList<String>(data.size());
+        for (ListItemType listItem : this.data) {
+            String id = getListId(listItem);
+            this.dataMap.put(id, listItem);
+            ids.add(id);
+            labels.add(getListLabel(listItem));
+        }
+
+        if (loadedIds != null && equal(prompt, loadedPrompt) && ids.equals(loadedIds) && labels.equals(loadedLabels)) {
+            setSelectedIndex(0);
+            return;
+        }
+
+        this.clear();
+        valueIndexMap.clear();
+        Node fragment = createDocumentFragment();
+        fragment.appendChild(createOption(prompt, ""));
+        valueIndexMap.put("", 0);
+        for (int i = 0; i < ids.size(); i++) {
+            fragment.appendChild(createOption(labels.get(i), ids.get(i)));
+            valueIndexMap.put(ids.get(i), i + 1);
+        }
+        getElement().appendChild(fragment);
+        setSelectedIndex(0);
+
+        valueIndexMapValid = true;
+        loadedIds = ids;
+        loadedLabels = labels;
+        loadedPrompt = prompt;
+    }
+
+    /**
+     * Creates an option element for the list
+     *
+     * @param label - The text displayed for the option
+     * @param value - The value of the option
+     *
+     * @return The option element
+     */
+    private OptionElement createOption(String label, String value) {
+        OptionElement option = Document.get().createOptionElement();
+        setOptionText(option, label, null);
+        option.setValue(value);
+        return option;
+    }
+
+    /**
+     * Creates an empty document fragment the options can be added to
+     *
+     * @return The document fragment
+     */
+    private static native Node createDocumentFragment() /*-{
+        return $doc.createDocumentFragment();
+    }-*/;
+
+    /**
+     * Retrieve the index of the last item in the list with the value
+     *
+     * @param value - The value of the item
+     *
+     * @return The index of the item or null if there is no item with the value
+     */
+    private Integer getValueIndex(String value) {
+        if (!valueIndexMapValid) {
+            valueIndexMap.clear();
+            for (int i = 0; i < getItemCount(); i++) {
+                valueIndexMap.put(getValue(i), i);
+            }
+            valueIndexMapValid = true;
+        }
+        return valueIndexMap.get(value);
+    }
+
+    /**
+     * Compares two strings that can be null
+     *
+     * @param first - The first string
+     * @param second - The second string
+     *
+     * @return true if both strings are null or equal
+     */
+    private static boolean equal(String first, String second) {
+        return first == null ? second == null : first.equals(second);
+    }
+
+    /**
+     * Flags the value index map for rebuilding and prevents the items from
+     * being reused after the items in the list were changed directly
+     */
+    private void itemsChanged() {
+        valueIndexMapValid = false;
+        loadedIds = null;
+        loadedLabels = null;
+        loadedPrompt = null;
+    }
+
+    /**
+     * Inserts an item into the list box
+     *
+     * @param item - The text of the item to be inserted
+     * @param dir - The item's direction
+     * @param value - The item's value
+     * @param index - The index at which to insert it
+     */
+    @Override
+    public void insertItem(String item, Direction dir, String value, int index) {
+        super.insertItem(item, dir, value, index);
+        itemsChanged();
+    }
+
+    /**
+     * Removes the item at the specified index
+     *
+     * @param index - The index of the item to be removed
+     */
+    @Override
+    public void removeItem(int index) {
+        super.removeItem(index);
+        itemsChanged();
+    }
+
+    /**
+     * Removes all items from the list box
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        itemsChanged();
+    }
+
+    /**
+     * Sets the value associated with the item at a given index
+     *
+     * @param index - The index of the item to be set
+     * @param value - The item's new value
+     */
+    @Override
+    public void setValue(int index, String value) {
+        super.setValue(index, value);
+        itemsChanged();
+    }
+
+    /**
+     * Sets the text associated with the item at a given index
+     *
+     * @param index - The index of the item to be set
+     * @param text - The item's new text
+     * @param dir - The item's direction
+     */
+    @Override
+    public void setItemText(int index, String text, Direction dir) {
+        super.setItemText(index, text, dir);
+        itemsChanged();
     }
 
     /**
@@ -221,10 +402,9 @@ public abstract class DropDownInputField<T, ListItemType> extends ListBox implem
         if (value == null) {
             setSelectedIndex(0);
         } else {
-            for (int i = 0; i < getItemCount(); i++) {
-                if (value.equals(getValue(i))) {
-                    setSelectedIndex(i);
-                }
+            Integer index = getValueIndex(value);
+            if (index != null) {
+                setSelectedIndex(index);
             }
         }
     }
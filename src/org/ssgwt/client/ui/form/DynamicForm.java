@@ -1,18 +1,36 @@
 package org.ssgwt.client.ui.form;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.datecomponents.StartEndDateVo;
+import org.ssgwt.client.ui.form.event.DynamicFormValidityChangeEvent;
+import org.ssgwt.client.ui.form.event.DynamicFormValidityChangeEvent.DynamicFormValidityChangeHandler;
+import org.ssgwt.client.ui.form.event.DynamicFormValidityChangeEvent.DynamicFormValidityChangeHasHandlers;
+import org.ssgwt.client.validation.FormValidationError;
 import org.ssgwt.client.validation.FormValidator;
+import org.ssgwt.client.validation.ValidationRule;
+import org.ssgwt.client.validation.ValidatorProvider;
 
+import com.google.gwt.event.dom.client.ChangeEvent;
+import com.google.gwt.event.dom.client.ChangeHandler;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.dom.client.KeyDownEvent;
 import com.google.gwt.event.dom.client.KeyDownHandler;
+import com.google.gwt.event.logical.shared.ValueChangeEvent;
+import com.google.gwt.event.logical.shared.ValueChangeHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.Label;
+import com.google.gwt.user.client.ui.Widget;
 
 /**
  * Dynamic form that allows fields extending the InputField interface to be added an creates the field with a label
@@ -22,7 +40,7 @@ import com.google.gwt.user.client.ui.Label;
  *
  * @param <T> The object type the Dynamic form uses to get values from updates the value of the fields on
  */
-public class DynamicForm<T> extends Composite {
+public class DynamicForm<T> extends Composite implements DynamicFormValidityChangeHasHandlers {
 
     /**
      * The field component that is used to display the field label, the field and the required star if the field is required
@@ -183,6 +201,119 @@ public class DynamicForm<T> extends Composite {
         }
     }
 
+    /**
+     * Copies the value of a single input field between the data object and the field.
+     * The value type is resolved once when the field is added so no type checks
+     * are required each time the value is copied.
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     *
+     * @param <V> The value type of the input field
+     */
+    private class FieldBinding<V> implements ValueChangeHandler<V> {
+
+        /**
+         * The input field that retrieves and sets the value on the data object
+         */
+        private final InputField<T, V> inputField;
+
+        /**
+         * The input field as the widget that holds the value
+         */
+        private final HasValue<V> valueField;
+
+        /**
+         * The registration of the value change handler that marks the field as dirty,
+         * null if the field does not dispatch value change events
+         */
+        private final HandlerRegistration valueChangeRegistration;
+
+        /**
+         * Flag that indicates if the value of the field changed since it was last copied
+         */
+        private boolean dirty = false;
+
+        /**
+         * Class constructor
+         *
+         * @param inputField - The input field, which should also be the widget that holds the value
+         *
+         * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+         * @since 19 October 2026
+         */
+        @SuppressWarnings("unchecked")
+        public FieldBinding(InputField<T, V> inputField) {
+            this.inputField = inputField;
+            this.valueField = (HasValue<V>) inputField;
+            this.valueChangeRegistration = valueField.addValueChangeHandler(this);
+        }
+
+        /**
+         * Copies the value from the data object to the field
+         *
+         * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+         * @since 19 October 2026
+         */
+        public void copyToField() {
+            valueField.setValue(inputField.getValue(dataObject));
+            dirty = false;
+        }
+
+        /**
+         * Copies the value from the field to the data object
+         *
+         * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+         * @since 19 October 2026
+         */
+        public void copyToDataObject() {
+            inputField.setValue(dataObject, valueField.getValue());
+            dirty = false;
+        }
+
+        /**
+         * Whether the value of the field should be copied when only changed
+         * fields are copied. Fields that do not dispatch value change events
+         * can not be tracked, so they are always copied.
+         *
+         * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+         * @since 19 October 2026
+         *
+         * @return true if the field changed or its changes can not be tracked
+         */
+        public boolean isChanged() {
+            return dirty || valueChangeRegistration == null;
+        }
+
+        /**
+         * Marks the field as dirty when its value is changed
+         *
+         * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+         * @since 19 October 2026
+         *
+         * @param event - The value change event
+         */
+        @Override
+        public void onValueChange(ValueChangeEvent<V> event) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * The value types of the input fields whose values are copied to and from the data object
+     */
+    private static final HashSet<Class<?>> BOUND_RETURN_TYPES = new HashSet<Class<?>>();
+
+    static {
+        BOUND_RETURN_TYPES.add(String.class);
+        BOUND_RETURN_TYPES.add(SSDate.class);
+        BOUND_RETURN_TYPES.add(List.class);
+        BOUND_RETURN_TYPES.add(Boolean.class);
+        BOUND_RETURN_TYPES.add(StartEndDateVo.class);
+        BOUND_RETURN_TYPES.add(Long.class);
+        BOUND_RETURN_TYPES.add(Double.class);
+    }
+
     /**
      * The flag that indicates whether the fields on the form is read only
      */
@@ -196,7 +327,22 @@ public class DynamicForm<T> extends Composite {
     /**
      * HashMap that holds the Field object used for each input field
      */
-    private final HashMap<InputField, Field> fields = new HashMap<InputField, Field>();
+    private final LinkedHashMap<InputField, Field> fields = new LinkedHashMap<InputField, Field>();
+
+    /**
+     * The bindings of the fields whose values are copied, in the order the fields were added
+     */
+    private final ArrayList<FieldBinding<?>> fieldBindings = new ArrayList<FieldBinding<?>>();
+
+    /**
+     * The binding of each input field whose value is copied
+     */
+    private final HashMap<InputField, FieldBinding<?>> fieldBindingMap = new HashMap<InputField, FieldBinding<?>>();
+
+    /**
+     * Flag that indicates if getData should only copy the fields that changed since the last setData
+     */
+    private boolean copyChangedFieldsOnly = false;
 
     /**
      * The data object that holds the data t
@@ -303,6 +449,16 @@ public class DynamicForm<T> extends Composite {
      */
     FormValidator formValidator = new FormValidator();
 
+    /**
+     * The input fields with validation along with the registration of their live validation value change handler
+     */
+    private final LinkedHashMap<InputField, HandlerRegistration> validatedFields = new LinkedHashMap<InputField, HandlerRegistration>();
+
+    /**
+     * Flag that indicates whether the fields are validated when their values change
+     */
+    private boolean liveValidation = false;
+
     /**
      * The width of the input fields
      */
@@ -395,26 +551,13 @@ public class DynamicForm<T> extends Composite {
     }
 
     /**
-     * Updates the data object that was set using the setData function with the data in the fields
+     * Updates the data object that was set using the setData function with the data in the fields.
+     * If only changed fields should be copied, fields that did not change since the last setData are skipped.
      */
     protected void updateDataObject() {
-        for(InputField<T, ?> field : fields.keySet()) {
-            if (String.class.equals(field.getReturnType())) {
-                ((InputField<T, String>)field).setValue(dataObject, ((HasValue<String>)field).getValue());
-            } else if (SSDate.class.equals(field.getReturnType())) {
-                ((InputField<T, SSDate>)field).setValue(dataObject, ((HasValue<SSDate>)field).getValue());
-            } else if (List.class.equals(field.getReturnType())) {
-                ((InputField<T, List>)field).setValue(dataObject, ((HasValue<List>)field).getValue());
-            } else if (Boolean.class.equals(field.getReturnType())) {
-                ((InputField<T, Boolean>)field).setValue(dataObject, ((HasValue<Boolean>)field).getValue());
-            } else if (StartEndDateVo.class.equals(field.getReturnType())) {
-                ((InputField<T, StartEndDateVo>)field).setValue(
-                    dataObject, ((HasValue<StartEndDateVo>)field).getValue()
-                );
-            } else if (Long.class.equals(field.getReturnType())) {
-                ((InputField<T, Long>)field).setValue(dataObject, ((HasValue<Long>)field).getValue());
-            } else if (Double.class.equals(field.getReturnType())) {
-                ((InputField<T, Double>)field).setValue(dataObject, ((HasValue<Double>)field).getValue());
+        for (FieldBinding<?> fieldBinding : fieldBindings) {
+            if (!copyChangedFieldsOnly || fieldBinding.isChanged()) {
+                fieldBinding.copyToDataObject();
             }
         }
     }
@@ -423,24 +566,60 @@ public class DynamicForm<T> extends Composite {
      * Updates the fields with the data that was set using the setData function
      */
     protected void updateFieldData() {
-        for(InputField<T, ?> field : fields.keySet()) {
-            if (String.class.equals(field.getReturnType())) {
-                ((HasValue<String>)field).setValue(((InputField<T, String>)field).getValue(dataObject));
-            } else if (SSDate.class.equals(field.getReturnType())) {
-                ((HasValue<SSDate>)field).setValue(((InputField<T, SSDate>)field).getValue(dataObject));
-            } else if (List.class.equals(field.getReturnType())) {
-                ((HasValue<List>)field).setValue(((InputField<T, List>)field).getValue(dataObject));
-            } else if (Boolean.class.equals(field.getReturnType())) {
-                ((HasValue<Boolean>)field).setValue(((InputField<T, Boolean>)field).getValue(dataObject));
-            } else if (StartEndDateVo.class.equals(field.getReturnType())) {
-                ((HasValue<StartEndDateVo>)field).setValue(
-                    ((InputField<T, StartEndDateVo>)field).getValue(dataObject)
-                );
-            } else if (Long.class.equals(field.getReturnType())) {
-                ((HasValue<Long>)field).setValue(((InputField<T, Long>)field).getValue(dataObject));
-            } else if (Double.class.equals(field.getReturnType())) {
-                ((HasValue<Double>)field).setValue(((InputField<T, Double>)field).getValue(dataObject));
-            }
+        for (FieldBinding<?> fieldBinding : fieldBindings) {
+            fieldBinding.copyToField();
+        }
+        if (liveValidation) {
+            int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
+            formValidator.startLiveValidation();
+            fireValidityChange(previousInvalidFieldCount);
+        }
+    }
+
+    /**
+     * Sets whether getData should only copy the values of the fields that changed since the last setData.
+     * A field is marked as changed when it dispatches a value change event, fields whose values are set
+     * in code without dispatching the event should be marked with markFieldChanged. Fields that do not
+     * dispatch value change events, like the DropDownInputField, are always copied.
+     *
+     * @param copyChangedFieldsOnly - Whether only changed fields should be copied
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void setCopyChangedFieldsOnly(boolean copyChangedFieldsOnly) {
+        this.copyChangedFieldsOnly = copyChangedFieldsOnly;
+    }
+
+    /**
+     * Marks a field as changed so its value is copied on the next getData
+     *
+     * @param inputField - The input field whose value changed
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void markFieldChanged(InputField<T, ?> inputField) {
+        FieldBinding<?> fieldBinding = fieldBindingMap.get(inputField);
+        if (fieldBinding != null) {
+            fieldBinding.dirty = true;
+        }
+    }
+
+    /**
+     * Creates the binding that copies the value of the field if the field holds a value that should be copied
+     *
+     * @param inputField - The input field to create the binding for
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    private <V> void bindField(InputField<T, V> inputField) {
+        if (inputField instanceof HasValue && !fieldBindingMap.containsKey(inputField)
+                && BOUND_RETURN_TYPES.contains(inputField.getReturnType())) {
+            FieldBinding<V> fieldBinding = new FieldBinding<V>(inputField);
+            fieldBindings.add(fieldBinding);
+            fieldBindingMap.put(inputField, fieldBinding);
         }
     }
 
@@ -489,13 +668,29 @@ public class DynamicForm<T> extends Composite {
     }
 
     /**
-     * Removes a field from the Dynamic form
+     * Removes a field from the Dynamic form along with its binding and validation
      *
      * @param inputField - The input field that should be removed from the Dynamic form
      */
     public void removeField(InputField<T, ?> inputField) {
         mainConatiner.remove(fields.get(inputField));
         fields.remove(inputField);
+        FieldBinding<?> fieldBinding = fieldBindingMap.remove(inputField);
+        if (fieldBinding != null) {
+            if (fieldBinding.valueChangeRegistration != null) {
+                fieldBinding.valueChangeRegistration.removeHandler();
+            }
+            fieldBindings.remove(fieldBinding);
+        }
+        if (validatedFields.containsKey(inputField)) {
+            HandlerRegistration registration = validatedFields.remove(inputField);
+            if (registration != null) {
+                registration.removeHandler();
+            }
+            int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
+            formValidator.removeField(inputField.getInputFieldWidget());
+            fireValidityChange(previousInvalidFieldCount);
+        }
     }
 
     /**
@@ -517,6 +712,32 @@ public class DynamicForm<T> extends Composite {
         return formValidator.doValidation();
     }
 
+    /**
+     * Validates all the fields on the form, including fields with asynchronous
+     * validators, and reports all the validation errors at once
+     *
+     * @param callback - Called with the validation errors, the list is empty if the form is valid
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void doAsyncValidation(AsyncCallback<ArrayList<FormValidationError>> callback) {
+        formValidator.doAsyncValidation(callback);
+    }
+
+    /**
+     * Registers a validator under a reference name so it can be used with addFieldValidation
+     *
+     * @param validatorReferenceName - The reference name for the validation
+     * @param provider - Creates a validator for each field that uses the reference name
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void registerValidator(String validatorReferenceName, ValidatorProvider provider) {
+        formValidator.registerValidator(validatorReferenceName, provider);
+    }
+
     /**
      * Draws the field on the form
      *
@@ -561,6 +782,7 @@ public class DynamicForm<T> extends Composite {
         Field fieldInfo = new Field(inputField, label, embeded, customStyleName);
         mainConatiner.add(fieldInfo);
         fields.put(inputField, fieldInfo);
+        bindField(inputField);
     }
 
     /**
@@ -602,7 +824,9 @@ public class DynamicForm<T> extends Composite {
      * @param config - Validation configuration settings
      */
     public void addFieldValidation(InputField<T, ?> inputField, String validatorReferenceName, HashMap<String, ?> config) {
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
         formValidator.addField(validatorReferenceName, inputField.getInputFieldWidget(), config);
+        addValidatedField(inputField, previousInvalidFieldCount);
     }
 
     /**
@@ -614,7 +838,9 @@ public class DynamicForm<T> extends Composite {
      * @param errorMessage - The error message to be displayed
      */
     public void addFieldValidation(InputField<T, ?> inputField, String validatorReferenceName, HashMap<String, ?> config, String errorMessage) {
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
         formValidator.addField(validatorReferenceName, inputField.getInputFieldWidget(), config, errorMessage);
+        addValidatedField(inputField, previousInvalidFieldCount);
     }
 
     /**
@@ -627,7 +853,203 @@ public class DynamicForm<T> extends Composite {
      * @param errorStyleName - the error style type
      */
     public void addFieldValidation(InputField<T, ?> inputField, String validatorReferenceName, HashMap<String, ?> config, String errorMessage, String errorStyleName) {
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
         formValidator.addField(validatorReferenceName, inputField.getInputFieldWidget(), config, errorMessage, errorStyleName);
+        addValidatedField(inputField, previousInvalidFieldCount);
+    }
+
+    /**
+     * Adds validation criteria to a input field from a validation rule, which can be shared with the validation done on the server
+     *
+     * @param inputField - The input field that should be validated
+     * @param rule - The validation rule
+     * @param errorStyleName - the error style type
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void addFieldValidation(InputField<T, ?> inputField, ValidationRule rule, String errorStyleName) {
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
+        formValidator.addField(rule, inputField.getInputFieldWidget(), errorStyleName);
+        addValidatedField(inputField, previousInvalidFieldCount);
+    }
+
+    /**
+     * Sets whether the fields are validated when their values change. While
+     * live validation is enabled the form keeps count of the invalid fields,
+     * so the validity of the form can be retrieved without validating all the
+     * fields, and a DynamicFormValidityChangeEvent is dispatched when the form
+     * changes from valid to invalid or from invalid to valid.
+     *
+     * @param liveValidation - Whether the fields are validated when their values change
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public void setLiveValidation(boolean liveValidation) {
+        if (this.liveValidation == liveValidation) {
+            return;
+        }
+        this.liveValidation = liveValidation;
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
+        if (liveValidation) {
+            for (InputField inputField : validatedFields.keySet()) {
+                validatedFields.put(inputField, addLiveValidationHandler(inputField));
+            }
+            formValidator.startLiveValidation();
+        } else {
+            for (HandlerRegistration registration : validatedFields.values()) {
+                if (registration != null) {
+                    registration.removeHandler();
+                }
+            }
+            for (InputField inputField : validatedFields.keySet()) {
+                validatedFields.put(inputField, null);
+            }
+            formValidator.stopLiveValidation();
+        }
+        fireValidityChange(previousInvalidFieldCount);
+    }
+
+    /**
+     * Retrieves the number of invalid fields on the form while live validation is enabled
+     *
+     * @return The number of invalid fields
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public int getInvalidFieldCount() {
+        return formValidator.getInvalidFieldCount();
+    }
+
+    /**
+     * Whether all the fields on the form are valid while live validation is enabled
+     *
+     * @return true if there are no invalid fields on the form
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public boolean isValid() {
+        return formValidator.getInvalidFieldCount() == 0;
+    }
+
+    /**
+     * Validates a single field, used for fields whose values are changed without dispatching a value change event
+     *
+     * @param inputField - The input field to validate
+     *
+     * @return The validation error message or null if the field is valid
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    public String validateField(InputField<T, ?> inputField) {
+        int previousInvalidFieldCount = formValidator.getInvalidFieldCount();
+        String message = formValidator.validateField(inputField.getInputFieldWidget());
+        fireValidityChange(previousInvalidFieldCount);
+        return message;
+    }
+
+    /**
+     * Adds a handler to be notified when the validity of the form changes during live validation
+     *
+     * @param handler - The handler to add
+     *
+     * @return The registration of the handler
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    @Override
+    public HandlerRegistration addDynamicFormValidityChangeHandler(DynamicFormValidityChangeHandler handler) {
+        return addHandler(handler, DynamicFormValidityChangeEvent.TYPE);
+    }
+
+    /**
+     * Keeps track of an input field with validation so it can be validated when its value changes
+     *
+     * @param inputField - The input field with validation
+     * @param previousInvalidFieldCount - The number of invalid fields before the validation was added
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    private void addValidatedField(InputField<T, ?> inputField, int previousInvalidFieldCount) {
+        if (!validatedFields.containsKey(inputField)) {
+            validatedFields.put(inputField, liveValidation ? addLiveValidationHandler(inputField) : null);
+        }
+        fireValidityChange(previousInvalidFieldCount);
+    }
+
+    /**
+     * Adds the handler that validates the field when its value changes. Fields
+     * that do not dispatch value change events, like the DropDownInputField,
+     * ComplexInput, ComplexInputForm and ShiftInputField, are validated when a
+     * change or click event bubbles up from their widget instead. Values that
+     * are changed in code without any of these events should be validated
+     * with validateField.
+     *
+     * @param inputField - The input field to validate
+     *
+     * @return The registration of the handler
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    @SuppressWarnings("unchecked")
+    private HandlerRegistration addLiveValidationHandler(final InputField inputField) {
+        if (inputField instanceof HasValue) {
+            HandlerRegistration registration = ((HasValue<Object>) inputField).addValueChangeHandler(new ValueChangeHandler<Object>() {
+
+                @Override
+                public void onValueChange(ValueChangeEvent<Object> event) {
+                    validateField(inputField);
+                }
+            });
+            if (registration != null) {
+                return registration;
+            }
+        }
+        Widget widget = inputField.getInputFieldWidget();
+        final HandlerRegistration changeRegistration = widget.addDomHandler(new ChangeHandler() {
+
+            @Override
+            public void onChange(ChangeEvent event) {
+                validateField(inputField);
+            }
+        }, ChangeEvent.getType());
+        final HandlerRegistration clickRegistration = widget.addDomHandler(new ClickHandler() {
+
+            @Override
+            public void onClick(ClickEvent event) {
+                validateField(inputField);
+            }
+        }, ClickEvent.getType());
+        return new HandlerRegistration() {
+
+            @Override
+            public void removeHandler() {
+                changeRegistration.removeHandler();
+                clickRegistration.removeHandler();
+            }
+        };
+    }
+
+    /**
+     * Dispatches a DynamicFormValidityChangeEvent if the validity of the form changed
+     *
+     * @param previousInvalidFieldCount - The number of invalid fields before the change
+     *
+     * @author Johannes Gryffenberg<johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     */
+    private void fireValidityChange(int previousInvalidFieldCount) {
+        int invalidFieldCount = formValidator.getInvalidFieldCount();
+        if ((previousInvalidFieldCount == 0) != (invalidFieldCount == 0)) {
+            DynamicFormValidityChangeEvent.fire(this, invalidFieldCount);
+        }
     }
 
     /**
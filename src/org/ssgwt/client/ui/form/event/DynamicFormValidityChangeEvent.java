@@ -0,0 +1,147 @@
+package org.ssgwt.client.ui.form.event;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Event dispatched by the DynamicForm during live validation when the form
+ * changes from valid to invalid or from invalid to valid.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class DynamicFormValidityChangeEvent extends
+        GwtEvent<DynamicFormValidityChangeEvent.DynamicFormValidityChangeHandler> {
+
+    /**
+     * Type of the event.
+     */
+    public static Type<DynamicFormValidityChangeHandler> TYPE = new Type<DynamicFormValidityChangeHandler>();
+
+    /**
+     * The number of invalid fields on the form
+     */
+    private int invalidFieldCount;
+
+    /**
+     * Handler interface that should be implemented by components that wish to
+     * handle the event when it is dispatched.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface DynamicFormValidityChangeHandler extends EventHandler {
+
+        /**
+         * Method to be called when a {@link DynamicFormValidityChangeEvent} is
+         * being handled.
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @param event The event being handled.
+         */
+        void onDynamicFormValidityChange(DynamicFormValidityChangeEvent event);
+    }
+
+    /**
+     * Function to add the handler to the class
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param handler - The event be handled
+     */
+    public interface DynamicFormValidityChangeHasHandlers extends HasHandlers {
+        HandlerRegistration addDynamicFormValidityChangeHandler(DynamicFormValidityChangeHandler handler);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param invalidFieldCount - The number of invalid fields on the form
+     */
+    public DynamicFormValidityChangeEvent(int invalidFieldCount) {
+        this.invalidFieldCount = invalidFieldCount;
+    }
+
+    /**
+     * Getter for the invalidFieldCount
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the number of invalid fields on the form
+     */
+    public int getInvalidFieldCount() {
+        return invalidFieldCount;
+    }
+
+    /**
+     * Whether the form is valid
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if there are no invalid fields on the form
+     */
+    public boolean isValid() {
+        return invalidFieldCount == 0;
+    }
+
+    /**
+     * Dispatches the event to the given handler.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param handler - The component that should handle the event.
+     */
+    @Override
+    protected void dispatch(DynamicFormValidityChangeHandler handler) {
+        handler.onDynamicFormValidityChange(this);
+    }
+
+    /**
+     * Returns the associated type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The associated type.
+     */
+    @Override
+    public Type<DynamicFormValidityChangeHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the Type of the event
+     */
+    public static Type<DynamicFormValidityChangeHandler> getType() {
+        return TYPE;
+    }
+
+    /**
+     * Convenience method used to easily dispatch events of this type.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param source The component that dispatches the event.
+     * @param invalidFieldCount - The number of invalid fields on the form
+     */
+    public static void fire(HasHandlers source, int invalidFieldCount) {
+        source.fireEvent(new DynamicFormValidityChangeEvent(invalidFieldCount));
+    }
+}
@@ -18,6 +18,8 @@ package org.ssgwt.client.ui.form.spinner;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.ssgwt.client.ui.animation.FrameScheduler.RepeatingTask;
+
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.dom.client.MouseDownEvent;
 import com.google.gwt.event.dom.client.MouseDownHandler;
@@ -27,7 +29,6 @@ import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
 import com.google.gwt.event.dom.client.MouseUpEvent;
 import com.google.gwt.event.dom.client.MouseUpHandler;
-import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.AbstractImagePrototype;
 import com.google.gwt.user.client.ui.Image;
 import com.google.gwt.user.client.ui.ImageBundle;
@@ -80,7 +81,11 @@ public class Spinner {
     private final boolean constrained;
     private boolean enabled = true;
 
-    private final Timer timer = new Timer() {
+    /**
+     * Repeats the increase or decrease while an arrow is pressed. It runs on
+     * the shared frame scheduler so it stops while the document is hidden.
+     */
+    private final RepeatingTask timer = new RepeatingTask(30) {
         private int counter = 0;
         private int speed = 7;
 
@@ -124,7 +129,7 @@ public class Spinner {
                     increment = false;
                     decrease();
                 }
-                timer.scheduleRepeating(30);
+                timer.schedule();
             }
         }
     };
@@ -14,12 +14,15 @@
 package org.ssgwt.client.ui.menu;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.ssgwt.client.ui.menu.event.ILeftMenuItemSelectEventHandler;
 import org.ssgwt.client.ui.menu.event.LeftMenuItemSelectEvent;
+import org.ssgwt.client.ui.menu.notification.NotificationCountDisplay;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.resources.client.ClientBundle;
@@ -37,7 +40,7 @@ import com.google.gwt.user.client.ui.Widget;
  * @author Lodewyk Duminy
  * @since 09 July 2012
  */
-public class LeftMenuBar extends Composite {
+public class LeftMenuBar extends Composite implements NotificationCountDisplay {
 
     /**
      * The resource to use for the LeftMenuItem class
@@ -144,7 +147,8 @@ public class LeftMenuBar extends Composite {
      * This function will set the left menu bar by sorting
      * the creating a menu item for each item in the list
      * and then sorting them and setting the default selected
-     * item
+     * item. Left menu items with a reference name that was
+     * already displayed are reused instead of being created again.
      * 
      * @param menuItems List of menu items
      * 
@@ -152,69 +156,104 @@ public class LeftMenuBar extends Composite {
      * @since 09 July 2012
      */
     public void setLeftMenuBar(List<MenuItemInterface> menuItems) {
-        leftMenuBarContainer.clear();
-        if (menuItems != null) {
-            List<MenuItemInterface> sorted = new ArrayList<MenuItemInterface>();
-            int max = 0;
-            for (int x = 0; x  < menuItems.size(); x++) {
-                int current = menuItems.get(x).getOrder();
-                if (current > max) {
-                    max = current;
-                }
+        if (menuItems == null) {
+            leftMenuBarContainer.clear();
+            menuItemsReference.clear();
+            selectedItem = null;
+            return;
+        }
+        
+        // Items with a negative order are not displayed
+        List<MenuItemInterface> sorted = new ArrayList<MenuItemInterface>(menuItems.size());
+        for (MenuItemInterface menuItem : menuItems) {
+            if (menuItem.getOrder() >= 0) {
+                sorted.add(menuItem);
             }
-            for (int x = 0; x <= max; x++) {
-                for (MenuItemInterface menuItem : menuItems) {
-                    int current = menuItem.getOrder();
-                    if (current == x) {
-                        sorted.add(menuItem);
-                    }
-                }
+        }
+        // The sort is stable so items with the same order keep the order they were passed in
+        Collections.sort(sorted, new Comparator<MenuItemInterface>() {
+            
+            @Override
+            public int compare(MenuItemInterface first, MenuItemInterface second) {
+                return first.getOrder() < second.getOrder() ? -1 : (first.getOrder() == second.getOrder() ? 0 : 1);
             }
-            menuItems = sorted;
-            boolean containsDefault = false;
-            for (MenuItemInterface menuItem : sorted) {
-                containsDefault = containsDefault || menuItem.isDefaultSelected();
+        });
+        
+        boolean containsDefault = false;
+        for (MenuItemInterface menuItem : sorted) {
+            containsDefault = containsDefault || menuItem.isDefaultSelected();
+        }
+        
+        HashMap<String, LeftMenuItem> previousReference = menuItemsReference;
+        menuItemsReference = new HashMap<String, LeftMenuItem>();
+        LeftMenuItem previousSelectedItem = selectedItem;
+        int index = 0;
+        for (MenuItemInterface menuItem : sorted) {
+            String referenceName = menuItem.getReferenceName() == null ? "" : menuItem.getReferenceName().trim();
+            LeftMenuItem item = referenceName.equals("") ? null : previousReference.remove(referenceName);
+            boolean created = item == null;
+            if (created) {
+                item = createLeftMenuItem(menuItem);
+            } else {
+                item.setMenuItem(menuItem);
             }
-            for (MenuItemInterface menuItem : menuItems) {
-                final LeftMenuItem item = new LeftMenuItem(menuItem);
-                
-                if (!(menuItem.getReferenceName() == null) && !menuItem.getReferenceName().trim().equals("")) {
-                    menuItemsReference.put(menuItem.getReferenceName().trim(), item);
-                    setNotificationCount(menuItem.getReferenceName().trim(), menuItem.getNotificationCount());
-                }
-                
-                if (!containsDefault) {
-                    selectedItem = item;
-                    item.setSelected();
-                    
-                    containsDefault = true;
-                } else {
-                    if (menuItem.isDefaultSelected()) {
-                        selectedItem = item;
-                        item.setSelected();
-                    } else {
-                        item.setUnselected();
-                    
+            
+            if (!referenceName.equals("")) {
+                menuItemsReference.put(referenceName, item);
+                setNotificationCount(referenceName, menuItem.getNotificationCount());
+            }
+            
+            if (!containsDefault || menuItem.isDefaultSelected()) {
+                selectedItem = item;
+                item.setSelected();
+                containsDefault = true;
+            } else if (created || item == previousSelectedItem) {
+                // Reused items that were not selected are already in the unselected state
+                item.setUnselected();
+            }
+            
+            // Only move the widget if it is not already in the correct position
+            if (index >= leftMenuBarContainer.getWidgetCount() || leftMenuBarContainer.getWidget(index) != item) {
+                leftMenuBarContainer.insert(item, index);
+            }
+            index++;
+        }
+        
+        // Remove the left menu items that are no longer in the list
+        while (leftMenuBarContainer.getWidgetCount() > index) {
+            leftMenuBarContainer.remove(index);
+        }
+    }
+    
+    /**
+     * Creates a new left menu item for a menu item and adds the
+     * handler that updates the selected item when it is selected
+     * 
+     * @param menuItem The menu item to create the left menu item for
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The new left menu item
+     */
+    private LeftMenuItem createLeftMenuItem(MenuItemInterface menuItem) {
+        final LeftMenuItem item = new LeftMenuItem(menuItem);
+        item.addEventHandler(new ILeftMenuItemSelectEventHandler() {
+            
+            @Override
+            public void onLeftMenuItemSelectEvent(LeftMenuItemSelectEvent event) {
+                if (item != selectedItem) {
+                    // Remove the selected style from the previously selected item
+                    if (selectedItem != null) {
+                        selectedItem.setUnselected();
                     }
+                    // Give the newly selected item the selected style
+                    item.setSelected();
+                    selectedItem = item;
                 }
-                
-                item.addEventHandler(new ILeftMenuItemSelectEventHandler() {
-                    
-                    @Override
-                    public void onLeftMenuItemSelectEvent(LeftMenuItemSelectEvent event) {
-                        if (item != selectedItem) {
-                            // Remove the selected style from the previously selected item
-                            selectedItem.setUnselected();
-                            // Give the newly selected item the selected style
-                            item.setSelected();
-                            selectedItem = item;
-                        }
-                    }
-                });
-                
-                leftMenuBarContainer.add(item);
             }
-        }
+        });
+        return item;
     }
     
     /**
@@ -239,15 +278,35 @@ public class LeftMenuBar extends Composite {
         }
     }
     
+    /**
+     * Retrieves the notification count currently displayed for
+     * the specified left menu item reference name
+     * 
+     * @param leftMenuItemReference The left menu item reference name
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The notification count, 0 if no count is displayed or the menu item does not exist
+     */
+    @Override
+    public int getNotificationCount(String leftMenuItemReference) {
+        LeftMenuItem leftMenuItem = menuItemsReference.get(leftMenuItemReference.trim());
+        return leftMenuItem == null ? 0 : leftMenuItem.getNotificationCount();
+    }
+    
     /**
      * This function will set the notification count for the
-     * left menu item reference names in the hashmap
+     * left menu item reference names in the hashmap. The badges
+     * of menu items whose count did not change are not updated,
+     * so the counts from a notification poll can be set as a batch.
      * 
      * @param notificationCounts The left menu item reference names with notification counts
      * 
      * @author Ruan Naude <ruan.naude@a24group.com>
      * @since 18 July 2012
      */
+    @Override
     public void setNotificationCounts(HashMap<String, Integer> notificationCounts) {
         for (Map.Entry<String, Integer> notificationCount : notificationCounts.entrySet()) {
             setNotificationCount(notificationCount.getKey().trim(), notificationCount.getValue());
@@ -29,11 +29,12 @@ import com.google.gwt.event.dom.client.MouseUpHandler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.event.shared.HandlerManager;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.layout.client.Layout.AnimationCallback;
+import com.google.gwt.layout.client.Layout.Layer;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
-import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.FocusPanel;
@@ -72,21 +73,26 @@ public class LeftMenuItem extends Composite {
     
     /**
      * Boolean to determine whether the menu item
-     * can be click at the moment
+     * is busy animating
      */
-    private boolean isClickable = true;
+    private boolean isAnimating = false;
     
     /**
-     * Boolean to determine whether the menu item
-     * is busy animating
+     * Boolean to determine whether the menu item is
+     * displayed in or animating to the selected state
      */
-    private boolean isAnimating = false;
+    private boolean isDisplayedSelected = false;
+    
+    /**
+     * Boolean to determine whether the menu item should
+     * end in the selected state once the animations complete
+     */
+    private boolean isTargetSelected = false;
     
     /**
-     * Boolean to determine whether a que to
-     * make the menu item unselected has been made
+     * The notification count currently displayed, -1 before the first count is set
      */
-    private boolean isUnselectQued = false;
+    private int notificationCount = -1;
     
     /**
      * The handler manager used to handle events
@@ -360,8 +366,7 @@ public class LeftMenuItem extends Composite {
                 @Override
                 public void onMouseUp(MouseUpEvent event) {
                     notSelectedPanel.setStyleName(LeftMenuItem.this.resources.leftMenuItemStyle().notSelectedPanelUpState());
-                    if (isClickable) {
-                        isClickable = false;
+                    if (!isTargetSelected) {
                         setSelected(true);
                         fireEvent(new LeftMenuItemSelectEvent());
                     }
@@ -464,26 +469,10 @@ public class LeftMenuItem extends Composite {
      * @param executeTopMenuDefault Indicates whether the top menu's command should be executed
      */
     public void setSelected(boolean executeTopMenuDefault) {
-        //will create the slide animation from right to left
-        if (!isAnimating) {
-            ((LeftMenuCommand)LeftMenuItem.this.menuItem.getCommand()).setExecuteTopMenuCommand(executeTopMenuDefault);
-            LeftMenuItem.this.menuItem.getCommand().execute();
-            isAnimating = true;
-            leftMenuItem.setWidgetLeftRight(selectedPanel, 0, Unit.PX, 0, Unit.PX);
-            leftMenuItem.setWidgetLeftWidth(notSelectedFlowPanel, -100, Unit.PCT, 100, Unit.PCT);
-            leftMenuItem.animate(600);
-            
-            Timer timer = new Timer() {
-                public void run() {
-                    isAnimating = false;
-                    if (isUnselectQued) {
-                        isUnselectQued = false;
-                        setUnselected();
-                    }
-                }
-            };
-            timer.schedule(680);
-        }
+        ((LeftMenuCommand)LeftMenuItem.this.menuItem.getCommand()).setExecuteTopMenuCommand(executeTopMenuDefault);
+        LeftMenuItem.this.menuItem.getCommand().execute();
+        isTargetSelected = true;
+        animateToTargetState();
     }
     
     /**
@@ -494,22 +483,46 @@ public class LeftMenuItem extends Composite {
      * @since 09 July 2012
      */
     public void setUnselected() {
-        //will create the slide animation from left to right
-        if (isAnimating) {
-            isUnselectQued = true;
+        isTargetSelected = false;
+        animateToTargetState();
+    }
+    
+    /**
+     * Starts the slide animation to the state the menu item should be in
+     * if no animation is busy. When an animation completes the next one is
+     * started from its completion callback, so a state that was set while
+     * animating is applied as soon as the current animation is done.
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void animateToTargetState() {
+        if (isAnimating || isTargetSelected == isDisplayedSelected) {
+            return;
+        }
+        isAnimating = true;
+        isDisplayedSelected = isTargetSelected;
+        if (isDisplayedSelected) {
+            //will create the slide animation from right to left
+            leftMenuItem.setWidgetLeftRight(selectedPanel, 0, Unit.PX, 0, Unit.PX);
+            leftMenuItem.setWidgetLeftWidth(notSelectedFlowPanel, -100, Unit.PCT, 100, Unit.PCT);
         } else {
-            isAnimating = true;
+            //will create the slide animation from left to right
             leftMenuItem.setWidgetRightWidth(selectedPanel, 0, Unit.PX, 0, Unit.PX);
             leftMenuItem.setWidgetLeftWidth(notSelectedFlowPanel, 0, Unit.PX, 100, Unit.PCT);
-            leftMenuItem.animate(600);
-            Timer timer = new Timer() {
-                public void run() {
-                    isClickable = true;
-                    isAnimating = false;
-                }
-            };
-            timer.schedule(600);
         }
+        leftMenuItem.animate(600, new AnimationCallback() {
+            
+            @Override
+            public void onAnimationComplete() {
+                isAnimating = false;
+                animateToTargetState();
+            }
+            
+            @Override
+            public void onLayout(Layer layer, double progress) {
+            }
+        });
     }
     
     /**
@@ -522,7 +535,8 @@ public class LeftMenuItem extends Composite {
      * @since 18 July 2012
      */
     public void setNotificationCount(int count) {
-        if (count != 0) {
+        if (count != 0 && count != notificationCount) {
+            notificationCount = count;
             selectedNotificationCount.setText("" + count);
             notSelectedNotificationCount.setText("" + count);
             selectedNotificationContainer.setVisible(true);
@@ -538,12 +552,83 @@ public class LeftMenuItem extends Composite {
      * @since 18 July 2012
      */
     public void removeNotificationCount() {
+        if (notificationCount == 0) {
+            return;
+        }
+        notificationCount = 0;
         selectedNotificationCount.setText("");
         notSelectedNotificationCount.setText("");
         selectedNotificationContainer.setVisible(false);
         notSelectedNotificationContainer.setVisible(false);
     }
     
+    /**
+     * Retrieves the notification count currently displayed on the menu item
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The notification count, 0 if no count is displayed
+     */
+    public int getNotificationCount() {
+        return Math.max(notificationCount, 0);
+    }
+    
+    /**
+     * Retrieves the menu item the left menu item details were created from
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The menu item
+     */
+    public MenuItemInterface getMenuItem() {
+        return menuItem;
+    }
+    
+    /**
+     * Updates the left menu item details from a new menu item so the
+     * existing widget can be reused when the left menu bar is set again.
+     * Only the details that differ from the current menu item are updated.
+     * 
+     * @param menuItem The menu item to update the left menu item details from
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMenuItem(MenuItemInterface menuItem) {
+        if (menuItem == null || menuItem == this.menuItem) {
+            return;
+        }
+        MenuItemInterface previous = this.menuItem;
+        this.menuItem = menuItem;
+        if (!equal(previous.getLabel(), menuItem.getLabel())) {
+            notSelectedLabel.setText(menuItem.getLabel());
+            selectedLabel.setText(menuItem.getLabel());
+        }
+        if (!equal(previous.getUnSelectedImage(), menuItem.getUnSelectedImage())) {
+            notSelectedImage.setUrl(menuItem.getUnSelectedImage());
+        }
+        if (!equal(previous.getSelectedImage(), menuItem.getSelectedImage())) {
+            selectedImage.setUrl(menuItem.getSelectedImage());
+        }
+    }
+    
+    /**
+     * Compares two values that may be null
+     * 
+     * @param first The first value
+     * @param second The second value
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return Whether the values are equal
+     */
+    private static boolean equal(String first, String second) {
+        return first == null ? second == null : first.equals(second);
+    }
+    
     /**
      * This is used to fire an event
      * 
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A transport that pushes the notification count updates it is given
+ * directly to the receiver. It can be used in tests or when the updates are
+ * already received by another part of the application.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class LocalNotificationCountTransport implements NotificationCountTransport {
+
+    /**
+     * The receiver the updates are pushed to, null if not connected
+     */
+    private NotificationCountReceiver receiver;
+
+    /**
+     * Starts pushing notification count updates to the receiver
+     *
+     * @param receiver - The receiver the updates should be pushed to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void connect(NotificationCountReceiver receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * Stops pushing notification count updates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void disconnect() {
+        receiver = null;
+    }
+
+    /**
+     * Whether the transport is connected to a receiver
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the transport is connected
+     */
+    public boolean isConnected() {
+        return receiver != null;
+    }
+
+    /**
+     * Pushes a change of the notification count of a menu item
+     *
+     * @param referenceName - The reference name of the menu item
+     * @param delta - The amount the count changed by, negative if it decreased
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void pushDelta(String referenceName, int delta) {
+        if (receiver != null) {
+            receiver.onNotificationCountDelta(referenceName, delta);
+        }
+    }
+
+    /**
+     * Pushes the notification count of a menu item
+     *
+     * @param referenceName - The reference name of the menu item
+     * @param count - The notification count
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void pushCount(String referenceName, int count) {
+        HashMap<String, Integer> notificationCounts = new HashMap<String, Integer>();
+        notificationCounts.put(referenceName, count);
+        pushCounts(notificationCounts);
+    }
+
+    /**
+     * Pushes the notification counts of menu items
+     *
+     * @param notificationCounts - The menu item reference names with notification counts
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void pushCounts(Map<String, Integer> notificationCounts) {
+        if (receiver != null) {
+            receiver.onNotificationCounts(notificationCounts);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
+
+/**
+ * Connects a {@link NotificationCountTransport} to a
+ * {@link NotificationCountDisplay} such as the LeftMenuBar. The updates
+ * pushed by the transport are collected and applied to the display once per
+ * animation frame, so a burst of updates causes a single update of the
+ * display and only the counts that changed are set.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class NotificationCountChannel implements NotificationCountReceiver {
+
+    /**
+     * The display the notification counts are set on
+     */
+    private final NotificationCountDisplay display;
+
+    /**
+     * The transport that pushes the notification count updates
+     */
+    private final NotificationCountTransport transport;
+
+    /**
+     * The counts received since the last update of the display
+     */
+    private HashMap<String, Integer> pendingCounts = new HashMap<String, Integer>();
+
+    /**
+     * The deltas received since the last update of the display for menu
+     * items that did not receive a count
+     */
+    private HashMap<String, Integer> pendingDeltas = new HashMap<String, Integer>();
+
+    /**
+     * Whether an animation frame was requested to update the display
+     */
+    private boolean frameRequested = false;
+
+    /**
+     * Whether the channel is connected to the transport
+     */
+    private boolean connected = false;
+
+    /**
+     * Class constructor
+     *
+     * @param display - The display the notification counts should be set on
+     * @param transport - The transport that pushes the notification count updates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public NotificationCountChannel(NotificationCountDisplay display, NotificationCountTransport transport) {
+        this.display = display;
+        this.transport = transport;
+    }
+
+    /**
+     * Connects the channel to the transport so updates are applied to the display
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void connect() {
+        if (!connected) {
+            connected = true;
+            transport.connect(this);
+        }
+    }
+
+    /**
+     * Disconnects the channel from the transport. Updates that were
+     * received but not applied yet are discarded.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void disconnect() {
+        if (connected) {
+            connected = false;
+            transport.disconnect();
+            pendingCounts.clear();
+            pendingDeltas.clear();
+        }
+    }
+
+    /**
+     * Whether the channel is connected to the transport
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the channel is connected
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Collects a change of the notification count of a menu item
+     *
+     * @param referenceName - The reference name of the menu item
+     * @param delta - The amount the count changed by, negative if it decreased
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void onNotificationCountDelta(String referenceName, int delta) {
+        if (!connected || referenceName == null || delta == 0) {
+            return;
+        }
+        String key = referenceName.trim();
+        Integer count = pendingCounts.get(key);
+        if (count != null) {
+            pendingCounts.put(key, count + delta);
+        } else {
+            Integer pendingDelta = pendingDeltas.get(key);
+            pendingDeltas.put(key, pendingDelta == null ? delta : pendingDelta + delta);
+        }
+        requestFrame();
+    }
+
+    /**
+     * Collects the notification counts of menu items. The counts replace
+     * the deltas received for the menu items since the last update.
+     *
+     * @param notificationCounts - The menu item reference names with notification counts
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void onNotificationCounts(Map<String, Integer> notificationCounts) {
+        if (!connected || notificationCounts == null) {
+            return;
+        }
+        for (Map.Entry<String, Integer> notificationCount : notificationCounts.entrySet()) {
+            if (notificationCount.getKey() != null) {
+                String key = notificationCount.getKey().trim();
+                Integer count = notificationCount.getValue();
+                pendingCounts.put(key, count == null ? 0 : count);
+                pendingDeltas.remove(key);
+            }
+        }
+        requestFrame();
+    }
+
+    /**
+     * Applies the updates received since the last update to the display.
+     * This is called on the next animation frame after an update is received
+     * but can be called directly to apply the updates immediately.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void flush() {
+        if (pendingCounts.isEmpty() && pendingDeltas.isEmpty()) {
+            return;
+        }
+        HashMap<String, Integer> changedCounts = new HashMap<String, Integer>();
+        for (Map.Entry<String, Integer> pendingCount : pendingCounts.entrySet()) {
+            addIfChanged(changedCounts, pendingCount.getKey(), pendingCount.getValue());
+        }
+        for (Map.Entry<String, Integer> pendingDelta : pendingDeltas.entrySet()) {
+            String key = pendingDelta.getKey();
+            addIfChanged(changedCounts, key, display.getNotificationCount(key) + pendingDelta.getValue());
+        }
+        pendingCounts = new HashMap<String, Integer>();
+        pendingDeltas = new HashMap<String, Integer>();
+        if (!changedCounts.isEmpty()) {
+            display.setNotificationCounts(changedCounts);
+        }
+    }
+
+    /**
+     * Adds the count of a menu item to the changed counts if it differs
+     * from the count displayed. Counts below 0 are displayed as 0.
+     *
+     * @param changedCounts - The counts that should be set on the display
+     * @param referenceName - The reference name of the menu item
+     * @param count - The new count of the menu item
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void addIfChanged(HashMap<String, Integer> changedCounts, String referenceName, int count) {
+        count = Math.max(count, 0);
+        if (count != display.getNotificationCount(referenceName)) {
+            changedCounts.put(referenceName, count);
+        }
+    }
+
+    /**
+     * Requests an animation frame to apply the updates if one was not requested yet
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void requestFrame() {
+        if (frameRequested) {
+            return;
+        }
+        frameRequested = true;
+        AnimationScheduler.get().requestAnimationFrame(new AnimationCallback() {
+
+            @Override
+            public void execute(double timestamp) {
+                frameRequested = false;
+                flush();
+            }
+        });
+    }
+}
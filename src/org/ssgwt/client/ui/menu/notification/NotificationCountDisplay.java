@@ -0,0 +1,48 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+import java.util.HashMap;
+
+/**
+ * A component that displays notification counts for menu items
+ * identified by their reference names
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface NotificationCountDisplay {
+
+    /**
+     * Retrieves the notification count currently displayed for a menu item
+     *
+     * @param referenceName - The reference name of the menu item
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The notification count, 0 if no count is displayed or the menu item does not exist
+     */
+    int getNotificationCount(String referenceName);
+
+    /**
+     * Sets the notification counts for the menu item reference names in the hashmap
+     *
+     * @param notificationCounts - The menu item reference names with notification counts
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void setNotificationCounts(HashMap<String, Integer> notificationCounts);
+}
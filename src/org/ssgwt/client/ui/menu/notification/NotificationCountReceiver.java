@@ -0,0 +1,49 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+import java.util.Map;
+
+/**
+ * Receives the notification count updates pushed by a
+ * {@link NotificationCountTransport}
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface NotificationCountReceiver {
+
+    /**
+     * Called when the notification count of a menu item changed by an amount
+     *
+     * @param referenceName - The reference name of the menu item
+     * @param delta - The amount the count changed by, negative if it decreased
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void onNotificationCountDelta(String referenceName, int delta);
+
+    /**
+     * Called when the transport received the full notification counts of menu
+     * items, for example when it connected or reconnected. The counts replace
+     * the counts displayed for the menu items.
+     *
+     * @param notificationCounts - The menu item reference names with notification counts
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void onNotificationCounts(Map<String, Integer> notificationCounts);
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+/**
+ * A transport that pushes notification count updates from the server to a
+ * {@link NotificationCountReceiver}. Implementations can use a long poll, a
+ * socket or any other channel the application has to the server.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface NotificationCountTransport {
+
+    /**
+     * Starts pushing notification count updates to the receiver
+     *
+     * @param receiver - The receiver the updates should be pushed to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void connect(NotificationCountReceiver receiver);
+
+    /**
+     * Stops pushing notification count updates
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void disconnect();
+}
@@ -14,6 +14,8 @@
 package org.ssgwt.client.ui.popup;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.event.dom.client.MouseOutEvent;
 import com.google.gwt.event.dom.client.MouseOutHandler;
@@ -21,6 +23,7 @@ import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
 import com.google.gwt.event.logical.shared.ResizeEvent;
 import com.google.gwt.event.logical.shared.ResizeHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.resources.client.ImageResource;
@@ -154,6 +157,16 @@ public class GenericPopup extends PopupPanel {
      */
     Timer mouseOutTimer = null;
 
+    /**
+     * The registration of the browser resize handler, only registered while the popup is showing
+     */
+    private HandlerRegistration resizeHandlerRegistration;
+
+    /**
+     * Whether the popup position will be calculated by a scheduled command
+     */
+    private boolean positionScheduled = false;
+
     /**
      * A ClientBundle that provides style for this widget.
      * 
@@ -396,23 +409,6 @@ public class GenericPopup extends PopupPanel {
         this.setStyleName(resource.genericPopupStyle().hoverPopupContainer());
         loaderImage.addStyleName(resource.genericPopupStyle().popupLoaderImage());
         
-        //This will listen to the browser resize event and update the popup location
-        Window.addResizeHandler(new ResizeHandler() {
-            
-            /**
-             * Will handle the logic on the resize of the browser
-             * 
-             * @author Ruan Naude <naudeuran777@gmail.com>
-             * @since 15 July 2013
-             */
-            @Override
-            public void onResize(ResizeEvent event) {
-                if (isShowing()) {
-                    calculatePopupPosition();
-                }
-            }
-        });
-        
         //add mouse out handler to the popup
         this.addDomHandler(new MouseOutHandler() {
             
@@ -449,6 +445,89 @@ public class GenericPopup extends PopupPanel {
 
     }
     
+    /**
+     * Shows the popup and starts listening to the browser resize event to
+     * update the popup location
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void show() {
+        super.show();
+        if (resizeHandlerRegistration == null) {
+            resizeHandlerRegistration = Window.addResizeHandler(new ResizeHandler() {
+
+                /**
+                 * Will handle the logic on the resize of the browser
+                 *
+                 * @author Ruan Naude <naudeuran777@gmail.com>
+                 * @since 15 July 2013
+                 */
+                @Override
+                public void onResize(ResizeEvent event) {
+                    if (isShowing()) {
+                        schedulePopupPosition();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Hides the popup and stops listening to the browser resize event so the
+     * popup is not kept reachable by the window
+     *
+     * @param autoClosed - Whether the popup was closed automatically
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void hide(boolean autoClosed) {
+        positionScheduled = false;
+        if (resizeHandlerRegistration != null) {
+            resizeHandlerRegistration.removeHandler();
+            resizeHandlerRegistration = null;
+        }
+        if (mouseOutTimer != null) {
+            mouseOutTimer.cancel();
+            mouseOutTimer = null;
+        }
+        super.hide(autoClosed);
+    }
+
+    /**
+     * Schedules the calculation of the popup position after the current
+     * event has been handled. Multiple requests before the command runs
+     * result in a single calculation.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void schedulePopupPosition() {
+        if (positionScheduled) {
+            return;
+        }
+        positionScheduled = true;
+        Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+
+            /**
+             * Calculates the popup position if it was not cancelled by hiding the popup
+             *
+             * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+             * @since  19 October 2026
+             */
+            @Override
+            public void execute() {
+                if (positionScheduled) {
+                    positionScheduled = false;
+                    calculatePopupPosition();
+                }
+            }
+        });
+    }
+
     /**
      * This will handle what happens when the mouse leaves the popup
      * 
@@ -547,23 +626,8 @@ public class GenericPopup extends PopupPanel {
         this.attachToWidget = attachToWidget;
         this.closeOnMouseOut = closeOnMouseOut;
         
-        Timer timer = new Timer() {
-            
-            /**
-             * This method will be called when a timer fires 
-             * allowing time for the resource to be loaded and
-             * then calculate Popup Position
-             * 
-             * @author Ruan Naude <naudeuran777@gmail.com>
-             * @since 15 July 2013
-             */
-            @Override
-            public void run() {
-                calculatePopupPosition();
-            }
-        };
-        timer.schedule(100);
-        
+        //allow the content to be rendered before the popup position is calculated
+        schedulePopupPosition();
     }
     
     /**
@@ -584,44 +648,46 @@ public class GenericPopup extends PopupPanel {
         //calculate popup position if popup should display relative
         //to widget with an arrow
         if (useArrow) {
-            mainFlowPanel.add(outerArrow);
-            mainFlowPanel.add(innerArrow);
+            if (outerArrow.getParent() != mainFlowPanel) {
+                mainFlowPanel.add(outerArrow);
+                mainFlowPanel.add(innerArrow);
+            }
             setPopupPosition();
         }
     }
     
     /**
      * This function will set the loader state size and 
-     * put the loader image in the center of the popup
+     * put the loader image in the center of the popup.
+     * The content is measured once before any of the sizes are written
+     * so the browser only has to calculate the layout once.
      * 
      * @author Ruan Naude <naudeuran777@gmail.com>
      * @since 15 July 2013
      */
     private void setLoaderStateSize() {
-        //set the size of the loader panel based on the popup content
+        //the content has to be visible to be measured
         if (loadingState) {
             popupContent.setVisible(true);
-            loaderFlowPanel.setHeight(popupContent.getOffsetHeight() + Unit.PX.getType());
-            loaderFlowPanel.setWidth(popupContent.getOffsetWidth() + Unit.PX.getType());
-            loaderFlowPanel.setVisible(true);
-            popupContent.setVisible(false);
-        } else {
-            loaderFlowPanel.setHeight(popupContent.getOffsetHeight() + Unit.PX.getType());
-            loaderFlowPanel.setWidth(popupContent.getOffsetWidth() + Unit.PX.getType());
         }
         
-        //if the loader panel is to small for the loader image then
-        //make the loader panel the size of the loader image
-        if (loaderFlowPanel.getOffsetWidth() < loaderImage.getOffsetWidth()) {
-            loaderFlowPanel.setWidth(loaderImage.getOffsetWidth() + Unit.PX.getType());
-        }
-        if (loaderFlowPanel.getOffsetHeight() < loaderImage.getOffsetHeight()) {
-            loaderFlowPanel.setHeight(loaderImage.getOffsetWidth() + Unit.PX.getType());
+        //measure the content, the loader panel should be at least the size of the loader image
+        int imageWidth = resource.loaderImage().getWidth();
+        int imageHeight = resource.loaderImage().getHeight();
+        int loaderWidth = Math.max(popupContent.getOffsetWidth(), imageWidth);
+        int loaderHeight = Math.max(popupContent.getOffsetHeight(), imageHeight);
+        
+        //set the size of the loader panel based on the popup content
+        loaderFlowPanel.setHeight(loaderHeight + Unit.PX.getType());
+        loaderFlowPanel.setWidth(loaderWidth + Unit.PX.getType());
+        if (loadingState) {
+            loaderFlowPanel.setVisible(true);
+            popupContent.setVisible(false);
         }
         
         //put the loader image in the center of the loader panel
-        int xPosition = (loaderFlowPanel.getOffsetWidth() / 2) - (loaderImage.getOffsetWidth() / 2);
-        int yPosition = (loaderFlowPanel.getOffsetHeight() / 2) - (loaderImage.getOffsetHeight() / 2);
+        int xPosition = (loaderWidth / 2) - (imageWidth / 2);
+        int yPosition = (loaderHeight / 2) - (imageHeight / 2);
         
         loaderImage.getElement().getStyle().setProperty(STYLE_PROPERTY_MARGIN_LEFT, xPosition + Unit.PX.getType());
         loaderImage.getElement().getStyle().setProperty(STYLE_PROPERTY_MARGIN_TOP, yPosition + Unit.PX.getType());
@@ -629,34 +695,41 @@ public class GenericPopup extends PopupPanel {
     
     /**
      * Calculate the position of the popup.
+     * All the positions are read before the arrows and popup are moved.
      * 
      * @author Ruan Naude <naudeuran777@gmail.com>
      * @since 15 July 2013
      */
     private void setPopupPosition() {
+        //read the layout
         int windowWidth = Window.getClientWidth() - 10;
+        int popupWidth = this.getOffsetWidth();
+        int popupHeight = this.getOffsetHeight();
+        int attachToLeft = this.attachToWidget.getAbsoluteLeft();
+        int attachToTop = this.attachToWidget.getAbsoluteTop();
+        int attachToWidth = this.attachToWidget.getOffsetWidth();
+        int attachToHeight = this.attachToWidget.getOffsetHeight();
         boolean topPointer = false;
         
         // Now we need to determine the x and y position of the pointer
-        int xPointerPosition = this.getOffsetWidth() / 6;
+        int xPointerPosition = popupWidth / 6;
         // -1 is used as it should be shown 1px above/below the border line of the popup
-        int yPointerPosition = this.getOffsetHeight() - 1;
-        parentCenterXPosition = this.attachToWidget.getAbsoluteLeft()
-            + (this.attachToWidget.getOffsetWidth() / 2);
+        int yPointerPosition = popupHeight - 1;
+        parentCenterXPosition = attachToLeft + (attachToWidth / 2);
         
         // By default show the popup upwards if possible
-        if (this.getOffsetHeight() + 10 <= this.attachToWidget.getAbsoluteTop()) {
-            popupTopPosition = this.attachToWidget.getAbsoluteTop() - this.getOffsetHeight() - 10;
+        if (popupHeight + 10 <= attachToTop) {
+            popupTopPosition = attachToTop - popupHeight - 10;
             topPointer = false;
         } else {
-            popupTopPosition = this.attachToWidget.getAbsoluteTop() + this.attachToWidget.getOffsetHeight() + 10;
+            popupTopPosition = attachToTop + attachToHeight + 10;
             yPointerPosition = -12;
             topPointer = true;
         }
         
         // maxX will be the reference point plus the width of the popup.
         // Used to determine if we are 'out' of the screen horizontally
-        int maxX = this.attachToWidget.getAbsoluteLeft() + this.getOffsetWidth();
+        int maxX = attachToLeft + popupWidth;
         
         // We cannot show the popup as it is out of the screen.
         if (maxX >= windowWidth) {
@@ -665,10 +738,10 @@ public class GenericPopup extends PopupPanel {
             // so that we get 5/6.
             // Subtract 6 to align the center of the pointer with the center of the parent image
             popupLeftPosition = parentCenterXPosition - (xPointerPosition * 5) - 6;
-            this.setPointerPosition(xPointerPosition * 5, yPointerPosition, topPointer);
+            this.setPointerPosition(xPointerPosition * 5, yPointerPosition, topPointer, popupWidth);
         } else {
             popupLeftPosition = parentCenterXPosition - (xPointerPosition) - 6;
-            this.setPointerPosition(xPointerPosition, yPointerPosition, topPointer);
+            this.setPointerPosition(xPointerPosition, yPointerPosition, topPointer, popupWidth);
         }
         
         this.setPopupPosition(
@@ -683,18 +756,19 @@ public class GenericPopup extends PopupPanel {
      * @param xPosition The x position in pixels
      * @param yPosition The y position in pixels
      * @param topPointer Whether the pointer should be at the top or bottom of popup
+     * @param popupWidth The width of the popup measured before the pointer is positioned
      * 
      * @author Ruan Naude <naudeuran777@gmail.com>
      * @since 15 July 2013
      */
-    private void setPointerPosition(int xPosition, int yPosition, boolean topPointer) {
+    private void setPointerPosition(int xPosition, int yPosition, boolean topPointer, int popupWidth) {
         //check if the popup exceeds the window boundaries and adjust accordingly
         if (popupLeftPosition < 1) {
             popupLeftPosition = 0;
             if (parentCenterXPosition <= 10) {
                 xPosition = 10;
-            } else if (xPosition > this.getOffsetWidth()) {
-                xPosition = this.getOffsetWidth() - 10;
+            } else if (xPosition > popupWidth) {
+                xPosition = popupWidth - 10;
             } else {
                 xPosition = parentCenterXPosition;
             }
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+/**
+ * Calculates the delay before the search box makes a request from the
+ * measured typing speed of the user and the measured latency of the service.
+ * The delay is long enough for the user to type the next character and grows
+ * when the service is slow, so fewer requests are made that will be superseded.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class AdaptiveRequestDelay {
+
+    /**
+     * The weight a new measurement carries in the moving averages
+     */
+    private static final double SMOOTHING = 0.3;
+
+    /**
+     * Key intervals longer than this are pauses and are not used to measure typing speed
+     */
+    private static final int MAX_KEY_INTERVAL = 1000;
+
+    /**
+     * The factor the average key interval is multiplied with to allow for uneven typing
+     */
+    private static final double KEY_INTERVAL_FACTOR = 1.5;
+
+    /**
+     * The factor the average latency is multiplied with
+     */
+    private static final double LATENCY_FACTOR = 0.5;
+
+    /**
+     * The minimum delay in milliseconds
+     */
+    private final int minDelay;
+
+    /**
+     * The maximum delay in milliseconds
+     */
+    private final int maxDelay;
+
+    /**
+     * The moving average of the time between key strokes, -1 until measured
+     */
+    private double averageKeyInterval = -1;
+
+    /**
+     * The moving average of the service latency, -1 until measured
+     */
+    private double averageLatency = -1;
+
+    /**
+     * The time of the previous key stroke, -1 before the first key stroke
+     */
+    private long previousKeyTime = -1;
+
+    /**
+     * Class constructor
+     *
+     * @param minDelay - The minimum delay in milliseconds
+     * @param maxDelay - The maximum delay in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public AdaptiveRequestDelay(int minDelay, int maxDelay) {
+        this.minDelay = minDelay;
+        this.maxDelay = Math.max(minDelay, maxDelay);
+    }
+
+    /**
+     * Records a key stroke that changed the search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void recordKeyStroke() {
+        long now = System.currentTimeMillis();
+        if (previousKeyTime >= 0) {
+            long interval = now - previousKeyTime;
+            if (interval <= MAX_KEY_INTERVAL) {
+                averageKeyInterval = average(averageKeyInterval, interval);
+            }
+        }
+        previousKeyTime = now;
+    }
+
+    /**
+     * Records the latency of a completed request
+     *
+     * @param latency - The number of milliseconds the request took
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void recordLatency(long latency) {
+        averageLatency = average(averageLatency, latency);
+    }
+
+    /**
+     * Retrieves the delay that should be used before the next request is made
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The delay in milliseconds
+     */
+    public int getDelay() {
+        double delay = minDelay;
+        if (averageKeyInterval >= 0) {
+            delay = Math.max(delay, averageKeyInterval * KEY_INTERVAL_FACTOR);
+        }
+        if (averageLatency >= 0) {
+            delay = Math.max(delay, averageLatency * LATENCY_FACTOR);
+        }
+        return (int) Math.min(delay, maxDelay);
+    }
+
+    /**
+     * Adds a measurement to a moving average
+     *
+     * @param average - The current average, -1 if nothing was measured yet
+     * @param value - The new measurement
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The new average
+     */
+    private static double average(double average, double value) {
+        if (average < 0) {
+            return value;
+        }
+        return average + SMOOTHING * (value - average);
+    }
+}
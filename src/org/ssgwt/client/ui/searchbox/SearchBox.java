@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.ssgwt.client.ui.ImageButton;
+import org.ssgwt.client.ui.searchbox.event.SearchRequestCompleteEvent;
+import org.ssgwt.client.ui.searchbox.event.SearchRequestCompleteEvent.SearchRequestCompleteHandler;
+import org.ssgwt.client.ui.searchbox.event.SearchRequestCompleteEvent.SearchRequestCompleteHasHandlers;
 import org.ssgwt.client.ui.searchbox.recorddisplays.SearchBoxRecordWidget;
 
 import com.google.gwt.core.client.GWT;
@@ -28,6 +31,7 @@ import com.google.gwt.event.dom.client.KeyUpEvent;
 import com.google.gwt.event.dom.client.KeyUpHandler;
 import com.google.gwt.event.logical.shared.CloseEvent;
 import com.google.gwt.event.logical.shared.CloseHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.uibinder.client.UiBinder;
@@ -47,7 +51,7 @@ import com.google.gwt.user.client.ui.Widget;
  *
  * @param <T> The type of the VO that will hold the data displayed by the search widget
  */
-public abstract class SearchBox<T> extends Composite implements KeyUpHandler, ClickHandler {
+public abstract class SearchBox<T> extends Composite implements KeyUpHandler, ClickHandler, SearchRequestCompleteHasHandlers {
 
     /**
      * The minimum characters required for search service call to be made
@@ -102,6 +106,11 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     private final ArrayList<SearchBoxRecordWidget<T>> currentDisplayItems = new ArrayList();
 
+    /**
+     * The display items that were created so far, reused for the results of each request
+     */
+    private final ArrayList<SearchBoxRecordWidget<T>> displayItemPool = new ArrayList<SearchBoxRecordWidget<T>>();
+
     /**
      * The request id
      */
@@ -127,6 +136,36 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     private SearchBoxDropDown dropDownPopup = null;
 
+    /**
+     * The cache that holds previously retrieved results, null if caching is disabled
+     */
+    private SearchResultCache<T> resultCache = null;
+
+    /**
+     * The latest request that was made, null if no request is busy
+     */
+    private SearchRequest activeRequest = null;
+
+    /**
+     * The index used to match the search string locally, null if results are retrieved with retrieveResult
+     */
+    private SearchBoxIndex<T> localIndex = null;
+
+    /**
+     * The maximum number of results a local search will display
+     */
+    private int maxLocalResults = 50;
+
+    /**
+     * Calculates the request delay from the typing speed and service latency, null if the fixed delay is used
+     */
+    private AdaptiveRequestDelay adaptiveRequestDelay = null;
+
+    /**
+     * The display widget used to retrieve the selection text of items that are narrowed down locally
+     */
+    private SearchBoxRecordWidget<T> matchingDisplayItem = null;
+
     /**
      * UiBinder interface for the composite
      *
@@ -378,28 +417,45 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
                 setSelectedDisplayItem(dropDownPopup.getSelectedItem());
             }
             onSubmit(selectedObject);
-        } else if (textBox.getText().length() >= 3 && !textBox.getText().equals(previousSearchString)) {
+        } else if (textBox.getText().length() >= minCharCount && !textBox.getText().equals(previousSearchString)) {
             selectedObject = null;
             previousSearchString = textBox.getText();
+            if (adaptiveRequestDelay != null) {
+                adaptiveRequestDelay.recordKeyStroke();
+            }
             createDropDownPopup();
             dropDownPopup.setCurrentSearchString(textBox.getText());
             if (delayedRequest != null) {
                 delayedRequest.cancel();
                 delayedRequest = null;
             }
+            if (localIndex != null) {
+                retrieveLocalResult(textBox.getText());
+                return;
+            }
+            if (displayCachedResults(textBox.getText())) {
+                return;
+            }
             delayedRequest = new Timer() {
 
                 @Override
                 public void run() {
-                    requestId++;
-                    retrieveResult(textBox.getText(), requestId);
                     delayedRequest = null;
+                    cancelActiveRequest();
+                    requestId++;
+                    activeRequest = new SearchRequest(requestId, textBox.getText());
+                    retrieveResult(activeRequest);
                 }
             };
-            delayedRequest.schedule(requestDelayTime);
-        } else if (textBox.getText().length() < 3) {
+            delayedRequest.schedule(getRequestDelayTime());
+        } else if (textBox.getText().length() < minCharCount) {
             selectedObject = null;
             previousSearchString = textBox.getText();
+            if (delayedRequest != null) {
+                delayedRequest.cancel();
+                delayedRequest = null;
+            }
+            cancelActiveRequest();
             destroyDropDownPopup();
         }
     }
@@ -450,6 +506,156 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     public abstract void retrieveResult(String searchString, final int requestId);
 
+    /**
+     * The function that is called to start a service call to return search data.
+     * Override this function instead of retrieveResult(String, int) to register
+     * a cancel handler on the request that aborts the service call once the
+     * request has been superseded by a newer one.
+     *
+     * @param request - The request holding the search string and request id
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void retrieveResult(SearchRequest request) {
+        retrieveResult(request.getSearchString(), request.getRequestId());
+    }
+
+    /**
+     * Matches the search string against the local index and displays the
+     * results directly. The results are limited to maxLocalResults so they
+     * are not cached, and no request is made so no latency is recorded and
+     * no SearchRequestCompleteEvent is dispatched for them.
+     *
+     * @param searchString - The search string the user entered
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void retrieveLocalResult(String searchString) {
+        // Invalidate any request that is still busy so its results are ignored
+        requestId++;
+        cancelActiveRequest();
+        displayResults(localIndex.search(searchString, maxLocalResults));
+    }
+
+    /**
+     * Sets the index used to match search strings locally instead of calling
+     * retrieveResult, null switches back to retrieveResult
+     *
+     * @param localIndex - The local index
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setLocalIndex(SearchBoxIndex<T> localIndex) {
+        this.localIndex = localIndex;
+    }
+
+    /**
+     * Retrieves the index used to match search strings locally
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The local index or null if results are retrieved with retrieveResult
+     */
+    public SearchBoxIndex<T> getLocalIndex() {
+        return localIndex;
+    }
+
+    /**
+     * Replaces the items in the local index. A trigram index is created if no
+     * local index has been set.
+     *
+     * @param items - The items the search string should be matched against
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setLocalData(List<T> items) {
+        if (localIndex == null) {
+            localIndex = new TrigramSearchBoxIndex<T>();
+        }
+        localIndex.clear();
+        for (T item : items) {
+            localIndex.add(item, getItemSelectionText(item));
+        }
+    }
+
+    /**
+     * Adds an item to the local index, or updates the indexed text of an
+     * item that was already added
+     *
+     * @param item - The item to add
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addLocalItem(T item) {
+        if (localIndex == null) {
+            localIndex = new TrigramSearchBoxIndex<T>();
+        }
+        localIndex.add(item, getItemSelectionText(item));
+    }
+
+    /**
+     * Removes an item from the local index
+     *
+     * @param item - The item to remove
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void removeLocalItem(T item) {
+        if (localIndex != null) {
+            localIndex.remove(item);
+        }
+    }
+
+    /**
+     * Sets the maximum number of results a local search will display
+     *
+     * @param maxLocalResults - The maximum number of results
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setMaxLocalResults(int maxLocalResults) {
+        this.maxLocalResults = maxLocalResults;
+    }
+
+    /**
+     * Cancels the request that is busy, if any, and notifies the handlers
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void cancelActiveRequest() {
+        if (activeRequest != null) {
+            SearchRequest request = activeRequest;
+            activeRequest = null;
+            request.cancel();
+            SearchRequestCompleteEvent.fire(this, request);
+        }
+    }
+
+    /**
+     * Adds a handler that is notified each time a request completes or is
+     * cancelled. The request on the event holds its latency.
+     *
+     * @param handler - The handler to add
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The handler registration
+     */
+    @Override
+    public HandlerRegistration addSearchRequestCompleteHandler(SearchRequestCompleteHandler handler) {
+        return addHandler(handler, SearchRequestCompleteEvent.getType());
+    }
+
     /**
      * Sets the delay time before a request is made after a user has released a button
      *
@@ -462,6 +668,45 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
         requestDelayTime = millisecondsDelay;
     }
 
+    /**
+     * Lets the delay time before a request is made adapt to the typing speed
+     * of the user and the latency of the service
+     *
+     * @param minDelay - The minimum delay time in milliseconds
+     * @param maxDelay - The maximum delay time in milliseconds
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setAdaptiveRequestDelay(int minDelay, int maxDelay) {
+        adaptiveRequestDelay = new AdaptiveRequestDelay(minDelay, maxDelay);
+    }
+
+    /**
+     * Switches back to the fixed delay time set by setRequestDelayTime
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void disableAdaptiveRequestDelay() {
+        adaptiveRequestDelay = null;
+    }
+
+    /**
+     * Retrieves the delay time before a request is made after a user has released a button
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The delay time in milliseconds
+     */
+    public int getRequestDelayTime() {
+        if (adaptiveRequestDelay != null) {
+            return adaptiveRequestDelay.getDelay();
+        }
+        return requestDelayTime;
+    }
+
     /**
      * Set the data on the search box that was returned by the service call
      *
@@ -472,18 +717,199 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      * @since  22 January 2013
      */
     public void setData(List<T> searchResults, int requestId) {
+        setData(searchResults, requestId, false);
+    }
+
+    /**
+     * Set the data on the search box that was returned by the service call.
+     * A complete result set holds every record that matches the search string,
+     * if result caching is enabled the results for longer search strings will
+     * be narrowed down from it locally without calling retrieveResult.
+     *
+     * @param searchResults - The search results
+     * @param requestId - The id of the request
+     * @param complete - Whether the search results hold every record that matches the search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setData(List<T> searchResults, int requestId, boolean complete) {
         if (requestId == this.requestId) {
-            currentDisplayItems.clear();
-            for (T resultItem : searchResults) {
-                SearchBoxRecordWidget<T> tempDisplayItem = createDisplayWidgetInstance();
-                tempDisplayItem.setItemVO(resultItem);
+            SearchRequest request = activeRequest;
+            activeRequest = null;
+            if (request != null) {
+                request.complete();
+                if (adaptiveRequestDelay != null) {
+                    adaptiveRequestDelay.recordLatency(request.getLatency());
+                }
+                if (resultCache != null) {
+                    resultCache.put(request.getSearchString(), new ArrayList<T>(searchResults), complete);
+                }
+            }
+            displayResults(searchResults);
+            if (request != null) {
+                SearchRequestCompleteEvent.fire(this, request);
+            }
+        }
+    }
+
+    /**
+     * Populates the display items with the results and displays them on the
+     * drop down. Display items created for previous results are reused and
+     * new ones are only created when there are more results than before.
+     *
+     * @param searchResults - The results that should be displayed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void displayResults(List<T> searchResults) {
+        currentDisplayItems.clear();
+        int index = 0;
+        for (T resultItem : searchResults) {
+            SearchBoxRecordWidget<T> tempDisplayItem;
+            if (index < displayItemPool.size()) {
+                tempDisplayItem = displayItemPool.get(index);
+            } else {
+                tempDisplayItem = createDisplayWidgetInstance();
                 tempDisplayItem.setParentSearchBox(this);
-                currentDisplayItems.add(tempDisplayItem);
+                displayItemPool.add(tempDisplayItem);
             }
-            if (dropDownPopup != null) {
-                dropDownPopup.setSelectableItems(currentDisplayItems);
+            tempDisplayItem.setSelectedState(false);
+            tempDisplayItem.setItemVO(resultItem);
+            currentDisplayItems.add(tempDisplayItem);
+            index++;
+        }
+        if (dropDownPopup != null) {
+            dropDownPopup.setSelectableItems(currentDisplayItems);
+        }
+    }
+
+    /**
+     * Displays the results for the search string from the result cache if the
+     * cache holds the results for the search string or a complete result set
+     * for a prefix of the search string
+     *
+     * @param searchString - The search string the user entered
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the results were displayed from the cache and no request is required
+     */
+    private boolean displayCachedResults(String searchString) {
+        if (resultCache == null) {
+            return false;
+        }
+        SearchResultCache.Entry<T> entry = resultCache.get(searchString);
+        List<T> results = null;
+        if (entry != null) {
+            results = entry.getResults();
+        } else {
+            entry = resultCache.getCompletePrefixEntry(searchString, minCharCount);
+            if (entry != null) {
+                results = new ArrayList<T>();
+                for (T item : entry.getResults()) {
+                    if (matchesSearchString(item, searchString)) {
+                        results.add(item);
+                    }
+                }
+                resultCache.put(searchString, results, true, entry.getCreatedTime());
             }
         }
+        if (results == null) {
+            return false;
+        }
+        // Invalidate any request that is still busy so its results are ignored
+        requestId++;
+        cancelActiveRequest();
+        displayResults(results);
+        return true;
+    }
+
+    /**
+     * Checks if an item from a complete result set matches a longer search
+     * string. By default the selection text of the item's display widget is
+     * checked to contain the search string, ignoring case. Override this
+     * function if the service matches records on other fields.
+     *
+     * @param item - The item to check
+     * @param searchString - The search string the user entered
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the item should be displayed for the search string
+     */
+    public boolean matchesSearchString(T item, String searchString) {
+        String selectionText = getItemSelectionText(item);
+        return selectionText != null && selectionText.toLowerCase().contains(searchString.toLowerCase());
+    }
+
+    /**
+     * Retrieves the text that will be displayed in the search box if the item is selected
+     *
+     * @param item - The item to retrieve the selection text for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The selection text of the item
+     */
+    protected String getItemSelectionText(T item) {
+        if (matchingDisplayItem == null) {
+            matchingDisplayItem = createDisplayWidgetInstance();
+        }
+        matchingDisplayItem.setItemVO(item);
+        return matchingDisplayItem.getItemSelectionText();
+    }
+
+    /**
+     * Enables the caching of results using the default cache size and time to live
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void enableResultCache() {
+        setResultCache(new SearchResultCache<T>());
+    }
+
+    /**
+     * Enables the caching of results
+     *
+     * @param maxEntries - The maximum number of search strings to hold results for
+     * @param timeToLive - The number of milliseconds cached results are valid for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void enableResultCache(int maxEntries, int timeToLive) {
+        setResultCache(new SearchResultCache<T>(maxEntries, timeToLive));
+    }
+
+    /**
+     * Sets the cache used to hold previously retrieved results, null disables caching
+     *
+     * @param resultCache - The result cache
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setResultCache(SearchResultCache<T> resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Removes all the cached results, should be called if the data the
+     * results were retrieved from has changed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void clearResultCache() {
+        if (resultCache != null) {
+            resultCache.clear();
+        }
     }
 
     /**
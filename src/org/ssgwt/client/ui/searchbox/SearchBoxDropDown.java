@@ -13,16 +13,21 @@
  */
 package org.ssgwt.client.ui.searchbox;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.ssgwt.client.ui.searchbox.SearchBox.SearchBoxResources;
 import org.ssgwt.client.ui.searchbox.recorddisplays.SearchBoxRecordWidget;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
 import com.google.gwt.event.dom.client.MouseOutEvent;
 import com.google.gwt.event.dom.client.MouseOutHandler;
 import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.PopupPanel;
@@ -37,6 +42,56 @@ import com.google.gwt.user.client.ui.SimplePanel;
  * @param <T> The type of the VO that will hold the data displayed by the search widget
  */
 public class SearchBoxDropDown<T> extends PopupPanel {
+
+    /**
+     * The maximum height of the drop down in pixels
+     */
+    private static final int MAX_HEIGHT = 250;
+
+    /**
+     * The number of rows rendered above and below the visible rows to allow for smooth scrolling
+     */
+    private static final int BUFFER_ROWS = 5;
+
+    /**
+     * The height of the splitter between records in pixels
+     */
+    private static final int SPLITTER_HEIGHT = 1;
+
+    /**
+     * The height of a record including its splitter that is assumed until a record can be measured
+     */
+    private static final int DEFAULT_ROW_HEIGHT = 36;
+
+    /**
+     * The height of a record including its splitter, -1 until it is measured
+     */
+    private int rowHeight = -1;
+
+    /**
+     * The index of the first record that is currently rendered
+     */
+    private int firstRenderedIndex = 0;
+
+    /**
+     * The index after the last record that is currently rendered
+     */
+    private int lastRenderedIndex = 0;
+
+    /**
+     * The panel that takes up the space of the records above the rendered records
+     */
+    private SimplePanel topSpacer = new SimplePanel();
+
+    /**
+     * The panel that takes up the space of the records below the rendered records
+     */
+    private SimplePanel bottomSpacer = new SimplePanel();
+
+    /**
+     * The splitters that are reused between the rendered records
+     */
+    private final ArrayList<SimplePanel> recordSplitters = new ArrayList<SimplePanel>();
     
     /**
      * Flag that indicates if the page is waiting for results
@@ -94,8 +149,88 @@ public class SearchBoxDropDown<T> extends PopupPanel {
         mainPanel.setStyleName(this.resources.searchBoxStyle().dropDown());
         this.add(mainPanel);
         addInfoMessages();
-        mainPanel.getElement().getStyle().setProperty("maxHeight", "250px");
+        mainPanel.getElement().getStyle().setProperty("maxHeight", MAX_HEIGHT + "px");
         mainPanel.getElement().getStyle().setProperty("overflow", "auto");
+        mainPanel.addDomHandler(new ScrollHandler() {
+
+            /**
+             * Renders the records that scrolled into view
+             *
+             * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+             * @since  19 October 2026
+             *
+             * @param event - Scroll Event
+             */
+            @Override
+            public void onScroll(ScrollEvent event) {
+                if (hasResults) {
+                    renderVisibleItems(false);
+                }
+            }
+        }, ScrollEvent.getType());
+        mainPanel.addDomHandler(new MouseOverHandler() {
+
+            /**
+             * The event that fire on mouse over
+             *
+             * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+             * @since  22 January 2013
+             *
+             * @param event - Mouse Over Event
+             */
+            @Override
+            public void onMouseOver(MouseOverEvent event) {
+                int itemId = findRenderedItemIndex(event.getNativeEvent().getEventTarget());
+                if (itemId >= 0) {
+                    if (selectedIndex >= 0) {
+                        resultDisplayItems.get(selectedIndex).setSelectedState(false);
+                    }
+                    resultDisplayItems.get(itemId).setSelectedState(true);
+                    selectedIndex = itemId;
+                }
+            }
+        }, MouseOverEvent.getType());
+        mainPanel.addDomHandler(new MouseOutHandler() {
+
+            /**
+             * The event that fire on mouse out
+             *
+             * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+             * @since  22 January 2013
+             *
+             * @param event - Mouse out Event
+             */
+            @Override
+            public void onMouseOut(MouseOutEvent event) {
+                int itemId = findRenderedItemIndex(event.getNativeEvent().getEventTarget());
+                if (itemId >= 0) {
+                    resultDisplayItems.get(itemId).setSelectedState(false);
+                }
+            }
+        }, MouseOutEvent.getType());
+    }
+
+    /**
+     * Finds the index of the rendered record the event target belongs to
+     *
+     * @param eventTarget - The target of the mouse event
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The index of the record or -1 if the target is not part of a record
+     */
+    private int findRenderedItemIndex(EventTarget eventTarget) {
+        if (!hasResults || !Element.is(eventTarget)) {
+            return -1;
+        }
+        Element target = Element.as(eventTarget);
+        for (int i = firstRenderedIndex; i < lastRenderedIndex; i++) {
+            if (resultDisplayItems.get(i).getElement().isOrHasChild(target)) {
+                return i;
+            }
+        }
+        return -1;
     }
     
     /**
@@ -130,7 +265,7 @@ public class SearchBoxDropDown<T> extends PopupPanel {
             }
             selectedIndex++;
             resultDisplayItems.get(selectedIndex).setSelectedState(true);
-            resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+            scrollItemIntoView(selectedIndex);
         }
         if (selectedIndex >= 0) {
             return resultDisplayItems.get(selectedIndex).getItemSelectionText();
@@ -153,7 +288,7 @@ public class SearchBoxDropDown<T> extends PopupPanel {
             selectedIndex--;
             if (selectedIndex >= 0) {
                 resultDisplayItems.get(selectedIndex).setSelectedState(true);
-                resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+                scrollItemIntoView(selectedIndex);
             }
         }
         if (selectedIndex >= 0) {
@@ -205,7 +340,9 @@ public class SearchBoxDropDown<T> extends PopupPanel {
     }
     
     /**
-     * Updates the items that should be displayed on the drop down for the user
+     * Updates the items that should be displayed on the drop down for the user.
+     * Only the records that are visible in the drop down are added to it, the
+     * rest are rendered as the user scrolls.
      * 
      * @param resultDisplayItems
      * 
@@ -216,58 +353,124 @@ public class SearchBoxDropDown<T> extends PopupPanel {
         waitingForResults = false;
         hasResults = !(resultDisplayItems.size() == 0);
         this.resultDisplayItems = resultDisplayItems;
+        selectedIndex = -1;
         if (hasResults) {
-            mainPanel.clear();
-            int count = 0;
-            for (final SearchBoxRecordWidget<T> displayItem : this.resultDisplayItems) {
-                if (count > 0) {
-                    SimplePanel recordsSplitter = new SimplePanel();
-                    recordsSplitter.setHeight("1px");
-                    recordsSplitter.setStyleName("itemSplitter");
-                    mainPanel.add(recordsSplitter);
-                }
-                mainPanel.add(displayItem);
-                final int itemId = count;
-                displayItem.addMouseOverHandler(new MouseOverHandler() {
-                    
-                    /**
-                     * The event that fire on mouse over
-                     * 
-                     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-                     * @since  22 January 2013
-                     * 
-                     * @param event - Mouse Over Event
-                     */
-                    @Override
-                    public void onMouseOver(MouseOverEvent event) {
-                        if (selectedIndex >= 0) {
-                            SearchBoxDropDown.this.resultDisplayItems.get(selectedIndex).setSelectedState(false);
-                        }
-                        displayItem.setSelectedState(true);
-                        selectedIndex = itemId;
-                    }
-                });
-                displayItem.addMouseOutHandler(new MouseOutHandler() {
-                    
-                    /**
-                     * The event that fire on mouse out
-                     * 
-                     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-                     * @since  22 January 2013
-                     * 
-                     * @param event - Mouse out Event
-                     */
-                    @Override
-                    public void onMouseOut(MouseOutEvent event) {
-                        displayItem.setSelectedState(false);
-                    }
-                });
-                count++;
-            }
+            mainPanel.getElement().setScrollTop(0);
+            renderVisibleItems(true);
         } else {
             addInfoMessages();
         }
     }
+
+    /**
+     * Renders the records that are visible at the current scroll position of
+     * the drop down along with a few buffer rows above and below them
+     * 
+     * @param force - Whether the records should be rendered even if the visible range did not change
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void renderVisibleItems(boolean force) {
+        int itemCount = resultDisplayItems.size();
+        int rowHeight = this.rowHeight > 0 ? this.rowHeight : measureRowHeight();
+        int visibleRows = (MAX_HEIGHT + rowHeight - 1) / rowHeight;
+        int firstVisibleIndex = mainPanel.getElement().getScrollTop() / rowHeight;
+        int first = Math.max(0, firstVisibleIndex - BUFFER_ROWS);
+        int last = Math.min(itemCount, firstVisibleIndex + visibleRows + BUFFER_ROWS);
+        if (!force && first == firstRenderedIndex && last == lastRenderedIndex) {
+            return;
+        }
+        firstRenderedIndex = first;
+        lastRenderedIndex = last;
+        
+        int scrollTop = mainPanel.getElement().getScrollTop();
+        mainPanel.clear();
+        topSpacer.setHeight(Math.max(0, first * rowHeight - SPLITTER_HEIGHT) + "px");
+        mainPanel.add(topSpacer);
+        for (int i = first; i < last; i++) {
+            if (i > 0) {
+                mainPanel.add(getRecordSplitter(i - first));
+            }
+            mainPanel.add(resultDisplayItems.get(i));
+        }
+        bottomSpacer.setHeight(((itemCount - last) * rowHeight) + "px");
+        mainPanel.add(bottomSpacer);
+        mainPanel.getElement().setScrollTop(scrollTop);
+    }
+
+    /**
+     * Measures the height of a record by rendering the first record
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The height of a record including its splitter
+     */
+    private int measureRowHeight() {
+        mainPanel.clear();
+        mainPanel.add(resultDisplayItems.get(0));
+        int height = resultDisplayItems.get(0).getOffsetHeight();
+        if (height > 0) {
+            rowHeight = height + SPLITTER_HEIGHT;
+            return rowHeight;
+        }
+        // The drop down is not displayed yet so nothing can be measured, the
+        // records are measured again once the drop down is attached
+        return DEFAULT_ROW_HEIGHT;
+    }
+
+    /**
+     * Renders the records again once the drop down is attached if their
+     * height could not be measured while it was detached
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+        if (hasResults && rowHeight <= 0) {
+            renderVisibleItems(true);
+        }
+    }
+
+    /**
+     * Retrieves a splitter that can be placed between records, creating it if required
+     * 
+     * @param index - The index of the splitter among the rendered splitters
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     * 
+     * @return The splitter
+     */
+    private SimplePanel getRecordSplitter(int index) {
+        while (recordSplitters.size() <= index) {
+            SimplePanel recordsSplitter = new SimplePanel();
+            recordsSplitter.setHeight(SPLITTER_HEIGHT + "px");
+            recordsSplitter.setStyleName("itemSplitter");
+            recordSplitters.add(recordsSplitter);
+        }
+        return recordSplitters.get(index);
+    }
+
+    /**
+     * Scrolls the drop down so that the record is visible, rendering it if required
+     * 
+     * @param index - The index of the record
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private void scrollItemIntoView(int index) {
+        if ((index < firstRenderedIndex || index >= lastRenderedIndex) && rowHeight > 0) {
+            mainPanel.getElement().setScrollTop(index * rowHeight);
+            renderVisibleItems(false);
+        }
+        resultDisplayItems.get(index).getElement().scrollIntoView();
+        renderVisibleItems(false);
+    }
     
     /**
      * Retrieves the currently selected item
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.List;
+
+/**
+ * An index the search box can use to match the search string against a
+ * preloaded data set locally instead of calling retrieveResult
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ *
+ * @param <T> The type of the VO that will hold the data displayed by the search widget
+ */
+public interface SearchBoxIndex<T> {
+
+    /**
+     * Adds an item to the index
+     *
+     * @param item - The item to add
+     * @param text - The text the item should be matched on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void add(T item, String text);
+
+    /**
+     * Removes an item from the index
+     *
+     * @param item - The item to remove
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void remove(T item);
+
+    /**
+     * Removes all the items from the index
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void clear();
+
+    /**
+     * Retrieves the items that match the search string, best matches first
+     *
+     * @param searchString - The search string the user entered
+     * @param maxResults - The maximum number of items to return
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The matching items
+     */
+    List<T> search(String searchString, int maxResults);
+}
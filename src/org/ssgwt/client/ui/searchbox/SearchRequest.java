@@ -0,0 +1,194 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+/**
+ * Holds the state of a single request made by the search box. The
+ * application can register a cancel handler on the request in order to
+ * abort its service call once the request has been superseded.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class SearchRequest {
+
+    /**
+     * The id of the request
+     */
+    private final int requestId;
+
+    /**
+     * The search string the request was made for
+     */
+    private final String searchString;
+
+    /**
+     * The time in milliseconds the request was started
+     */
+    private final long startTime;
+
+    /**
+     * The time in milliseconds the request was completed, -1 while the request is busy
+     */
+    private long endTime = -1;
+
+    /**
+     * Flag that indicates if the request was cancelled
+     */
+    private boolean cancelled = false;
+
+    /**
+     * The handler that will be called when the request is cancelled
+     */
+    private CancelHandler cancelHandler = null;
+
+    /**
+     * Handler that is called when a request is cancelled by the search box
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface CancelHandler {
+
+        /**
+         * Called when the request was superseded and its result is no longer required
+         *
+         * @param request - The request that was cancelled
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void onCancel(SearchRequest request);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param requestId - The id of the request
+     * @param searchString - The search string the request was made for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public SearchRequest(int requestId, String searchString) {
+        this.requestId = requestId;
+        this.searchString = searchString;
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Retrieves the id of the request
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The id of the request
+     */
+    public int getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Retrieves the search string the request was made for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The search string
+     */
+    public String getSearchString() {
+        return searchString;
+    }
+
+    /**
+     * Sets the handler that will be called when the request is cancelled. If
+     * the request was already cancelled the handler is called immediately.
+     *
+     * @param cancelHandler - The handler that should abort the service call
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setCancelHandler(CancelHandler cancelHandler) {
+        this.cancelHandler = cancelHandler;
+        if (cancelled && cancelHandler != null) {
+            cancelHandler.onCancel(this);
+        }
+    }
+
+    /**
+     * Cancels the request if it is still busy
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void cancel() {
+        if (!cancelled && !isCompleted()) {
+            cancelled = true;
+            endTime = System.currentTimeMillis();
+            if (cancelHandler != null) {
+                cancelHandler.onCancel(this);
+            }
+        }
+    }
+
+    /**
+     * Marks the request as completed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    void complete() {
+        if (!cancelled && !isCompleted()) {
+            endTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Whether the request was cancelled
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the request was cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Whether the results of the request were received
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the request completed
+     */
+    public boolean isCompleted() {
+        return !cancelled && endTime >= 0;
+    }
+
+    /**
+     * Retrieves the number of milliseconds the request took. While the request
+     * is busy the time since the request started is returned.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The latency of the request in milliseconds
+     */
+    public long getLatency() {
+        return (endTime >= 0 ? endTime : System.currentTimeMillis()) - startTime;
+    }
+}
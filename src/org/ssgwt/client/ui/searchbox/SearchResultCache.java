@@ -0,0 +1,284 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A least recently used cache for the results retrieved by a search box.
+ * Each entry is keyed by the search string it was retrieved for and expires
+ * once it is older than the time to live set on the cache.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ *
+ * @param <T> The type of the VO that will hold the data displayed by the search widget
+ */
+public class SearchResultCache<T> {
+
+    /**
+     * The default maximum number of search strings the cache will hold results for
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 50;
+
+    /**
+     * The default number of milliseconds a cached result is valid for
+     */
+    public static final int DEFAULT_TIME_TO_LIVE = 60000;
+
+    /**
+     * The maximum number of search strings the cache will hold results for
+     */
+    private final int maxEntries;
+
+    /**
+     * The number of milliseconds a cached result is valid for
+     */
+    private final int timeToLive;
+
+    /**
+     * The cached entries in access order, the eldest entry is the least recently used one
+     */
+    private final LinkedHashMap<String, Entry<T>> entries;
+
+    /**
+     * A single result set held by the cache
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param <T> The type of the VO that will hold the data displayed by the search widget
+     */
+    public static class Entry<T> {
+
+        /**
+         * The search string the results were retrieved for
+         */
+        private final String searchString;
+
+        /**
+         * The results that were retrieved for the search string
+         */
+        private final List<T> results;
+
+        /**
+         * Flag that indicates if the results hold every record that matches the search string
+         */
+        private final boolean complete;
+
+        /**
+         * The time in milliseconds the results were added to the cache
+         */
+        private final long createdTime;
+
+        /**
+         * Class constructor
+         *
+         * @param searchString - The search string the results were retrieved for
+         * @param results - The results that were retrieved for the search string
+         * @param complete - Whether the results hold every record that matches the search string
+         * @param createdTime - The time in milliseconds the results were added to the cache
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        Entry(String searchString, List<T> results, boolean complete, long createdTime) {
+            this.searchString = searchString;
+            this.results = results;
+            this.complete = complete;
+            this.createdTime = createdTime;
+        }
+
+        /**
+         * Retrieves the search string the results were retrieved for
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The search string the results were retrieved for
+         */
+        public String getSearchString() {
+            return searchString;
+        }
+
+        /**
+         * Retrieves the results that were retrieved for the search string
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The cached results
+         */
+        public List<T> getResults() {
+            return results;
+        }
+
+        /**
+         * Whether the results hold every record that matches the search string
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the result set is complete
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * Retrieves the time the results were added to the cache
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The time in milliseconds
+         */
+        public long getCreatedTime() {
+            return createdTime;
+        }
+    }
+
+    /**
+     * Class constructor that uses the default size and time to live
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public SearchResultCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param maxEntries - The maximum number of search strings the cache will hold results for
+     * @param timeToLive - The number of milliseconds a cached result is valid for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public SearchResultCache(int maxEntries, int timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<String, Entry<T>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > SearchResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Adds the results retrieved for a search string to the cache
+     *
+     * @param searchString - The search string the results were retrieved for
+     * @param results - The results that were retrieved
+     * @param complete - Whether the results hold every record that matches the search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void put(String searchString, List<T> results, boolean complete) {
+        put(searchString, results, complete, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds results to the cache that were derived from an entry that is
+     * already cached, like results narrowed down from a complete prefix entry.
+     * The created time of that entry is used so the derived results expire
+     * with the results they were derived from.
+     *
+     * @param searchString - The search string the results are for
+     * @param results - The derived results
+     * @param complete - Whether the results hold every record that matches the search string
+     * @param createdTime - The time in milliseconds the results the entry was derived from were added to the cache
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void put(String searchString, List<T> results, boolean complete, long createdTime) {
+        if (searchString != null && results != null) {
+            entries.put(searchString, new Entry<T>(searchString, results, complete, createdTime));
+        }
+    }
+
+    /**
+     * Retrieves the cached entry for the exact search string
+     *
+     * @param searchString - The search string to retrieve the entry for
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The cached entry or null if there is no valid entry for the search string
+     */
+    public Entry<T> get(String searchString) {
+        Entry<T> entry = entries.get(searchString);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(searchString);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieves the complete entry cached for the longest prefix of the search
+     * string. The results of such an entry can be narrowed down locally to
+     * retrieve the results for the search string.
+     *
+     * @param searchString - The search string to find a complete prefix entry for
+     * @param minLength - The length of the shortest prefix that should be considered
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The complete entry for the longest prefix or null if there is none
+     */
+    public Entry<T> getCompletePrefixEntry(String searchString, int minLength) {
+        for (int length = searchString.length() - 1; length >= minLength && length > 0; length--) {
+            Entry<T> entry = get(searchString.substring(0, length));
+            if (entry != null && entry.isComplete()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all the entries from the cache
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Checks if an entry is older than the time to live of the cache
+     *
+     * @param entry - The entry to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the entry should no longer be used
+     */
+    private boolean isExpired(Entry<T> entry) {
+        return System.currentTimeMillis() - entry.createdTime > timeToLive;
+    }
+}
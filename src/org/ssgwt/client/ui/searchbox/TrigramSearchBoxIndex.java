@@ -0,0 +1,415 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A search box index that matches on the trigrams of the item text. Items
+ * that share most of the trigrams of the search string match, so small typing
+ * errors are tolerated. Results are ranked with items that start with the
+ * search string first, followed by items with a word starting with the search
+ * string, items containing the search string and finally fuzzy matches.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ *
+ * @param <T> The type of the VO that will hold the data displayed by the search widget
+ */
+public class TrigramSearchBoxIndex<T> implements SearchBoxIndex<T> {
+
+    /**
+     * The default fraction of the search string trigrams an item should contain to match
+     */
+    public static final double DEFAULT_MIN_SIMILARITY = 0.6;
+
+    /**
+     * The rank of an item whose text starts with the search string
+     */
+    private static final int RANK_PREFIX = 3;
+
+    /**
+     * The rank of an item with a word that starts with the search string
+     */
+    private static final int RANK_WORD_PREFIX = 2;
+
+    /**
+     * The rank of an item whose text contains the search string
+     */
+    private static final int RANK_CONTAINS = 1;
+
+    /**
+     * The length a search string should have before its trigrams are used to find candidates
+     */
+    private static final int MIN_TRIGRAM_QUERY_LENGTH = 3;
+
+    /**
+     * The fraction of the search string trigrams an item should contain to match
+     */
+    private final double minSimilarity;
+
+    /**
+     * The normalised text of each item in the index
+     */
+    private final HashMap<T, String> itemTexts = new HashMap<T, String>();
+
+    /**
+     * The items that contain each trigram
+     */
+    private final HashMap<String, HashSet<T>> trigramItems = new HashMap<String, HashSet<T>>();
+
+    /**
+     * A match found by a search along with the values it is ranked on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param <T> The type of the VO that will hold the data displayed by the search widget
+     */
+    private static class Match<T> {
+
+        /**
+         * The item that matched
+         */
+        final T item;
+
+        /**
+         * The normalised text of the item
+         */
+        final String text;
+
+        /**
+         * The rank of the match, higher ranks are displayed first
+         */
+        final int rank;
+
+        /**
+         * The fraction of the search string trigrams the item contains
+         */
+        final double similarity;
+
+        /**
+         * Class constructor
+         *
+         * @param item - The item that matched
+         * @param text - The normalised text of the item
+         * @param rank - The rank of the match
+         * @param similarity - The fraction of the search string trigrams the item contains
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        Match(T item, String text, int rank, double similarity) {
+            this.item = item;
+            this.text = text;
+            this.rank = rank;
+            this.similarity = similarity;
+        }
+    }
+
+    /**
+     * Class constructor that uses the default minimum similarity
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public TrigramSearchBoxIndex() {
+        this(DEFAULT_MIN_SIMILARITY);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param minSimilarity - The fraction of the search string trigrams an item should contain to match
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public TrigramSearchBoxIndex(double minSimilarity) {
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * Adds an item to the index, replacing the text of the item if it is already indexed
+     *
+     * @param item - The item to add
+     * @param text - The text the item should be matched on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void add(T item, String text) {
+        remove(item);
+        String normalisedText = normalise(text);
+        itemTexts.put(item, normalisedText);
+        for (String trigram : getTrigrams(normalisedText)) {
+            HashSet<T> items = trigramItems.get(trigram);
+            if (items == null) {
+                items = new HashSet<T>();
+                trigramItems.put(trigram, items);
+            }
+            items.add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the index
+     *
+     * @param item - The item to remove
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void remove(T item) {
+        String normalisedText = itemTexts.remove(item);
+        if (normalisedText == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(normalisedText)) {
+            HashSet<T> items = trigramItems.get(trigram);
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) {
+                    trigramItems.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the items from the index
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public void clear() {
+        itemTexts.clear();
+        trigramItems.clear();
+    }
+
+    /**
+     * Retrieves the number of items in the index
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of items
+     */
+    public int size() {
+        return itemTexts.size();
+    }
+
+    /**
+     * Retrieves the items that match the search string, best matches first
+     *
+     * @param searchString - The search string the user entered
+     * @param maxResults - The maximum number of items to return
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The matching items
+     */
+    @Override
+    public List<T> search(String searchString, int maxResults) {
+        String query = normalise(searchString);
+        if (query.length() == 0) {
+            return new ArrayList<T>();
+        }
+        ArrayList<Match<T>> matches;
+        if (query.length() < MIN_TRIGRAM_QUERY_LENGTH) {
+            matches = findContainingItems(query);
+        } else {
+            matches = findTrigramMatches(query);
+        }
+
+        Collections.sort(matches, new Comparator<Match<T>>() {
+
+            @Override
+            public int compare(Match<T> first, Match<T> second) {
+                if (first.rank != second.rank) {
+                    return second.rank - first.rank;
+                }
+                if (first.similarity != second.similarity) {
+                    return first.similarity > second.similarity ? -1 : 1;
+                }
+                if (first.text.length() != second.text.length()) {
+                    return first.text.length() - second.text.length();
+                }
+                return first.text.compareTo(second.text);
+            }
+        });
+
+        ArrayList<T> results = new ArrayList<T>();
+        for (int i = 0; i < matches.size() && i < maxResults; i++) {
+            results.add(matches.get(i).item);
+        }
+        return results;
+    }
+
+    /**
+     * Finds the items whose text contains the search string by scanning every
+     * item. Short search strings have too few trigrams to find the candidates
+     * with, a single character only produces the trigram of a word prefix.
+     *
+     * @param query - The normalised search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The matches
+     */
+    private ArrayList<Match<T>> findContainingItems(String query) {
+        ArrayList<Match<T>> matches = new ArrayList<Match<T>>();
+        for (Map.Entry<T, String> entry : itemTexts.entrySet()) {
+            int rank = getRank(entry.getValue(), query);
+            if (rank > 0) {
+                matches.add(new Match<T>(entry.getKey(), entry.getValue(), rank, 1));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the items that contain the search string or enough of its
+     * trigrams. An item that contains the search string always shares at
+     * least one trigram with it: the first trigram without padding when the
+     * search string has no spaces, otherwise the padded first character of
+     * the word after a space. Exact matches are therefore never missed.
+     *
+     * @param query - The normalised search string, at least MIN_TRIGRAM_QUERY_LENGTH long
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The matches
+     */
+    private ArrayList<Match<T>> findTrigramMatches(String query) {
+        List<String> queryTrigrams = getTrigrams(query);
+        ArrayList<Match<T>> matches = new ArrayList<Match<T>>();
+
+        // Count the number of search string trigrams each candidate contains
+        HashMap<T, Integer> trigramCounts = new HashMap<T, Integer>();
+        for (String trigram : queryTrigrams) {
+            HashSet<T> items = trigramItems.get(trigram);
+            if (items != null) {
+                for (T item : items) {
+                    Integer count = trigramCounts.get(item);
+                    trigramCounts.put(item, count == null ? 1 : count + 1);
+                }
+            }
+        }
+        for (Map.Entry<T, Integer> candidate : trigramCounts.entrySet()) {
+            String text = itemTexts.get(candidate.getKey());
+            double similarity = (double) candidate.getValue() / queryTrigrams.size();
+            int rank = getRank(text, query);
+            if (rank > 0 || similarity >= minSimilarity) {
+                matches.add(new Match<T>(candidate.getKey(), text, rank, similarity));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Retrieves the rank of an exact match of the search string on the text
+     *
+     * @param text - The normalised item text
+     * @param query - The normalised search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The rank of the match or 0 if the text does not contain the search string
+     */
+    private static int getRank(String text, String query) {
+        int index = text.indexOf(query);
+        if (index < 0) {
+            return 0;
+        } else if (index == 0) {
+            return RANK_PREFIX;
+        } else if (text.indexOf(" " + query) >= 0) {
+            return RANK_WORD_PREFIX;
+        }
+        return RANK_CONTAINS;
+    }
+
+    /**
+     * Converts the text to lower case and collapses the white space in it
+     *
+     * @param text - The text to normalise
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The normalised text
+     */
+    private static String normalise(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalised = new StringBuilder(text.length());
+        boolean previousSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char character = Character.toLowerCase(text.charAt(i));
+            if (character == ' ' || character == '\t' || character == '\n' || character == '\r') {
+                if (!previousSpace) {
+                    normalised.append(' ');
+                }
+                previousSpace = true;
+            } else {
+                normalised.append(character);
+                previousSpace = false;
+            }
+        }
+        int length = normalised.length();
+        if (length > 0 && normalised.charAt(length - 1) == ' ') {
+            normalised.setLength(length - 1);
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * Retrieves the distinct trigrams of the text. Each word is padded with
+     * two leading spaces so that short search strings and word prefixes also
+     * produce trigrams.
+     *
+     * @param text - The normalised text
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The trigrams of the text
+     */
+    private static List<String> getTrigrams(String text) {
+        ArrayList<String> trigrams = new ArrayList<String>();
+        HashSet<String> added = new HashSet<String>();
+        String padded = "  " + text.replace(" ", "  ");
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            String trigram = padded.substring(i, i + 3);
+            if (trigram.charAt(2) != ' ' && added.add(trigram)) {
+                trigrams.add(trigram);
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox.event;
+
+import org.ssgwt.client.ui.searchbox.SearchRequest;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Event dispatched by the search box when the results of a request were
+ * received or the request was cancelled. The request holds its latency so
+ * it can be reported by the application.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class SearchRequestCompleteEvent extends GwtEvent<SearchRequestCompleteEvent.SearchRequestCompleteHandler> {
+
+    /**
+     * Type of the event.
+     */
+    public static Type<SearchRequestCompleteHandler> TYPE = new Type<SearchRequestCompleteHandler>();
+
+    /**
+     * The request that completed
+     */
+    private SearchRequest request;
+
+    /**
+     * Handler interface that should be implemented by components that wish to
+     * handle the event when it is dispatched.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface SearchRequestCompleteHandler extends EventHandler {
+
+        /**
+         * Method to be called when a {@link SearchRequestCompleteEvent} is
+         * being handled.
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @param event The event being handled.
+         */
+        void onSearchRequestComplete(SearchRequestCompleteEvent event);
+    }
+
+    /**
+     * Function to add the handler to the class
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface SearchRequestCompleteHasHandlers extends HasHandlers {
+        HandlerRegistration addSearchRequestCompleteHandler(SearchRequestCompleteHandler handler);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param request - The request that completed
+     */
+    public SearchRequestCompleteEvent(SearchRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Getter for the request
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the request that completed
+     */
+    public SearchRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Dispatches the event to the given handler.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param handler - The component that should handle the event.
+     */
+    @Override
+    protected void dispatch(SearchRequestCompleteHandler handler) {
+        handler.onSearchRequestComplete(this);
+    }
+
+    /**
+     * Returns the associated type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The associated type.
+     */
+    @Override
+    public Type<SearchRequestCompleteHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+    /**
+     * Returns the type of the event.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return the Type of the event
+     */
+    public static Type<SearchRequestCompleteHandler> getType() {
+        return TYPE;
+    }
+
+    /**
+     * Convenience method used to easily dispatch events of this type.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param source The component that dispatches the event.
+     * @param request - The request that completed
+     */
+    public static void fire(HasHandlers source, SearchRequest request) {
+        source.fireEvent(new SearchRequestCompleteEvent(request));
+    }
+}
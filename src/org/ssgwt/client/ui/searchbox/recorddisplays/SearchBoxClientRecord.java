@@ -252,9 +252,13 @@ public abstract class SearchBoxClientRecord<T> extends SearchBoxRecordWidget<T>
         organisationLabel.setText(getOrganisationName(itemVO));
         if (getSiteName(itemVO) != null && !getSiteName(itemVO).trim().equals("")) {
             siteLabel.setText("- " + getSiteName(itemVO));
+        } else {
+            siteLabel.setText("");
         }
         if (getOrgAvatarUrl(itemVO) != null && !getOrgAvatarUrl(itemVO).trim().equals("")) {
             avatarImage.setUrl(getOrgAvatarUrl(itemVO));
+        } else {
+            avatarImage.setUrl(resources.defaultUserAvatar().getSafeUri());
         }
     }
 
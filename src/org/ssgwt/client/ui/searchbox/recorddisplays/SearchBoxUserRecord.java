@@ -348,9 +348,13 @@ public abstract class SearchBoxUserRecord<T> extends SearchBoxRecordWidget<T> {
         nameLabel.setText(getFirstNameAndLastName(itemVO));
         if (getUsername(itemVO) != null && !getUsername(itemVO).trim().equals("")) {
             usernameLabel.setText("- " + getUsername(itemVO));
+        } else {
+            usernameLabel.setText("");
         }
         if (getUserAvatarUrl(itemVO) != null && !getUserAvatarUrl(itemVO).trim().equals("")) {
             avatarImage.setUrl(getUserAvatarUrl(itemVO));
+        } else {
+            avatarImage.setUrl(resources.defaultUserAvatar().getSafeUri());
         }
     }
 
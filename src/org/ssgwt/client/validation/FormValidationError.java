@@ -0,0 +1,64 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ssgwt.client.validation;
+
+/**
+ * A validation error found on a form field by the FormValidator
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FormValidationError {
+
+    /**
+     * The field that is invalid
+     */
+    private final FormField field;
+
+    /**
+     * The error message to be displayed
+     */
+    private final String message;
+
+    /**
+     * Class constructor
+     *
+     * @param field - The field that is invalid
+     * @param message - The error message to be displayed
+     */
+    public FormValidationError(FormField field, String message) {
+        this.field = field;
+        this.message = message;
+    }
+
+    /**
+     * Retrieve the field that is invalid
+     *
+     * @return The field that is invalid
+     */
+    public FormField getField() {
+        return field;
+    }
+
+    /**
+     * Retrieve the error message to be displayed
+     *
+     * @return The error message
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -15,18 +15,15 @@
 package org.ssgwt.client.validation;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.AdvancedInputField;
-import org.ssgwt.client.validation.validators.AgeValidator;
-import org.ssgwt.client.validation.validators.DateValidator;
-import org.ssgwt.client.validation.validators.EmailValidator;
-import org.ssgwt.client.validation.validators.StringRegexValidator;
-import org.ssgwt.client.validation.validators.StringValidator;
-import org.ssgwt.client.validation.validators.UsernameValidator;
+import org.ssgwt.client.validation.validators.AsyncValidatorInterface;
 import org.ssgwt.client.validation.validators.ValidatorInterface;
 
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.Widget;
 
@@ -44,9 +41,264 @@ public class FormValidator {
     private ArrayList<FormField> fields = new ArrayList<FormField>();
 
     /**
-     * A hashmap used to store the validator interfaces
+     * The validation state of each form field, in the same order as the fields
      */
-    private HashMap<String, ValidatorInterface<?>> validatorInstances = new HashMap<String, ValidatorInterface<?>>();
+    private ArrayList<FieldValidation> fieldValidations = new ArrayList<FieldValidation>();
+
+    /**
+     * A hashmap used to store the providers of the validators registered by reference name
+     */
+    private HashMap<String, ValidatorProvider> validatorProviders = new HashMap<String, ValidatorProvider>();
+
+    /**
+     * The live validation state of each field widget
+     */
+    private HashMap<Widget, LiveField> liveFields = new HashMap<Widget, LiveField>();
+
+    /**
+     * Flag that indicates whether live validation was started
+     */
+    private boolean liveValidation = false;
+
+    /**
+     * The number of field widgets that are invalid while live validation is active
+     */
+    private int invalidFieldCount = 0;
+
+    /**
+     * The value type of a field that returns strings, the value is trimmed before it is validated
+     */
+    private static final int VALUE_TYPE_STRING = 0;
+
+    /**
+     * The value type of a field that returns dates
+     */
+    private static final int VALUE_TYPE_DATE = 1;
+
+    /**
+     * The value type of an advanced input field with a return type that can not be validated
+     */
+    private static final int VALUE_TYPE_UNSUPPORTED = 2;
+
+    /**
+     * The value type of a field that does not specify its return type
+     */
+    private static final int VALUE_TYPE_UNTYPED = 3;
+
+    /**
+     * The id of the latest asynchronous validation, results of earlier validations are ignored
+     */
+    private int validationRunId = 0;
+
+    /**
+     * Holds the validator of a field along with the last results of the
+     * validator, so the field is only validated again when its value changed
+     */
+    private static class FieldValidation {
+
+        /**
+         * The field being validated
+         */
+        final FormField field;
+
+        /**
+         * The type of the value of the field, resolved when the field is added
+         */
+        final int valueType;
+
+        /**
+         * The validator of the field, created when the field is validated the first time
+         */
+        ValidatorInterface<?> validator;
+
+        /**
+         * Flag that indicates that the result of the synchronous validation is stored
+         */
+        boolean hasResult = false;
+
+        /**
+         * The value the synchronous validation result is for
+         */
+        Object resultValue;
+
+        /**
+         * The result of the synchronous validation
+         */
+        boolean valid;
+
+        /**
+         * Flag that indicates that the result of the asynchronous validation is stored
+         */
+        boolean hasAsyncResult = false;
+
+        /**
+         * The value the asynchronous validation result is for
+         */
+        Object asyncResultValue;
+
+        /**
+         * The result of the asynchronous validation
+         */
+        boolean asyncValid;
+
+        /**
+         * Class constructor
+         *
+         * @param field - The field being validated
+         * @param valueType - The type of the value of the field
+         */
+        FieldValidation(FormField field, int valueType) {
+            this.field = field;
+            this.valueType = valueType;
+        }
+    }
+
+    /**
+     * Holds the validations of a single field widget and whether the widget
+     * was invalid when it was last validated during live validation
+     */
+    private static class LiveField {
+
+        /**
+         * The validations added for the widget
+         */
+        final ArrayList<FieldValidation> validations = new ArrayList<FieldValidation>();
+
+        /**
+         * Flag that indicates that the widget was invalid when it was last validated
+         */
+        boolean invalid = false;
+    }
+
+    /**
+     * Collects the results of the fields during an asynchronous validation and
+     * reports the errors once all the fields were validated
+     */
+    private class ValidationRun {
+
+        /**
+         * The id of the validation
+         */
+        final int runId;
+
+        /**
+         * The fields being validated, fields removed during the validation are still reported
+         */
+        final ArrayList<FormField> runFields;
+
+        /**
+         * The callback the errors are reported to
+         */
+        final AsyncCallback<ArrayList<FormValidationError>> callback;
+
+        /**
+         * The error of each field, null if the field is valid
+         */
+        final FormValidationError[] errors;
+
+        /**
+         * The number of asynchronous validators that have not returned yet
+         */
+        int pending = 0;
+
+        /**
+         * Flag that indicates that all the fields were sent for validation
+         */
+        boolean started = false;
+
+        /**
+         * Flag that indicates that the callback was called
+         */
+        boolean done = false;
+
+        /**
+         * Class constructor
+         *
+         * @param runId - The id of the validation
+         * @param runFields - The fields being validated
+         * @param callback - The callback the errors are reported to
+         */
+        ValidationRun(int runId, ArrayList<FormField> runFields, AsyncCallback<ArrayList<FormValidationError>> callback) {
+            this.runId = runId;
+            this.runFields = runFields;
+            this.errors = new FormValidationError[runFields.size()];
+            this.callback = callback;
+        }
+
+        /**
+         * Records the result of a field
+         *
+         * @param index - The index of the field
+         * @param valid - Whether the field is valid
+         * @param validator - The validator used on the field
+         */
+        void setResult(int index, boolean valid, ValidatorInterface<?> validator) {
+            if (!valid) {
+                FormField field = runFields.get(index);
+                errors[index] = new FormValidationError(field, field.errorMessage != null ? field.errorMessage : validator.getDefaultValidationMessage());
+            }
+        }
+
+        /**
+         * Records the result of an asynchronous validator and completes the validation when it was the last one
+         *
+         * @param index - The index of the field
+         * @param valid - Whether the field is valid
+         * @param validator - The validator used on the field
+         */
+        void setAsyncResult(int index, boolean valid, ValidatorInterface<?> validator) {
+            setResult(index, valid, validator);
+            pending--;
+            if (started && pending == 0) {
+                complete();
+            }
+        }
+
+        /**
+         * Marks that all the fields were sent for validation
+         */
+        void start() {
+            started = true;
+            if (pending == 0) {
+                complete();
+            }
+        }
+
+        /**
+         * Reports the failure of an asynchronous validator
+         *
+         * @param caught - The error the validator failed with
+         */
+        void fail(Throwable caught) {
+            if (!done && runId == validationRunId) {
+                done = true;
+                callback.onFailure(caught);
+            }
+        }
+
+        /**
+         * Sets the error styles on the invalid fields, scrolls the first one into view and reports the errors
+         */
+        void complete() {
+            if (done || runId != validationRunId) {
+                return;
+            }
+            done = true;
+            ArrayList<FormValidationError> result = new ArrayList<FormValidationError>();
+            for (FormValidationError error : errors) {
+                if (error != null) {
+                    if (error.getField().errorStyleName != null) {
+                        error.getField().uiField.addStyleName(error.getField().errorStyleName);
+                    }
+                    result.add(error);
+                }
+            }
+            if (!result.isEmpty()) {
+                result.get(0).getField().uiField.getElement().scrollIntoView();
+            }
+            callback.onSuccess(result);
+        }
+    }
 
     /**
      * Calls the addField(FormField formfield) method with a formfield object created from the parameters
@@ -90,6 +342,17 @@ public class FormValidator {
         this.addField(validatorReferenceName, uiField, config, null, null);
     }
 
+    /**
+     * Calls the addField(FormField formfield) method with a formfield object created from the validation rule
+     *
+     * @param rule - The validation rule, which can be shared with the validation done on the server
+     * @param uiField - the ui field the validation is done on
+     * @param errorStyleName - the error style type
+     */
+    public void addField(ValidationRule rule, Widget uiField, String errorStyleName) {
+        this.addField(rule.getValidatorReferenceName(), uiField, rule.getConfig(), rule.getErrorMessage(), errorStyleName);
+    }
+
     /**
      * Adds a field to the field array
      *
@@ -97,6 +360,232 @@ public class FormValidator {
      */
     public void addField(FormField formfield) {
         fields.add(formfield);
+        int valueType = VALUE_TYPE_UNTYPED;
+        if (formfield.uiField instanceof AdvancedInputField) {
+            Class<?> type = ((AdvancedInputField<?>)formfield.uiField).getReturnType();
+            if (String.class.equals(type)) {
+                valueType = VALUE_TYPE_STRING;
+            } else if (SSDate.class.equals(type)) {
+                valueType = VALUE_TYPE_DATE;
+            } else {
+                valueType = VALUE_TYPE_UNSUPPORTED;
+            }
+        }
+        FieldValidation fieldValidation = new FieldValidation(formfield, valueType);
+        fieldValidations.add(fieldValidation);
+        LiveField liveField = liveFields.get(formfield.uiField);
+        if (liveField == null) {
+            liveField = new LiveField();
+            liveFields.put(formfield.uiField, liveField);
+        }
+        liveField.validations.add(fieldValidation);
+        if (liveValidation) {
+            updateLiveField(liveField);
+        }
+    }
+
+    /**
+     * Removes all the validations of a field widget. If live validation is
+     * active and the widget was invalid the count of invalid fields is
+     * decreased, so a removed field does not keep the form invalid.
+     *
+     * @param uiField - The field widget to remove the validations of
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void removeField(Widget uiField) {
+        LiveField liveField = liveFields.remove(uiField);
+        if (liveField == null) {
+            return;
+        }
+        if (liveField.invalid) {
+            invalidFieldCount--;
+        }
+        for (FieldValidation fieldValidation : liveField.validations) {
+            int index = fieldValidations.indexOf(fieldValidation);
+            fieldValidations.remove(index);
+            fields.remove(index);
+            if (fieldValidation.field.errorStyleName != null) {
+                uiField.removeStyleName(fieldValidation.field.errorStyleName);
+            }
+        }
+    }
+
+    /**
+     * Starts live validation. All the fields are validated without setting
+     * error styles to count the invalid fields, after which each field should
+     * be validated using validateField when its value changes so the count
+     * of invalid fields is kept up to date. Calling this function again
+     * recounts the invalid fields, for example after the values of the fields
+     * were set without dispatching value change events.
+     */
+    public void startLiveValidation() {
+        liveValidation = true;
+        for (LiveField liveField : liveFields.values()) {
+            updateLiveField(liveField);
+        }
+    }
+
+    /**
+     * Stops live validation
+     */
+    public void stopLiveValidation() {
+        liveValidation = false;
+        invalidFieldCount = 0;
+        for (LiveField liveField : liveFields.values()) {
+            liveField.invalid = false;
+        }
+    }
+
+    /**
+     * Validates a single field widget and sets its error style accordingly.
+     * Only the synchronous validation of the validators is done, the result
+     * of each validator is reused if the value of the field did not change.
+     *
+     * @param uiField - The field widget to validate
+     *
+     * @return The error string or null if the field is valid
+     */
+    public String validateField(Widget uiField) {
+        LiveField liveField = liveFields.get(uiField);
+        if (liveField == null) {
+            return null;
+        }
+        FieldValidation invalidValidation = updateLiveField(liveField);
+        for (FieldValidation fieldValidation : liveField.validations) {
+            if (fieldValidation.field.errorStyleName != null) {
+                uiField.removeStyleName(fieldValidation.field.errorStyleName);
+            }
+        }
+        if (invalidValidation == null) {
+            return null;
+        }
+        if (invalidValidation.field.errorStyleName != null) {
+            uiField.addStyleName(invalidValidation.field.errorStyleName);
+        }
+        if (invalidValidation.field.errorMessage != null) {
+            return invalidValidation.field.errorMessage;
+        }
+        return invalidValidation.validator.getDefaultValidationMessage();
+    }
+
+    /**
+     * Retrieves the number of field widgets that are invalid while live validation is active
+     *
+     * @return The number of invalid field widgets
+     */
+    public int getInvalidFieldCount() {
+        return invalidFieldCount;
+    }
+
+    /**
+     * Validates the field widget and updates the count of invalid fields if live validation is active
+     *
+     * @param liveField - The live validation state of the field widget
+     *
+     * @return The first validation that failed or null if the field is valid
+     */
+    private FieldValidation updateLiveField(LiveField liveField) {
+        FieldValidation invalidValidation = null;
+        for (FieldValidation fieldValidation : liveField.validations) {
+            getValidator(fieldValidation);
+            if (!isValid(fieldValidation, getValidationValue(fieldValidation))) {
+                invalidValidation = fieldValidation;
+                break;
+            }
+        }
+        if (liveValidation) {
+            boolean invalid = invalidValidation != null;
+            if (invalid != liveField.invalid) {
+                invalidFieldCount += invalid ? 1 : -1;
+                liveField.invalid = invalid;
+            }
+        }
+        return invalidValidation;
+    }
+
+    /**
+     * Registers a validator under a reference name so that fields can be added
+     * with validators that are not built in, such as asynchronous validators.
+     * The provider creates a validator for each field that uses the reference
+     * name, so each validator only holds the configuration of its own field.
+     *
+     * @param validatorReferenceName - The reference name for the validation
+     * @param provider - Creates the validators for the reference name
+     */
+    public void registerValidator(String validatorReferenceName, ValidatorProvider provider) {
+        validatorProviders.put(validatorReferenceName, provider);
+    }
+
+    /**
+     * Does the validation of all the fields and reports all the errors at
+     * once. Asynchronous validators of independent fields run at the same
+     * time and their results are reused while the value of the field does not
+     * change. When a new validation is started before the previous one has
+     * completed the previous callback is not called.
+     *
+     * @param callback - Called with the errors in field order, the list is empty if the validation passes
+     */
+    public void doAsyncValidation(AsyncCallback<ArrayList<FormValidationError>> callback) {
+        removeErrorStyles();
+        final ValidationRun run = new ValidationRun(++validationRunId, new ArrayList<FormField>(fields), callback);
+        for (int i = 0; i < fieldValidations.size(); i++) {
+            final int index = i;
+            final FieldValidation fieldValidation = fieldValidations.get(i);
+            final ValidatorInterface<?> validator = getValidator(fieldValidation);
+            final Object value = getValidationValue(fieldValidation);
+            if (!isValid(fieldValidation, value)) {
+                run.setResult(index, false, validator);
+            } else if (validator instanceof AsyncValidatorInterface) {
+                final Object resultValue = getResultValue(value);
+                if (fieldValidation.hasAsyncResult && isSameValue(resultValue, fieldValidation.asyncResultValue)) {
+                    run.setResult(index, fieldValidation.asyncValid, validator);
+                } else {
+                    run.pending++;
+                    ((AsyncValidatorInterface<Object>) validator).isValid(value, new AsyncCallback<Boolean>() {
+
+                        @Override
+                        public void onSuccess(Boolean valid) {
+                            fieldValidation.hasAsyncResult = true;
+                            fieldValidation.asyncResultValue = resultValue;
+                            fieldValidation.asyncValid = valid;
+                            run.setAsyncResult(index, valid, validator);
+                        }
+
+                        @Override
+                        public void onFailure(Throwable caught) {
+                            run.fail(caught);
+                        }
+                    });
+                }
+            }
+        }
+        run.start();
+    }
+
+    /**
+     * Removes the results of the asynchronous validators so that all the
+     * fields are validated again by the service on the next validation
+     */
+    public void clearAsyncResults() {
+        for (FieldValidation fieldValidation : fieldValidations) {
+            fieldValidation.hasAsyncResult = false;
+            fieldValidation.asyncResultValue = null;
+        }
+    }
+
+    /**
+     * Removes all the stored validation results so that all the fields are
+     * validated again on the next validation, for example after the
+     * validators of the fields depend on the current date
+     */
+    public void clearValidationResults() {
+        clearAsyncResults();
+        for (FieldValidation fieldValidation : fieldValidations) {
+            fieldValidation.hasResult = false;
+            fieldValidation.resultValue = null;
+        }
     }
 
     /**
@@ -105,31 +594,15 @@ public class FormValidator {
      * @return String - The error string or null if the validation passes
      */
     public String doValidation() {
-        //loops through the arraylist and remove all error styles if it is specified.
+        removeErrorStyles();
         int fieldSize = fields.size();
-        for (int i = 0; i < fieldSize; i++) {
-            if (fields.get(i).errorStyleName != null) {
-                fields.get(i).uiField.removeStyleName(fields.get(i).errorStyleName.toString());
-            }
-        }
         //loops through the arraylist and retrieve their values from within the widget
         for (int i = 0; i < fieldSize; i++) {
-            //gets the instance of the validator
-            ValidatorInterface<?> validator = validatorFactory(fields.get(i).validatorReferenceName);
-            //set the config hashmap on the validator
-            validator.setConfiguration(fields.get(i).config);
-            //check if the value is valid
-            boolean valid = false;
-            try {
-                Class<?> type = ((AdvancedInputField)fields.get(i).uiField).getReturnType();
-                if (String.class.equals(type)) {
-                    valid = ((ValidatorInterface<String>)validator).isValid(((HasValue<String>)fields.get(i).uiField).getValue().trim());
-                } else if (SSDate.class.equals(type)) {
-                    valid = ((ValidatorInterface<SSDate>)validator).isValid(((HasValue<SSDate>)fields.get(i).uiField).getValue());
-                }
-            } catch (Exception e) {
-                valid = ((ValidatorInterface<String>)validator).isValid(((HasValue<String>)fields.get(i).uiField).getValue());
-            }
+            //gets the configured validator of the field
+            FieldValidation fieldValidation = fieldValidations.get(i);
+            ValidatorInterface<?> validator = getValidator(fieldValidation);
+            //check if the value is valid, the stored result is used if the value did not change
+            boolean valid = isValid(fieldValidation, getValidationValue(fieldValidation));
             if (!valid) {
                 fields.get(i).uiField.getElement().scrollIntoView();
                 //add error style
@@ -148,42 +621,113 @@ public class FormValidator {
     }
 
     /**
-     * This is a factory function that will determine which instance of the
-     * validation classes to create and return based on the reference passed
-     * in
+     * Loops through the fields and removes the error styles if it is specified
+     */
+    private void removeErrorStyles() {
+        int fieldSize = fields.size();
+        for (int i = 0; i < fieldSize; i++) {
+            if (fields.get(i).errorStyleName != null) {
+                fields.get(i).uiField.removeStyleName(fields.get(i).errorStyleName.toString());
+            }
+        }
+    }
+
+    /**
+     * Retrieves the validator of the field, creating and configuring it the first time
+     *
+     * @param fieldValidation - The validation state of the field
      *
-     * @param validatorReferenceName - the reference name to use in the factory
-     * @return ValidatorInterface - an instance of the required validation class
+     * @return The validator of the field
      */
-    private ValidatorInterface<?> validatorFactory(String validatorReferenceName) {
-        //check if instance for validatorReferenceName is already in array and return if true
-        if (validatorInstances.containsKey(validatorReferenceName)) {
-            return validatorInstances.get(validatorReferenceName);
+    private ValidatorInterface<?> getValidator(FieldValidation fieldValidation) {
+        if (fieldValidation.validator == null) {
+            String validatorReferenceName = fieldValidation.field.validatorReferenceName;
+            ValidatorProvider provider = validatorProviders.get(validatorReferenceName);
+            if (provider != null) {
+                fieldValidation.validator = provider.createValidator();
+            } else {
+                fieldValidation.validator = ValidatorFactory.createValidator(validatorReferenceName);
+            }
+            fieldValidation.validator.setConfiguration(fieldValidation.field.config);
         }
+        return fieldValidation.validator;
+    }
 
-        //create variable to hold the instance to return
-        ValidatorInterface<?> formValidationInstance = null;
+    /**
+     * Retrieves the value of the field the way it is passed to the validator
+     *
+     * @param fieldValidation - The validation state of the field
+     *
+     * @return The value of the field, trimmed if it is a string
+     */
+    private Object getValidationValue(FieldValidation fieldValidation) {
+        Object value = ((HasValue<?>)fieldValidation.field.uiField).getValue();
+        if (fieldValidation.valueType == VALUE_TYPE_STRING && value != null) {
+            return ((String)value).trim();
+        }
+        return value;
+    }
 
-        //check which instance of the validation classes to instantiate
-        if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_DATE_REFERENCE)) {
-            formValidationInstance = new DateValidator();
-        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_EMAIL_REFERENCE)) {
-            formValidationInstance = new EmailValidator();
-        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_STRING_REFERENCE)) {
-            formValidationInstance = new StringValidator();
-        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_USERNAME_REFERENCE)) {
-            formValidationInstance = new UsernameValidator();
-        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_REGEX_REFERENCE)) {
-            formValidationInstance = new StringRegexValidator();
-        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_AGE_REFERENCE)) {
-            formValidationInstance = new AgeValidator();
+    /**
+     * Checks if the value of the field is valid using the synchronous
+     * validation of the validator. The result is stored and reused until the
+     * value of the field changes.
+     *
+     * @param fieldValidation - The validation state of the field
+     * @param value - The value of the field
+     *
+     * @return Whether the value of the field is valid
+     */
+    private boolean isValid(FieldValidation fieldValidation, Object value) {
+        if (fieldValidation.valueType == VALUE_TYPE_UNSUPPORTED) {
+            return false;
+        }
+        Object resultValue = getResultValue(value);
+        if (fieldValidation.hasResult && isSameValue(resultValue, fieldValidation.resultValue)) {
+            return fieldValidation.valid;
         }
+        ValidatorInterface<Object> validator = (ValidatorInterface<Object>)getValidator(fieldValidation);
+        boolean valid;
+        try {
+            valid = validator.isValid(value);
+        } catch (RuntimeException e) {
+            if (fieldValidation.valueType != VALUE_TYPE_STRING) {
+                throw e;
+            }
+            valid = validator.isValid(((HasValue<?>)fieldValidation.field.uiField).getValue());
+        }
+        fieldValidation.hasResult = true;
+        fieldValidation.resultValue = resultValue;
+        fieldValidation.valid = valid;
+        return valid;
+    }
 
-        //add validation class instance to array
-        validatorInstances.put(validatorReferenceName, formValidationInstance);
+    /**
+     * Retrieves the value that is stored with a validation result. Dates are
+     * stored as their time as date objects can be changed after they were
+     * validated.
+     *
+     * @param value - The value of the field
+     *
+     * @return The value to store with the validation result
+     */
+    private static Object getResultValue(Object value) {
+        if (value instanceof Date) {
+            return Long.valueOf(((Date)value).getTime());
+        }
+        return value;
+    }
 
-        //return the validation class instance
-        return formValidationInstance;
+    /**
+     * Checks if two stored values are the same
+     *
+     * @param value - The value of the field
+     * @param storedValue - The value stored with a validation result
+     *
+     * @return Whether the values are the same
+     */
+    private static boolean isSameValue(Object value, Object storedValue) {
+        return value == null ? storedValue == null : value.equals(storedValue);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ssgwt.client.validation;
+
+import java.util.HashMap;
+
+import org.ssgwt.client.validation.validators.ValidatorInterface;
+
+/**
+ * The definition of a validation rule: the reference name of the validator,
+ * its configuration and the error message. A rule can be added to a
+ * FormValidator on the client and to a bulk validator on the server, so the
+ * rules only have to be defined once.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ValidationRule {
+
+    /**
+     * The reference name for the validation
+     */
+    private final String validatorReferenceName;
+
+    /**
+     * Validation configuration settings
+     */
+    private final HashMap<String, ?> config;
+
+    /**
+     * The error message to be displayed, null to use the default message of the validator
+     */
+    private final String errorMessage;
+
+    /**
+     * Class constructor for a rule that uses the default message of the validator
+     *
+     * @param validatorReferenceName - The reference name for the validation
+     * @param config - Validation configuration settings
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public ValidationRule(String validatorReferenceName, HashMap<String, ?> config) {
+        this(validatorReferenceName, config, null);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param validatorReferenceName - The reference name for the validation
+     * @param config - Validation configuration settings
+     * @param errorMessage - The error message to be displayed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public ValidationRule(String validatorReferenceName, HashMap<String, ?> config, String errorMessage) {
+        this.validatorReferenceName = validatorReferenceName;
+        this.config = config;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Retrieves the reference name for the validation
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The reference name
+     */
+    public String getValidatorReferenceName() {
+        return validatorReferenceName;
+    }
+
+    /**
+     * Retrieves the validation configuration settings
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The configuration
+     */
+    public HashMap<String, ?> getConfig() {
+        return config;
+    }
+
+    /**
+     * Retrieves the error message to be displayed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The error message or null if the default message of the validator is used
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Creates a new instance of the validator of the rule with the configuration set on it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The configured validator
+     */
+    public ValidatorInterface<?> createValidator() {
+        ValidatorInterface<?> validator = ValidatorFactory.createValidator(validatorReferenceName);
+        if (validator == null) {
+            throw new IllegalArgumentException("Unknown validator reference name: " + validatorReferenceName);
+        }
+        validator.setConfiguration(config);
+        return validator;
+    }
+
+    /**
+     * Creates a new instance of the validator of the rule for validating
+     * string values, such as the columns of a file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The configured validator
+     *
+     * @throws IllegalArgumentException if the validator of the rule does not validate strings
+     */
+    @SuppressWarnings("unchecked")
+    public ValidatorInterface<String> createStringValidator() {
+        ValidatorInterface<?> validator = createValidator();
+        if (!ValidatorFactory.isStringValidator(validatorReferenceName)) {
+            throw new IllegalArgumentException("The " + validator.getName() + " validator does not validate strings");
+        }
+        return (ValidatorInterface<String>) validator;
+    }
+}
@@ -15,7 +15,9 @@
 package org.ssgwt.client.validation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.ssgwt.client.validation.validators.ValidatorInterface;
 
@@ -51,6 +53,18 @@ public class ValidatorChain<T> {
         this.validators.add(validator);
     }
 
+    /**
+     * Retrieves the validators in the chain in the order they were added.
+     * 
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since 19 October 2026
+     * 
+     * @return The validators in the chain
+     */
+    public List<ValidatorInterface<T>> getValidators() {
+        return Collections.unmodifiableList(this.validators);
+    }
+
     /**
      * Checks all validators in the chain and returns whether it is valid or
      * not.
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ssgwt.client.validation;
+
+import org.ssgwt.client.validation.validators.AgeValidator;
+import org.ssgwt.client.validation.validators.DateValidator;
+import org.ssgwt.client.validation.validators.EmailValidator;
+import org.ssgwt.client.validation.validators.StringRegexValidator;
+import org.ssgwt.client.validation.validators.StringValidator;
+import org.ssgwt.client.validation.validators.UsernameValidator;
+import org.ssgwt.client.validation.validators.ValidatorInterface;
+
+/**
+ * Creates the built in validators from their reference names. The factory is
+ * used by the FormValidator on the client and by the bulk validator on the
+ * server, so the reference names mean the same on both.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public final class ValidatorFactory {
+
+    /**
+     * Class constructor, the class only has static functions
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private ValidatorFactory() {
+    }
+
+    /**
+     * This is a factory function that will determine which instance of the
+     * validation classes to create and return based on the reference passed
+     * in. A new instance is created on each call so that each caller keeps
+     * its own configuration.
+     *
+     * @param validatorReferenceName - the reference name to use in the factory
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return ValidatorInterface - an instance of the required validation class or null if the reference name is unknown
+     */
+    public static ValidatorInterface<?> createValidator(String validatorReferenceName) {
+        //create variable to hold the instance to return
+        ValidatorInterface<?> formValidationInstance = null;
+
+        //check which instance of the validation classes to instantiate
+        if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_DATE_REFERENCE)) {
+            formValidationInstance = new DateValidator();
+        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_EMAIL_REFERENCE)) {
+            formValidationInstance = new EmailValidator();
+        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_STRING_REFERENCE)) {
+            formValidationInstance = new StringValidator();
+        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_USERNAME_REFERENCE)) {
+            formValidationInstance = new UsernameValidator();
+        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_REGEX_REFERENCE)) {
+            formValidationInstance = new StringRegexValidator();
+        } else if (validatorReferenceName.equals(FormFieldConstants.VALIDATE_AGE_REFERENCE)) {
+            formValidationInstance = new AgeValidator();
+        }
+
+        //return the validation class instance
+        return formValidationInstance;
+    }
+
+    /**
+     * Determines whether the validator of a reference name validates string
+     * values. The date and age validators validate dates and can not be used
+     * where the values are strings.
+     *
+     * @param validatorReferenceName - the reference name of the validator
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the validator validates strings
+     */
+    public static boolean isStringValidator(String validatorReferenceName) {
+        return validatorReferenceName.equals(FormFieldConstants.VALIDATE_EMAIL_REFERENCE)
+            || validatorReferenceName.equals(FormFieldConstants.VALIDATE_STRING_REFERENCE)
+            || validatorReferenceName.equals(FormFieldConstants.VALIDATE_USERNAME_REFERENCE)
+            || validatorReferenceName.equals(FormFieldConstants.VALIDATE_REGEX_REFERENCE);
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ssgwt.client.validation;
+
+import org.ssgwt.client.validation.validators.ValidatorInterface;
+
+/**
+ * Creates the validators of a reference name registered on a FormValidator.
+ * A new validator is created for each field that uses the reference name, so
+ * the configuration of a field is never changed while another field is being
+ * validated.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface ValidatorProvider {
+
+    /**
+     * Creates a new validator instance
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The new validator
+     */
+    public ValidatorInterface<?> createValidator();
+}
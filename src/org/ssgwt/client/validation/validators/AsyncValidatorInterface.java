@@ -0,0 +1,42 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ssgwt.client.validation.validators;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Interface describing a validator that needs to call a service to validate
+ * a value, for example to check that a username is not taken yet.
+ *
+ * The FormValidator first calls the synchronous isValid method so local
+ * checks can fail the value without calling the service. The asynchronous
+ * isValid method is only called for values that pass the local checks.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public interface AsyncValidatorInterface<T> extends ValidatorInterface<T> {
+
+    /**
+     * Validates the value passed in and reports the result to the callback.
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @param value - The value to validate
+     * @param callback - Called with whether the value is valid or not, or with the error if the service call failed
+     */
+    public void isValid(T value, AsyncCallback<Boolean> callback);
+}
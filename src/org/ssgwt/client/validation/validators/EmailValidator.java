@@ -30,9 +30,11 @@ public class EmailValidator extends AbstractValidator implements ValidatorInterf
     private static final String VALIDATOR_NAME = "EmailValidator";
     
     /**
-     * The regular expression patterns string to be used to validate the value.
+     * The regular expression patterns string the value is validated against.
+     * The value is matched by LinearPatternMatcher, which accepts the same
+     * values in linear time.
      */
-    private static final String EMAIL_PATTERN = "^[_A-Za-z0-9-]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$";
+    static final String EMAIL_PATTERN = "^[_A-Za-z0-9-]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$";
     
     /**
      * Default error message to use for validation
@@ -48,7 +50,7 @@ public class EmailValidator extends AbstractValidator implements ValidatorInterf
      * @return Whether the value is a valid email address or not.
      */
     public boolean isValid(String value) {
-        return value.matches(EMAIL_PATTERN);
+        return LinearPatternMatcher.isEmail(value);
     }
 
     /**
@@ -0,0 +1,400 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ssgwt.client.validation.validators;
+
+/**
+ * Matches values against the built in validation patterns in a single pass
+ * over the value.
+ *
+ * The regular expressions of the built in patterns contain nested
+ * quantifiers, which makes a backtracking regular expression engine take
+ * exponential time on long values that almost match. The functions in this
+ * class accept and reject exactly the same values as the regular expressions
+ * they replace, but only look at each character once.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public final class LinearPatternMatcher {
+
+    /**
+     * The accented letters that are allowed in names
+     */
+    private static final String ACCENTED_LETTERS = "àáâäãåèéêëìíîïòóôöõøùúûüÿýñçčšžÀÁÂÄÃÅÈÉÊËÌÍÎÏÒÓÔÖÕØÙÚÛÜŸÝÑßÇŒÆČŠŽ∂ð";
+
+    /**
+     * The characters, other than letters and digits, a name with numbers can start and end with
+     */
+    private static final String NAME_NUMBERS_EDGE_CHARACTERS = "&";
+
+    /**
+     * The characters, other than letters and digits, a name with special characters can start and end with
+     */
+    private static final String NAME_SPECIAL_EDGE_CHARACTERS = "&()/";
+
+    /**
+     * The characters, other than letters, that are allowed in the middle of a name
+     */
+    private static final String NAME_MIDDLE_CHARACTERS = " -";
+
+    /**
+     * The characters, other than letters and digits, that are allowed in the middle of a name with numbers
+     */
+    private static final String NAME_NUMBERS_MIDDLE_CHARACTERS = " '-";
+
+    /**
+     * The maximum number of digits after the + of a telephone number
+     */
+    private static final int MAX_INTERNATIONAL_TELEPHONE_DIGITS = 15;
+
+    /**
+     * The maximum number of digits after the leading 0 of a telephone number
+     */
+    private static final int MAX_LOCAL_TELEPHONE_DIGITS = 14;
+
+    /**
+     * Class constructor, the class only has static functions
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private LinearPatternMatcher() {
+    }
+
+    /**
+     * Checks whether the value matches the pattern. The built in patterns
+     * are matched in linear time, any other pattern is matched using the
+     * regular expression.
+     *
+     * @param value - The value to match
+     * @param pattern - The regular expression pattern
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value matches the pattern
+     */
+    public static boolean matches(String value, String pattern) {
+        if (StringRegexValidator.REGEX_NAME_PATTERN.equals(pattern)) {
+            return isName(value);
+        } else if (StringRegexValidator.REGEX_NAME_PATTERN_NUMBERS.equals(pattern)) {
+            return isNameWithNumbers(value);
+        } else if (StringRegexValidator.REGEX_NAME_PATTERN_WITH_SPECIAL_CHARACTERS.equals(pattern)) {
+            return isNameWithSpecialCharacters(value);
+        } else if (StringRegexValidator.REGEX_EMAIL_PATTERN.equals(pattern)) {
+            return isEmail(value);
+        } else if (StringRegexValidator.REGEX_ALPHA_NUMERIC_PATTERN.equals(pattern)) {
+            return isAlphaNumeric(value);
+        } else if (StringRegexValidator.REGEX_TELEPHONE_NUMBER_PATTERN.equals(pattern)) {
+            return isTelephoneNumber(value);
+        }
+        return value.matches(pattern);
+    }
+
+    /**
+     * Checks whether the value is a valid username. A username starts with a
+     * letter or digit followed by letters, digits, dots, underscores and
+     * hyphens.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid username
+     */
+    public static boolean isUsername(String value) {
+        int length = value.length();
+        if (length == 0 || !isAsciiLetterOrDigit(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char character = value.charAt(i);
+            if (character != '.' && !isWordCharacter(character)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the value is a valid email address. The local part
+     * consists of words of letters, digits, underscores and hyphens separated
+     * by single dots. The domain consists of a first label that can contain
+     * hyphens, labels of letters and digits and a last label of at least two
+     * letters.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid email address
+     */
+    public static boolean isEmail(String value) {
+        int length = value.length();
+        int i = 0;
+
+        // The local part
+        int wordLength = 0;
+        for (; i < length; i++) {
+            char character = value.charAt(i);
+            if (isWordCharacter(character)) {
+                wordLength++;
+            } else if (character == '.' && wordLength > 0) {
+                wordLength = 0;
+            } else {
+                break;
+            }
+        }
+        if (wordLength == 0 || i == length || value.charAt(i) != '@') {
+            return false;
+        }
+        i++;
+
+        // The domain
+        int labelCount = 0;
+        int labelLength = 0;
+        boolean labelHasDigit = false;
+        for (; i < length; i++) {
+            char character = value.charAt(i);
+            if (character == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labelCount++;
+                labelLength = 0;
+                labelHasDigit = false;
+            } else if (isAsciiLetter(character)) {
+                labelLength++;
+            } else if (isAsciiDigit(character)) {
+                labelLength++;
+                labelHasDigit = true;
+            } else if (character == '-' && labelCount == 0) {
+                labelLength++;
+            } else {
+                return false;
+            }
+        }
+
+        // The last label should be at least two letters and can not be the first label
+        return labelCount > 0 && labelLength >= 2 && !labelHasDigit;
+    }
+
+    /**
+     * Checks whether the value is a valid name. A name starts and ends with a
+     * letter and can contain spaces and hyphens in the middle.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid name
+     */
+    public static boolean isName(String value) {
+        return isName(value, false, "", NAME_MIDDLE_CHARACTERS);
+    }
+
+    /**
+     * Checks whether the value is a valid name that can contain numbers. The
+     * name starts and ends with a letter, digit or ampersand and can contain
+     * spaces, apostrophes and hyphens in the middle.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid name
+     */
+    public static boolean isNameWithNumbers(String value) {
+        return isName(value, true, NAME_NUMBERS_EDGE_CHARACTERS, NAME_NUMBERS_MIDDLE_CHARACTERS);
+    }
+
+    /**
+     * Checks whether the value is a valid name that can contain numbers and
+     * special characters. The name starts and ends with a letter, digit,
+     * ampersand, bracket or slash and can contain spaces, apostrophes and
+     * hyphens in the middle.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid name
+     */
+    public static boolean isNameWithSpecialCharacters(String value) {
+        return isName(value, true, NAME_SPECIAL_EDGE_CHARACTERS, NAME_NUMBERS_MIDDLE_CHARACTERS);
+    }
+
+    /**
+     * Checks whether the value only contains letters and digits
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value only contains letters and digits
+     */
+    public static boolean isAlphaNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAsciiLetterOrDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the value is a valid telephone number. The number is
+     * either a + followed by up to 15 digits or a 0 followed by up to 14
+     * digits.
+     *
+     * @param value - The value to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid telephone number
+     */
+    public static boolean isTelephoneNumber(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        int maxDigits;
+        if (value.charAt(0) == '+') {
+            maxDigits = MAX_INTERNATIONAL_TELEPHONE_DIGITS;
+        } else if (value.charAt(0) == '0') {
+            maxDigits = MAX_LOCAL_TELEPHONE_DIGITS;
+        } else {
+            return false;
+        }
+        if (length - 1 > maxDigits) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the value is a name that starts and ends with an edge
+     * character and only contains edge and middle characters. This is the
+     * language of the name patterns, where the characters a name starts with
+     * are the same as the characters each word ends with.
+     *
+     * @param value - The value to check
+     * @param digits - Whether digits are allowed
+     * @param edgeCharacters - The characters other than letters and digits the name can start and end with
+     * @param middleCharacters - The characters other than letters and digits allowed in the middle of the name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the value is a valid name
+     */
+    private static boolean isName(String value, boolean digits, String edgeCharacters, String middleCharacters) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char character = value.charAt(i);
+            boolean edgeCharacter = isNameLetter(character) || (digits && isAsciiDigit(character))
+                    || edgeCharacters.indexOf(character) >= 0;
+            if (!edgeCharacter && (i == 0 || i == length - 1 || middleCharacters.indexOf(character) < 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the character is a letter that is allowed in names
+     *
+     * @param character - The character to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the character is allowed
+     */
+    private static boolean isNameLetter(char character) {
+        return isAsciiLetter(character) || ACCENTED_LETTERS.indexOf(character) >= 0;
+    }
+
+    /**
+     * Checks whether the character is a letter, digit, underscore or hyphen
+     *
+     * @param character - The character to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the character is a word character
+     */
+    private static boolean isWordCharacter(char character) {
+        return isAsciiLetterOrDigit(character) || character == '_' || character == '-';
+    }
+
+    /**
+     * Checks whether the character is an ASCII letter or digit
+     *
+     * @param character - The character to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the character is a letter or digit
+     */
+    private static boolean isAsciiLetterOrDigit(char character) {
+        return isAsciiLetter(character) || isAsciiDigit(character);
+    }
+
+    /**
+     * Checks whether the character is an ASCII letter
+     *
+     * @param character - The character to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the character is a letter
+     */
+    private static boolean isAsciiLetter(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+    }
+
+    /**
+     * Checks whether the character is an ASCII digit
+     *
+     * @param character - The character to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return Whether the character is a digit
+     */
+    private static boolean isAsciiDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -98,7 +98,8 @@ public class StringRegexValidator extends AbstractValidator implements
     }
 
     /**
-     * Validate that a given value matches the given regex pattern
+     * Validate that a given value matches the given regex pattern. The built
+     * in patterns of this class are matched in linear time.
      * 
      * @param sValue The value to validate
      * @param sRegExpression The regular expression pattern to validate
@@ -109,7 +110,7 @@ public class StringRegexValidator extends AbstractValidator implements
      * @return Whether the value matched the regex pattern or not
      */
     public boolean validateRegularExpressionPattern(String sValue, String sRegExpression) {
-        return sValue.matches(sRegExpression);
+        return LinearPatternMatcher.matches(sValue, sRegExpression);
     }
 
     /**
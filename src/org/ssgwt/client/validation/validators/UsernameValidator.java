@@ -31,9 +31,11 @@ public class UsernameValidator extends AbstractValidator implements ValidatorInt
     private static final String VALIDATOR_NAME = "UsernameValidator";
     
     /**
-     * The regular expression patterns string to be used to validate the value.
+     * The regular expression patterns string the value is validated against.
+     * The value is matched by LinearPatternMatcher, which accepts the same
+     * values in linear time.
      */
-    private static final String USERNAME_PATTERN = "^[A-Za-z0-9]+(\\.|[_A-Za-z0-9-]+)*";
+    static final String USERNAME_PATTERN = "^[A-Za-z0-9]+(\\.|[_A-Za-z0-9-]+)*";
     
     /**
      * Default error message to use for validation
@@ -49,7 +51,7 @@ public class UsernameValidator extends AbstractValidator implements ValidatorInt
      * @return Whether the value is a valid email address or not.
      */
     public boolean isValid(String value) {
-        return value.matches(USERNAME_PATTERN);
+        return LinearPatternMatcher.isUsername(value);
     }
 
     /**
@@ -0,0 +1,633 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.server.upload;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.ssgwt.share.upload.ChunkedUploadProtocol;
+import org.ssgwt.share.upload.Crc32;
+
+/**
+ * A reference endpoint for the HttpChunkTransport. The chunks of each
+ * upload are stored as separate files in a directory named after the upload
+ * id, so a client can ask which chunks were received and resume an upload.
+ * The upload ids are chosen by the client, so the directories are kept in a
+ * directory of the upload scope of the request, which is the authenticated
+ * user or else the session. A client can only see, add to and complete the
+ * uploads of its own scope. Override getUploadScope to scope the uploads
+ * differently.
+ * The checksum of each chunk is verified before it is stored. When the
+ * client completes the upload the chunks are joined into a single file and
+ * onUploadComplete is called.
+ *
+ * The chunk size of an upload is recorded from the offsets of its chunks.
+ * When a client resumes an upload with a different chunk size the stored
+ * chunks no longer line up with the new chunks, so they are deleted and the
+ * upload starts over instead of failing on every attempt.
+ *
+ * The servlet can be used as is by mapping it in the web.xml, in which case
+ * completed files are kept in the upload directory, or extended to move the
+ * completed file to where the application needs it. The following init
+ * parameters are supported:
+ *  - uploadDirectory: The directory the uploads are stored in, defaults to
+ *    ssgwt-uploads in the temporary directory
+ *  - maxChunkSize: The maximum number of bytes in a chunk, defaults to 16 MB
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ChunkedUploadServlet extends HttpServlet {
+
+    /**
+     * The serial version id of the servlet
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of bytes in a chunk
+     */
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The extension of the files holding the chunks
+     */
+    private static final String CHUNK_EXTENSION = ".part";
+
+    /**
+     * The name of the file a completed upload is joined into
+     */
+    private static final String COMPLETED_FILE_NAME = "completed";
+
+    /**
+     * The name of the file the chunk size of an upload is recorded in
+     */
+    private static final String CHUNK_SIZE_FILE_NAME = "chunk-size";
+
+    /**
+     * The directory the uploads are stored in
+     */
+    private File uploadDirectory;
+
+    /**
+     * The maximum number of bytes in a chunk
+     */
+    private int maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+
+    /**
+     * Reads the init parameters and creates the upload directory
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws ServletException if the upload directory could not be created
+     */
+    @Override
+    public void init() throws ServletException {
+        String directory = getInitParameter("uploadDirectory");
+        if (directory == null || directory.trim().length() == 0) {
+            uploadDirectory = new File(System.getProperty("java.io.tmpdir"), "ssgwt-uploads");
+        } else {
+            uploadDirectory = new File(directory.trim());
+        }
+        if (!uploadDirectory.isDirectory() && !uploadDirectory.mkdirs()) {
+            throw new ServletException("The upload directory " + uploadDirectory + " could not be created");
+        }
+        String chunkSize = getInitParameter("maxChunkSize");
+        if (chunkSize != null && chunkSize.trim().length() > 0) {
+            maxChunkSize = Integer.parseInt(chunkSize.trim());
+        }
+    }
+
+    /**
+     * Responds with the indexes of the chunks that were received for an upload
+     *
+     * @param request - The request
+     * @param response - The response
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the response could not be written
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uploadId = request.getParameter(ChunkedUploadProtocol.UPLOAD_ID);
+        if (!ChunkedUploadProtocol.isValidUploadId(uploadId)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid upload id");
+            return;
+        }
+        File directory = getUploadDirectory(request, uploadId);
+        if (directory == null) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "No upload scope");
+            return;
+        }
+        List<Integer> chunks = getReceivedChunks(directory);
+        StringBuilder text = new StringBuilder();
+        for (Integer index : chunks) {
+            if (text.length() > 0) {
+                text.append(ChunkedUploadProtocol.CHUNK_SEPARATOR);
+            }
+            text.append(index);
+        }
+        response.setContentType("text/plain");
+        response.setHeader("Cache-Control", "no-cache");
+        response.getWriter().write(text.toString());
+    }
+
+    /**
+     * Stores a chunk or completes an upload, depending on the action parameter
+     *
+     * @param request - The request
+     * @param response - The response
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the request could not be read or the response could not be written
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uploadId = request.getParameter(ChunkedUploadProtocol.UPLOAD_ID);
+        if (!ChunkedUploadProtocol.isValidUploadId(uploadId)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid upload id");
+            return;
+        }
+        File directory = getUploadDirectory(request, uploadId);
+        if (directory == null) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "No upload scope");
+            return;
+        }
+        String action = request.getParameter(ChunkedUploadProtocol.ACTION);
+        if (ChunkedUploadProtocol.ACTION_CHUNK.equals(action)) {
+            storeChunk(directory, request, response);
+        } else if (ChunkedUploadProtocol.ACTION_COMPLETE.equals(action)) {
+            completeUpload(uploadId, directory, request, response);
+        } else {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid action");
+        }
+    }
+
+    /**
+     * Stores the chunk in the body of the request if its checksum is correct
+     *
+     * @param directory - The directory of the upload
+     * @param request - The request
+     * @param response - The response
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the chunk could not be stored
+     */
+    private void storeChunk(File directory, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        int index;
+        long offset;
+        try {
+            index = Integer.parseInt(request.getParameter(ChunkedUploadProtocol.CHUNK_INDEX));
+            offset = Long.parseLong(request.getParameter(ChunkedUploadProtocol.CHUNK_OFFSET));
+        } catch (NumberFormatException exception) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid chunk index or offset");
+            return;
+        }
+        String checksum = request.getHeader(ChunkedUploadProtocol.CHUNK_CHECKSUM_HEADER);
+        if (index < 0 || offset < 0 || (index == 0) != (offset == 0) || (index > 0 && offset % index != 0)
+                || checksum == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid chunk");
+            return;
+        }
+        // Every chunk but the first tells the chunk size of the upload
+        long chunkSize = index > 0 ? offset / index : -1;
+
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("The directory " + directory + " could not be created");
+        }
+        // The chunk is written to a temporary file first so a partially received chunk is never listed
+        File temporaryFile = File.createTempFile("chunk", ".tmp", directory);
+        boolean stored = false;
+        try {
+            Crc32 crc = new Crc32();
+            long length = copy(request.getInputStream(), temporaryFile, crc, maxChunkSize);
+            if (length < 0) {
+                response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "The chunk is too large");
+                return;
+            }
+            if (!crc.getHexValue().equalsIgnoreCase(checksum.trim())) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "The checksum of the chunk is incorrect");
+                return;
+            }
+            if (chunkSize > 0 && length > chunkSize) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "The chunk does not match its offset");
+                return;
+            }
+            synchronized (directory.getPath().intern()) {
+                long recordedChunkSize = readChunkSize(directory);
+                if (chunkSize > 0 && recordedChunkSize != chunkSize) {
+                    if (recordedChunkSize > 0) {
+                        // The upload was resumed with a different chunk size
+                        deleteChunks(directory);
+                    }
+                    writeChunkSize(directory, chunkSize);
+                } else if (recordedChunkSize > 0 && length > recordedChunkSize) {
+                    deleteChunks(directory);
+                }
+                File chunkFile = new File(directory, index + CHUNK_EXTENSION);
+                if (chunkFile.exists() && !chunkFile.delete()) {
+                    throw new IOException("The chunk " + chunkFile + " could not be replaced");
+                }
+                if (!temporaryFile.renameTo(chunkFile)) {
+                    throw new IOException("The chunk " + chunkFile + " could not be stored");
+                }
+            }
+            stored = true;
+        } finally {
+            if (!stored) {
+                temporaryFile.delete();
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+
+    /**
+     * Joins the chunks of an upload into a single file and calls onUploadComplete
+     *
+     * @param uploadId - The id of the upload
+     * @param directory - The directory of the upload
+     * @param request - The request
+     * @param response - The response
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the file could not be joined
+     */
+    private void completeUpload(String uploadId, File directory, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        int chunkCount;
+        long fileSize;
+        try {
+            chunkCount = Integer.parseInt(request.getParameter(ChunkedUploadProtocol.CHUNK_COUNT));
+            fileSize = Long.parseLong(request.getParameter(ChunkedUploadProtocol.FILE_SIZE));
+        } catch (NumberFormatException exception) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid chunk count or file size");
+            return;
+        }
+        String fileName = request.getParameter(ChunkedUploadProtocol.FILE_NAME);
+        File completedFile = new File(directory, COMPLETED_FILE_NAME);
+
+        synchronized (directory.getPath().intern()) {
+            // A completion that is repeated because its response was lost finds the joined file
+            boolean joined = completedFile.isFile() && completedFile.length() == fileSize
+                    && getReceivedChunks(directory).isEmpty();
+            if (!joined && !joinChunks(directory, completedFile, chunkCount, fileSize, response)) {
+                return;
+            }
+        }
+        onUploadComplete(uploadId, fileName, completedFile, request, response);
+    }
+
+    /**
+     * Joins the chunks of an upload into a single file and deletes the chunks.
+     * If chunks are missing or the size is incorrect an error is sent. Chunks
+     * that do not line up, because they were stored with a different chunk
+     * size, are deleted so the client uploads them again when it resumes.
+     *
+     * @param directory - The directory of the upload
+     * @param completedFile - The file to join the chunks into
+     * @param chunkCount - The number of chunks in the file
+     * @param fileSize - The number of bytes in the file
+     * @param response - The response to send an error with
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the chunks were joined, false if an error was sent
+     *
+     * @throws IOException if the file could not be joined
+     */
+    private boolean joinChunks(File directory, File completedFile, int chunkCount, long fileSize,
+            HttpServletResponse response) throws IOException {
+        long size = 0;
+        long chunkSize = -1;
+        boolean aligned = true;
+        for (int i = 0; i < chunkCount; i++) {
+            File chunkFile = new File(directory, i + CHUNK_EXTENSION);
+            if (!chunkFile.isFile()) {
+                response.sendError(HttpServletResponse.SC_CONFLICT, "The upload is missing chunk " + i);
+                return false;
+            }
+            long length = chunkFile.length();
+            if (i == 0) {
+                chunkSize = length;
+            } else if (i < chunkCount - 1 ? length != chunkSize : length > chunkSize) {
+                aligned = false;
+            }
+            size += length;
+        }
+        if (!aligned || size != fileSize) {
+            deleteChunks(directory);
+            response.sendError(HttpServletResponse.SC_CONFLICT, "The upload is not the expected size");
+            return false;
+        }
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("The directory " + directory + " could not be created");
+        }
+
+        OutputStream output = new FileOutputStream(completedFile);
+        try {
+            for (int i = 0; i < chunkCount; i++) {
+                InputStream input = new FileInputStream(new File(directory, i + CHUNK_EXTENSION));
+                try {
+                    copy(input, output);
+                } finally {
+                    input.close();
+                }
+            }
+        } finally {
+            output.close();
+        }
+        deleteChunks(directory);
+        return true;
+    }
+
+    /**
+     * Called when all the chunks of an upload were joined into a single
+     * file. The default implementation keeps the file in the upload
+     * directory and responds that the upload completed. Override this method
+     * to move the file to where the application needs it or to process it.
+     *
+     * @param uploadId - The id of the upload
+     * @param fileName - The name of the file on the client
+     * @param file - The file the chunks were joined into
+     * @param request - The request that completed the upload
+     * @param response - The response to the request
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the file could not be processed
+     */
+    protected void onUploadComplete(String uploadId, String fileName, File file, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+
+    /**
+     * Retrieves the directory the upload scopes are stored in
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The upload directory
+     */
+    protected File getUploadDirectory() {
+        return uploadDirectory;
+    }
+
+    /**
+     * Retrieves the scope the uploads of a request are kept in. Uploads of
+     * different scopes are stored apart, so the upload ids only have to be
+     * unique within a scope. The default implementation uses the
+     * authenticated user and otherwise the session, which is created if
+     * needed. Override this method to use the scope of the application, for
+     * instance the account of the user. Uploads that are resumed have to be
+     * in the same scope, so a scope should not change while a user uploads.
+     *
+     * @param request - The request
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The upload scope or null if the request is not allowed to upload
+     */
+    protected String getUploadScope(HttpServletRequest request) {
+        String user = request.getRemoteUser();
+        if (user != null) {
+            return "user:" + user;
+        }
+        return "session:" + request.getSession(true).getId();
+    }
+
+    /**
+     * Retrieves the directory of an upload in the upload scope of a request.
+     * The scope is hashed so any scope can be used as a directory name and
+     * session ids are not written to the file system.
+     *
+     * @param request - The request
+     * @param uploadId - The id of the upload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The directory of the upload or null if the request has no upload scope
+     */
+    protected File getUploadDirectory(HttpServletRequest request, String uploadId) {
+        String scope = getUploadScope(request);
+        if (scope == null) {
+            return null;
+        }
+        return new File(new File(uploadDirectory, hash(scope)), uploadId);
+    }
+
+    /**
+     * Creates the hexadecimal SHA-256 hash of a value
+     *
+     * @param value - The value to hash
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The hash
+     */
+    private static String hash(String value) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        } catch (UnsupportedEncodingException exception) {
+            throw new IllegalStateException(exception);
+        }
+        StringBuilder hash = new StringBuilder(digest.length * 2);
+        for (byte part : digest) {
+            hash.append(Character.forDigit((part >> 4) & 0xF, 16)).append(Character.forDigit(part & 0xF, 16));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Retrieves the sorted indexes of the chunks stored in an upload directory
+     *
+     * @param directory - The directory of the upload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The chunk indexes
+     */
+    private static List<Integer> getReceivedChunks(File directory) {
+        ArrayList<Integer> chunks = new ArrayList<Integer>();
+        String[] names = directory.list();
+        if (names != null) {
+            for (String name : names) {
+                if (name.endsWith(CHUNK_EXTENSION)) {
+                    try {
+                        chunks.add(Integer.valueOf(name.substring(0, name.length() - CHUNK_EXTENSION.length())));
+                    } catch (NumberFormatException exception) {
+                        // Not a chunk file
+                    }
+                }
+            }
+        }
+        Collections.sort(chunks);
+        return chunks;
+    }
+
+    /**
+     * Deletes the stored chunks of an upload and its recorded chunk size
+     *
+     * @param directory - The directory of the upload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static void deleteChunks(File directory) {
+        for (Integer index : getReceivedChunks(directory)) {
+            new File(directory, index + CHUNK_EXTENSION).delete();
+        }
+        new File(directory, CHUNK_SIZE_FILE_NAME).delete();
+    }
+
+    /**
+     * Reads the chunk size recorded for an upload
+     *
+     * @param directory - The directory of the upload
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The chunk size or -1 if no chunk size was recorded
+     *
+     * @throws IOException if the chunk size could not be read
+     */
+    private static long readChunkSize(File directory) throws IOException {
+        File file = new File(directory, CHUNK_SIZE_FILE_NAME);
+        if (!file.isFile()) {
+            return -1;
+        }
+        InputStream input = new FileInputStream(file);
+        try {
+            StringBuilder text = new StringBuilder();
+            int character;
+            while ((character = input.read()) != -1) {
+                text.append((char) character);
+            }
+            return Long.parseLong(text.toString().trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Records the chunk size of an upload
+     *
+     * @param directory - The directory of the upload
+     * @param chunkSize - The chunk size
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the chunk size could not be written
+     */
+    private static void writeChunkSize(File directory, long chunkSize) throws IOException {
+        OutputStream output = new FileOutputStream(new File(directory, CHUNK_SIZE_FILE_NAME));
+        try {
+            output.write(String.valueOf(chunkSize).getBytes("US-ASCII"));
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Copies a stream to a file while calculating its checksum
+     *
+     * @param input - The stream to copy
+     * @param file - The file to copy the stream to
+     * @param crc - The checksum to update
+     * @param maxLength - The maximum number of bytes to copy
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of bytes copied or -1 if the stream is longer than the maximum
+     *
+     * @throws IOException if the stream could not be copied
+     */
+    private static long copy(InputStream input, File file, Crc32 crc, int maxLength) throws IOException {
+        OutputStream output = new FileOutputStream(file);
+        try {
+            byte[] buffer = new byte[64 * 1024];
+            long length = 0;
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                length += read;
+                if (length > maxLength) {
+                    return -1;
+                }
+                crc.update(buffer, 0, read);
+                output.write(buffer, 0, read);
+            }
+            return length;
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Copies a stream to another stream
+     *
+     * @param input - The stream to copy
+     * @param output - The stream to copy to
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IOException if the stream could not be copied
+     */
+    private static void copy(InputStream input, OutputStream output) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+    }
+}
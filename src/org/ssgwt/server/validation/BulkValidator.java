@@ -0,0 +1,689 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.server.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ssgwt.client.validation.ValidationRule;
+import org.ssgwt.client.validation.ValidatorChain;
+import org.ssgwt.client.validation.validators.ValidatorInterface;
+
+/**
+ * Validates the columns of rows of values, such as the rows of a CSV import,
+ * on the server using the same validation rules as the forms on the client.
+ *
+ * The rows are read from an iterator in batches and the batches are
+ * validated in parallel on a thread pool. The results are passed to the row
+ * handler in row order as soon as they are available, so the rows never have
+ * to be held in memory all at once. The time spent in each rule is measured
+ * so slow rules can be found.
+ *
+ * The validators are shared by the threads, so custom validators added to a
+ * column should not change any state in their isValid method. The built in
+ * validators that validate strings can be used.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class BulkValidator {
+
+    /**
+     * The default number of rows that are validated together by a thread
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * The number of batches per thread that are read ahead of the results that were handled
+     */
+    private static final int BATCHES_PER_THREAD = 2;
+
+    /**
+     * The number of threads used to validate the rows
+     */
+    private final int threadCount;
+
+    /**
+     * The number of rows that are validated together by a thread
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Whether the values are trimmed before they are validated, as the FormValidator does
+     */
+    private boolean trimValues = true;
+
+    /**
+     * The rules of each column in the order the columns were added
+     */
+    private final LinkedHashMap<Integer, ArrayList<ColumnRule>> columnRules = new LinkedHashMap<Integer, ArrayList<ColumnRule>>();
+
+    /**
+     * Handler that is called with the result of each row in row order
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public interface RowHandler {
+
+        /**
+         * Called when a row was validated
+         *
+         * @param result - The result of the row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void onRowValidated(RowResult result);
+    }
+
+    /**
+     * The result of the validation of a single row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public static class RowResult {
+
+        /**
+         * The number of the row, starting at 1
+         */
+        private final long rowNumber;
+
+        /**
+         * The errors found on the row
+         */
+        private final List<CellError> errors;
+
+        /**
+         * Class constructor
+         *
+         * @param rowNumber - The number of the row, starting at 1
+         * @param errors - The errors found on the row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        RowResult(long rowNumber, List<CellError> errors) {
+            this.rowNumber = rowNumber;
+            this.errors = errors;
+        }
+
+        /**
+         * Retrieves the number of the row, starting at 1
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The row number
+         */
+        public long getRowNumber() {
+            return rowNumber;
+        }
+
+        /**
+         * Retrieves the errors found on the row
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The errors, empty if the row is valid
+         */
+        public List<CellError> getErrors() {
+            return errors;
+        }
+
+        /**
+         * Whether all the columns of the row are valid
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return true if the row is valid
+         */
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    /**
+     * A rule that failed on a value in a row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public static class CellError {
+
+        /**
+         * The index of the column
+         */
+        private final int column;
+
+        /**
+         * The value that is invalid
+         */
+        private final String value;
+
+        /**
+         * The name of the validator that failed
+         */
+        private final String validatorName;
+
+        /**
+         * The error message of the rule
+         */
+        private final String message;
+
+        /**
+         * Class constructor
+         *
+         * @param column - The index of the column
+         * @param value - The value that is invalid
+         * @param validatorName - The name of the validator that failed
+         * @param message - The error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        CellError(int column, String value, String validatorName, String message) {
+            this.column = column;
+            this.value = value;
+            this.validatorName = validatorName;
+            this.message = message;
+        }
+
+        /**
+         * Retrieves the index of the column
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The column index
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        /**
+         * Retrieves the value that is invalid
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The value
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Retrieves the name of the validator that failed
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The validator name
+         */
+        public String getValidatorName() {
+            return validatorName;
+        }
+
+        /**
+         * Retrieves the error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The error message
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * The time spent in a rule of a column
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public static class RuleTiming {
+
+        /**
+         * The index of the column
+         */
+        private final int column;
+
+        /**
+         * The name of the validator of the rule
+         */
+        private final String validatorName;
+
+        /**
+         * The number of values the rule validated
+         */
+        private final AtomicLong invocations = new AtomicLong();
+
+        /**
+         * The total time spent in the rule in nanoseconds
+         */
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        /**
+         * Class constructor
+         *
+         * @param column - The index of the column
+         * @param validatorName - The name of the validator of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        RuleTiming(int column, String validatorName) {
+            this.column = column;
+            this.validatorName = validatorName;
+        }
+
+        /**
+         * Records a validation done by the rule
+         *
+         * @param nanos - The time the validation took in nanoseconds
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void record(long nanos) {
+            invocations.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Resets the timing before a new validation
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        void reset() {
+            invocations.set(0);
+            totalNanos.set(0);
+        }
+
+        /**
+         * Retrieves the index of the column
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The column index
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        /**
+         * Retrieves the name of the validator of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The validator name
+         */
+        public String getValidatorName() {
+            return validatorName;
+        }
+
+        /**
+         * Retrieves the number of values the rule validated
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The number of validations
+         */
+        public long getInvocations() {
+            return invocations.get();
+        }
+
+        /**
+         * Retrieves the total time spent in the rule, over all the threads
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        /**
+         * Retrieves the average time the rule took to validate a value
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return The time in nanoseconds, 0 if the rule did not validate any values
+         */
+        public long getAverageNanos() {
+            long count = invocations.get();
+            return count == 0 ? 0 : totalNanos.get() / count;
+        }
+    }
+
+    /**
+     * A validator added to a column along with its error message and timing
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class ColumnRule {
+
+        /**
+         * The configured validator
+         */
+        final ValidatorInterface<String> validator;
+
+        /**
+         * The error message of the rule, null to use the default message of the validator
+         */
+        final String errorMessage;
+
+        /**
+         * The time spent in the rule
+         */
+        final RuleTiming timing;
+
+        /**
+         * Class constructor
+         *
+         * @param column - The index of the column
+         * @param validator - The configured validator
+         * @param errorMessage - The error message of the rule
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         */
+        ColumnRule(int column, ValidatorInterface<String> validator, String errorMessage) {
+            this.validator = validator;
+            this.errorMessage = errorMessage;
+            this.timing = new RuleTiming(column, validator.getName());
+        }
+    }
+
+    /**
+     * Class constructor that uses a thread for each available processor
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public BulkValidator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param threadCount - The number of threads used to validate the rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public BulkValidator(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    /**
+     * Sets the number of rows that are validated together by a thread
+     *
+     * @param batchSize - The number of rows in a batch
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Sets whether the values are trimmed before they are validated
+     *
+     * @param trimValues - Whether the values are trimmed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void setTrimValues(boolean trimValues) {
+        this.trimValues = trimValues;
+    }
+
+    /**
+     * Adds a validation rule to a column. The rule has to use a validator
+     * that validates strings.
+     *
+     * @param column - The index of the column
+     * @param rule - The validation rule, which can be shared with the FormValidator on the client
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @throws IllegalArgumentException if the validator of the rule does not validate strings
+     */
+    public void addColumnRule(int column, ValidationRule rule) {
+        getColumnRules(column).add(new ColumnRule(column, rule.createStringValidator(), rule.getErrorMessage()));
+    }
+
+    /**
+     * Adds the validators of a validator chain to a column. The default
+     * message of a validator is used when it fails.
+     *
+     * @param column - The index of the column
+     * @param chain - The chain with the configured validators
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void addColumnChain(int column, ValidatorChain<String> chain) {
+        for (ValidatorInterface<String> validator : chain.getValidators()) {
+            getColumnRules(column).add(new ColumnRule(column, validator, null));
+        }
+    }
+
+    /**
+     * Retrieves the time spent in each rule during the last validation
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The timing of each rule in the order the rules were added
+     */
+    public List<RuleTiming> getRuleTimings() {
+        ArrayList<RuleTiming> timings = new ArrayList<RuleTiming>();
+        for (ArrayList<ColumnRule> rules : columnRules.values()) {
+            for (ColumnRule rule : rules) {
+                timings.add(rule.timing);
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Validates the rows and passes the result of each row to the handler in
+     * row order. The handler is called on the thread that called this
+     * function.
+     *
+     * @param rows - The rows to validate, each row holds the values of the columns
+     * @param handler - The handler that is called with the result of each row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of invalid rows
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting for a batch to be validated
+     */
+    public long validate(Iterator<String[]> rows, RowHandler handler) throws InterruptedException {
+        for (RuleTiming timing : getRuleTimings()) {
+            timing.reset();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        LinkedList<Future<List<RowResult>>> pendingBatches = new LinkedList<Future<List<RowResult>>>();
+        long rowCount = 0;
+        long invalidRowCount = 0;
+        try {
+            while (rows.hasNext()) {
+                final long firstRowNumber = rowCount + 1;
+                final ArrayList<String[]> batch = new ArrayList<String[]>(batchSize);
+                while (rows.hasNext() && batch.size() < batchSize) {
+                    batch.add(rows.next());
+                    rowCount++;
+                }
+                pendingBatches.add(executor.submit(new Callable<List<RowResult>>() {
+
+                    @Override
+                    public List<RowResult> call() {
+                        return validateBatch(firstRowNumber, batch);
+                    }
+                }));
+                if (pendingBatches.size() >= threadCount * BATCHES_PER_THREAD) {
+                    invalidRowCount += handleBatch(pendingBatches.removeFirst(), handler);
+                }
+            }
+            while (!pendingBatches.isEmpty()) {
+                invalidRowCount += handleBatch(pendingBatches.removeFirst(), handler);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return invalidRowCount;
+    }
+
+    /**
+     * Waits for a batch to be validated and passes its results to the handler
+     *
+     * @param batch - The batch being validated
+     * @param handler - The handler that is called with the result of each row
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The number of invalid rows in the batch
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting for the batch
+     */
+    private long handleBatch(Future<List<RowResult>> batch, RowHandler handler) throws InterruptedException {
+        List<RowResult> results;
+        try {
+            results = batch.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        long invalidRowCount = 0;
+        for (RowResult result : results) {
+            if (!result.isValid()) {
+                invalidRowCount++;
+            }
+            handler.onRowValidated(result);
+        }
+        return invalidRowCount;
+    }
+
+    /**
+     * Validates a batch of rows
+     *
+     * @param firstRowNumber - The number of the first row in the batch
+     * @param batch - The rows to validate
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The result of each row
+     */
+    private List<RowResult> validateBatch(long firstRowNumber, List<String[]> batch) {
+        ArrayList<RowResult> results = new ArrayList<RowResult>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(validateRow(firstRowNumber + i, batch.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Validates the columns of a row
+     *
+     * @param rowNumber - The number of the row
+     * @param row - The values of the columns
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The result of the row
+     */
+    private RowResult validateRow(long rowNumber, String[] row) {
+        List<CellError> errors = null;
+        for (Map.Entry<Integer, ArrayList<ColumnRule>> entry : columnRules.entrySet()) {
+            int column = entry.getKey();
+            String value = column < row.length && row[column] != null ? row[column] : "";
+            if (trimValues) {
+                value = value.trim();
+            }
+            for (ColumnRule rule : entry.getValue()) {
+                long start = System.nanoTime();
+                boolean valid = rule.validator.isValid(value);
+                rule.timing.record(System.nanoTime() - start);
+                if (!valid) {
+                    if (errors == null) {
+                        errors = new ArrayList<CellError>();
+                    }
+                    String message = rule.errorMessage != null ? rule.errorMessage : rule.validator.getDefaultValidationMessage();
+                    errors.add(new CellError(column, value, rule.validator.getName(), message));
+                }
+            }
+        }
+        return new RowResult(rowNumber, errors == null ? Collections.<CellError>emptyList() : errors);
+    }
+
+    /**
+     * Retrieves the rules of a column, adding the column if it has no rules yet
+     *
+     * @param column - The index of the column
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The rules of the column
+     */
+    private ArrayList<ColumnRule> getColumnRules(int column) {
+        ArrayList<ColumnRule> rules = columnRules.get(column);
+        if (rules == null) {
+            rules = new ArrayList<ColumnRule>();
+            columnRules.put(column, rules);
+        }
+        return rules;
+    }
+}
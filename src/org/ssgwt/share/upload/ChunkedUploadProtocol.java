@@ -0,0 +1,114 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.share.upload;
+
+/**
+ * The names of the parameters and headers used between the
+ * HttpChunkTransport on the client and the ChunkedUploadServlet
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public final class ChunkedUploadProtocol {
+
+    /**
+     * The parameter holding the id of the upload
+     */
+    public static final String UPLOAD_ID = "uploadId";
+
+    /**
+     * The parameter holding the index of a chunk
+     */
+    public static final String CHUNK_INDEX = "chunkIndex";
+
+    /**
+     * The parameter holding the offset of a chunk in the file
+     */
+    public static final String CHUNK_OFFSET = "chunkOffset";
+
+    /**
+     * The header holding the CRC-32 checksum of a chunk
+     */
+    public static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    /**
+     * The parameter holding the number of chunks of a completed upload
+     */
+    public static final String CHUNK_COUNT = "chunkCount";
+
+    /**
+     * The parameter holding the size of the file of a completed upload
+     */
+    public static final String FILE_SIZE = "fileSize";
+
+    /**
+     * The parameter holding the name of the file of a completed upload
+     */
+    public static final String FILE_NAME = "fileName";
+
+    /**
+     * The parameter holding the action of a POST request
+     */
+    public static final String ACTION = "action";
+
+    /**
+     * The action that uploads a chunk
+     */
+    public static final String ACTION_CHUNK = "chunk";
+
+    /**
+     * The action that completes an upload once all its chunks were uploaded
+     */
+    public static final String ACTION_COMPLETE = "complete";
+
+    /**
+     * The separator of the chunk indexes returned for an upload
+     */
+    public static final String CHUNK_SEPARATOR = ",";
+
+    /**
+     * Prevents the class from being created
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private ChunkedUploadProtocol() {
+    }
+
+    /**
+     * Whether an upload id is valid. Upload ids are used as directory names
+     * on the server, so only letters, digits, dashes and underscores are allowed.
+     *
+     * @param uploadId - The upload id to check
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return true if the upload id is valid
+     */
+    public static boolean isValidUploadId(String uploadId) {
+        if (uploadId == null || uploadId.length() == 0 || uploadId.length() > 200) {
+            return false;
+        }
+        for (int i = 0; i < uploadId.length(); i++) {
+            char character = uploadId.charAt(i);
+            boolean valid = (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                    || (character >= '0' && character <= '9') || character == '-' || character == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
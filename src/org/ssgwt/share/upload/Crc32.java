@@ -0,0 +1,111 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.share.upload;
+
+/**
+ * Calculates the CRC-32 checksum of the chunks of a chunked upload. The
+ * class is shared by the client and the server so both calculate the
+ * checksum the same way.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class Crc32 {
+
+    /**
+     * The lookup table for the bytes
+     */
+    private static final int[] TABLE = createTable();
+
+    /**
+     * The current value of the checksum
+     */
+    private int crc = 0xFFFFFFFF;
+
+    /**
+     * Adds a byte to the checksum
+     *
+     * @param value - The byte to add, only the lowest 8 bits are used
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void update(int value) {
+        crc = TABLE[(crc ^ value) & 0xFF] ^ (crc >>> 8);
+    }
+
+    /**
+     * Adds bytes to the checksum
+     *
+     * @param bytes - The bytes to add
+     * @param offset - The index of the first byte to add
+     * @param length - The number of bytes to add
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        int value = crc;
+        for (int i = offset; i < offset + length; i++) {
+            value = TABLE[(value ^ bytes[i]) & 0xFF] ^ (value >>> 8);
+        }
+        crc = value;
+    }
+
+    /**
+     * Resets the checksum so a new chunk can be checked
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+
+    /**
+     * Retrieves the checksum as 8 lower case hexadecimal digits
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The checksum
+     */
+    public String getHexValue() {
+        String hex = Integer.toHexString(~crc);
+        while (hex.length() < 8) {
+            hex = "0" + hex;
+        }
+        return hex;
+    }
+
+    /**
+     * Creates the lookup table for the bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The lookup table
+     */
+    private static int[] createTable() {
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            int value = i;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? 0xEDB88320 ^ (value >>> 1) : value >>> 1;
+            }
+            table[i] = value;
+        }
+        return table;
+    }
+}
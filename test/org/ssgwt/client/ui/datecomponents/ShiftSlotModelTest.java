@@ -0,0 +1,84 @@
+package org.ssgwt.client.ui.datecomponents;
+
+import org.ssgwt.client.i18n.SSDate;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the ShiftSlotModel
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ShiftSlotModelTest extends GWTTestCase {
+
+    /**
+     * The number of milliseconds in a minute
+     */
+    private static final long MINUTE = 60 * 1000;
+
+    /**
+     * The number of milliseconds in an hour
+     */
+    private static final long HOUR = 60 * MINUTE;
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests the labels of shift durations
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testDurationLabels() {
+        assertEquals("A zero length shift should be 0 hours", "( 0h )", ShiftSlotModel.getDurationLabel(0));
+        assertEquals("Quarter hours should be displayed as hundredths", "( 2.25h )", ShiftSlotModel.getDurationLabel(2 * HOUR + 15 * MINUTE));
+        assertEquals("Half hours should be displayed without the zero", "( 7.5h )", ShiftSlotModel.getDurationLabel(7 * HOUR + 30 * MINUTE));
+        assertEquals("A minute short of a quarter hour should be rounded up", "( 1.75h )", ShiftSlotModel.getDurationLabel(HOUR + 44 * MINUTE));
+        assertEquals("A minute short of a day should be 24 hours", "( 24h )", ShiftSlotModel.getDurationLabel(23 * HOUR + 59 * MINUTE));
+        assertEquals("A shift longer than a day should be 24 hours", "( 24h )", ShiftSlotModel.getDurationLabel(26 * HOUR));
+        assertEquals("A reversed shift should be an error", ShiftSlotModel.ERROR_LABEL, ShiftSlotModel.getDurationLabel(-HOUR));
+        assertSame("The label should be cached", ShiftSlotModel.getDurationLabel(3 * HOUR + 45 * MINUTE), ShiftSlotModel.getDurationLabel(3 * HOUR + 45 * MINUTE));
+    }
+
+    /**
+     * Tests the slots a shift can end on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testEndSlots() {
+        ShiftSlotModel model = new ShiftSlotModel(2 * HOUR, 4 * HOUR);
+        SSDate start = new SSDate(113, 5, 15);
+        start.setHours(22);
+
+        assertTrue("Setting the first start should calculate the bounds", model.setStart(start.getTime()));
+        assertFalse("Setting the same start should not recalculate the bounds", model.setStart(start.getTime()));
+        assertEquals("Two hours of quarter hour slots should be available", 9, model.getEndSlotCount());
+        assertEquals("The first slot should be the minimum shift length", start.getTime() + 2 * HOUR, model.getMinEnd());
+        assertEquals("The last slot should be the maximum shift length", start.getTime() + 4 * HOUR, model.getMaxEnd());
+        assertEquals("The slot should be a quarter hour after the previous one", model.getMinEnd() + ShiftSlotModel.SLOT_LENGTH, model.getEndSlot(1));
+        assertEquals("The label of the first slot should be the minimum length", "( 2h )", model.getEndSlotLabel(0));
+        assertEquals("The label of the last slot should be the maximum length", "( 4h )", model.getEndSlotLabel(8));
+        assertEquals("The index of a slot should be found", 2, model.getEndSlotIndex(model.getMinEnd() + 2 * ShiftSlotModel.SLOT_LENGTH));
+        assertEquals("An end before the first slot should not be valid", -1, model.getEndSlotIndex(model.getMinEnd() - ShiftSlotModel.SLOT_LENGTH));
+        assertEquals("An end between slots should not be valid", -1, model.getEndSlotIndex(model.getMinEnd() + 1000));
+
+        SSDate minEndDay = model.getMinEndDay();
+        assertEquals("The shift can end on the next day", 16, minEndDay.getDate());
+        assertEquals("The minimum end day should start at midnight", 0, minEndDay.getHours());
+        SSDate maxEndDay = model.getMaxEndDay();
+        assertEquals("The maximum end day should end at the last slot", 45, maxEndDay.getMinutes());
+        maxEndDay.setHours(1);
+        assertEquals("Changing a returned day should not change the model", 23, model.getMaxEndDay().getHours());
+    }
+}
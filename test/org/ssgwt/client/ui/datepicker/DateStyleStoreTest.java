@@ -0,0 +1,106 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datepicker;
+
+import org.ssgwt.client.i18n.SSDate;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the DateStyleStore
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+@SuppressWarnings("deprecation")
+public class DateStyleStoreTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Test that consecutive dates have consecutive day numbers across month and year ends
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testDayNumbersAreConsecutive() {
+        assertEquals("The epoch did not have day number 0", 0, DateStyleStore.getDayNumber(new SSDate(70, 0, 1)));
+        assertEquals("The leap day was not followed by 1 March",
+                DateStyleStore.getDayNumber(new SSDate(124, 1, 29)) + 1,
+                DateStyleStore.getDayNumber(new SSDate(124, 2, 1)));
+        assertEquals("The last day of the year was not followed by 1 January",
+                DateStyleStore.getDayNumber(new SSDate(125, 11, 31)) + 1,
+                DateStyleStore.getDayNumber(new SSDate(126, 0, 1)));
+    }
+
+    /**
+     * Test that styles added to single dates and ranges are combined
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSingleDateAndRangeStyles() {
+        DateStyleStore store = new DateStyleStore();
+        store.setStyleName(new SSDate(126, 0, 5), "booked", true);
+        store.setStyleNameOnRange(new SSDate(126, 0, 1), new SSDate(126, 11, 31), "available", true);
+
+        assertEquals("The styles of the date were not combined", " booked available ",
+                store.getStyleName(new SSDate(126, 0, 5)));
+        assertEquals("The range style was not found", " available ", store.getStyleName(new SSDate(126, 6, 15)));
+        assertNull("A date outside the range had a style", store.getStyleName(new SSDate(127, 0, 1)));
+    }
+
+    /**
+     * Test that removing a range splits the ranges and single dates it covers
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testRemoveRange() {
+        DateStyleStore store = new DateStyleStore();
+        store.setStyleName(new SSDate(126, 0, 5), "available", true);
+        store.setStyleNameOnRange(new SSDate(126, 0, 1), new SSDate(126, 0, 31), "available", true);
+        store.setStyleNameOnRange(new SSDate(126, 0, 3), new SSDate(126, 0, 6), "available", false);
+
+        assertEquals("The date before the removed range lost its style", " available ",
+                store.getStyleName(new SSDate(126, 0, 2)));
+        assertNull("The single date in the removed range kept its style", store.getStyleName(new SSDate(126, 0, 5)));
+        assertEquals("The date after the removed range lost its style", " available ",
+                store.getStyleName(new SSDate(126, 0, 7)));
+    }
+
+    /**
+     * Test that style names are not treated as regular expressions when removed
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testRemoveStyleWithSpecialCharacters() {
+        DateStyleStore store = new DateStyleStore();
+        store.setStyleName(new SSDate(126, 0, 5), "a.b", true);
+        store.setStyleName(new SSDate(126, 0, 5), "axb", true);
+        store.setStyleName(new SSDate(126, 0, 5), "a.b", false);
+
+        assertEquals("The wrong style was removed", " axb ", store.getStyleName(new SSDate(126, 0, 5)));
+    }
+}
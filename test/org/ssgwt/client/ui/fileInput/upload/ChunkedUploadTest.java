@@ -0,0 +1,215 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.upload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ssgwt.client.ui.fileInput.upload.event.UploadCompleteEvent;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadCompleteEvent.UploadCompleteHandler;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadProgressEvent;
+import org.ssgwt.client.ui.fileInput.upload.event.UploadProgressEvent.UploadProgressHandler;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Test cases for the ChunkedUpload
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class ChunkedUploadTest extends GWTTestCase {
+
+    /**
+     * The completion events that were dispatched
+     */
+    private List<UploadCompleteEvent> completeEvents;
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates the data of a file
+     *
+     * @param length - The number of bytes in the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The data
+     */
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + 7);
+        }
+        return data;
+    }
+
+    /**
+     * Creates an upload that retries immediately and records its completion events
+     *
+     * @param data - The data of the file
+     * @param transport - The transport to upload with
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The upload
+     */
+    private ChunkedUpload createUpload(byte[] data, LocalChunkTransport transport) {
+        ChunkedUpload upload = new ChunkedUpload(new ByteArrayChunkSource("import.csv", data), transport, "import");
+        upload.setChunkSize(1000);
+        upload.setRetryDelay(0);
+        completeEvents = new ArrayList<UploadCompleteEvent>();
+        upload.addUploadCompleteHandler(new UploadCompleteHandler() {
+
+            @Override
+            public void onUploadComplete(UploadCompleteEvent event) {
+                completeEvents.add(event);
+            }
+        });
+        return upload;
+    }
+
+    /**
+     * Assert that two byte arrays are equal
+     *
+     * @param expected - The expected bytes
+     * @param actual - The actual bytes
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static void assertBytesEqual(byte[] expected, byte[] actual) {
+        assertNotNull("The file was not completed", actual);
+        assertEquals("The file size was not as expected", expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("The file data was not as expected at " + i, expected[i], actual[i]);
+        }
+    }
+
+    /**
+     * Test that a file is uploaded in chunks and reports its progress
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testUpload() {
+        byte[] data = createData(4500);
+        LocalChunkTransport transport = new LocalChunkTransport();
+        ChunkedUpload upload = createUpload(data, transport);
+        final List<Long> progress = new ArrayList<Long>();
+        upload.addUploadProgressHandler(new UploadProgressHandler() {
+
+            @Override
+            public void onUploadProgress(UploadProgressEvent event) {
+                progress.add(event.getUploadedBytes());
+            }
+        });
+        upload.start();
+
+        assertEquals("The upload did not complete once", 1, completeEvents.size());
+        assertTrue("The upload did not succeed", completeEvents.get(0).isSuccessful());
+        assertEquals("The number of chunks sent was not as expected", 5, transport.getSendCount());
+        assertEquals("The last progress was not the file size", Long.valueOf(4500), progress.get(progress.size() - 1));
+        assertBytesEqual(data, transport.getCompletedFile("import"));
+    }
+
+    /**
+     * Test that a chunk that fails is retried
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testChunkRetry() {
+        byte[] data = createData(2500);
+        LocalChunkTransport transport = new LocalChunkTransport();
+        ChunkedUpload upload = createUpload(data, transport);
+        transport.failNextSends(2);
+        upload.start();
+
+        assertTrue("The upload did not succeed", completeEvents.get(0).isSuccessful());
+        assertEquals("The failed chunks were not retried", 5, transport.getSendCount());
+        assertBytesEqual(data, transport.getCompletedFile("import"));
+    }
+
+    /**
+     * Test that an upload that failed resumes without sending the chunks the server has
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testResume() {
+        final byte[] data = createData(5000);
+        final ByteArrayChunkSource file = new ByteArrayChunkSource("import.csv", data);
+        final boolean[] readFails = {true};
+        // A source that cannot read the fourth chunk until the file is readable again
+        ChunkSource source = new ChunkSource() {
+
+            @Override
+            public String getName() {
+                return file.getName();
+            }
+
+            @Override
+            public long getSize() {
+                return file.getSize();
+            }
+
+            @Override
+            public void readChunk(int index, long offset, int length, AsyncCallback<UploadChunk> callback) {
+                if (readFails[0] && index == 3) {
+                    callback.onFailure(new Exception("The file could not be read"));
+                } else {
+                    file.readChunk(index, offset, length, callback);
+                }
+            }
+        };
+        LocalChunkTransport transport = new LocalChunkTransport();
+        ChunkedUpload upload = new ChunkedUpload(source, transport, "import");
+        upload.setChunkSize(1000);
+        upload.setRetryDelay(0);
+        upload.setMaxRetries(0);
+        upload.setParallelChunks(1);
+        final List<UploadCompleteEvent> events = new ArrayList<UploadCompleteEvent>();
+        upload.addUploadCompleteHandler(new UploadCompleteHandler() {
+
+            @Override
+            public void onUploadComplete(UploadCompleteEvent event) {
+                events.add(event);
+            }
+        });
+
+        upload.start();
+        assertFalse("The upload did not fail", events.get(0).isSuccessful());
+        assertFalse("The upload is still running", upload.isRunning());
+        assertEquals("The chunks before the failure were not sent", 3, transport.getSendCount());
+
+        readFails[0] = false;
+        upload.start();
+        assertTrue("The resumed upload did not succeed", events.get(1).isSuccessful());
+        assertEquals("The chunks the server has were sent again", 5, transport.getSendCount());
+        assertBytesEqual(data, transport.getCompletedFile("import"));
+    }
+}
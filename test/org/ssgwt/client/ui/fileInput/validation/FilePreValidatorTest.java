@@ -0,0 +1,218 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.fileInput.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.ssgwt.client.ui.fileInput.upload.ByteArrayChunkSource;
+import org.ssgwt.client.validation.FormFieldConstants;
+import org.ssgwt.client.validation.ValidationRule;
+import org.ssgwt.client.validation.validators.StringValidator;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+
+/**
+ * Test cases for the FilePreValidator and the CsvReader
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class FilePreValidatorTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Converts text to UTF-8 bytes
+     *
+     * @param text - The text
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The bytes
+     */
+    private static byte[] toBytes(String text) {
+        try {
+            return text.getBytes("UTF-8");
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Validates a file with a source that reads synchronously
+     *
+     * @param validator - The validator
+     * @param name - The name of the file
+     * @param data - The data of the file
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The result of the validation
+     */
+    private static FilePreValidationResult validate(FilePreValidator validator, String name, byte[] data) {
+        final FilePreValidationResult[] results = new FilePreValidationResult[1];
+        validator.validate(new ByteArrayChunkSource(name, data), new AsyncCallback<FilePreValidationResult>() {
+
+            @Override
+            public void onSuccess(FilePreValidationResult result) {
+                results[0] = result;
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                fail("The file could not be read: " + caught.getMessage());
+            }
+        });
+        assertNotNull("The validation should complete", results[0]);
+        return results[0];
+    }
+
+    /**
+     * Tests that a file is rejected when its content does not match its extension
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSignature() {
+        FilePreValidator validator = new FilePreValidator();
+        validator.setAllowedExtensions(Arrays.asList("pdf", "CSV"));
+
+        byte[] pdf = toBytes("%PDF-1.4\n...");
+        assertTrue("A pdf file should be accepted", validate(validator, "report.pdf", pdf).isTypeValid());
+        assertTrue("The extension should be compared without case", validate(validator, "REPORT.PDF", pdf).isTypeValid());
+
+        FilePreValidationResult result = validate(validator, "report.pdf", toBytes("just some text"));
+        assertFalse("Text renamed to pdf should be rejected", result.isTypeValid());
+        assertFalse("The result should be invalid", result.isValid());
+        assertNotNull("The result should explain the rejection", result.getTypeError());
+
+        byte[] zip = new byte[] {0x50, 0x4B, 0x03, 0x04, 0x14, 0x00, 0x00, 0x00};
+        assertFalse("A zip file renamed to csv should be rejected", validate(validator, "data.csv", zip).isTypeValid());
+        assertFalse("An extension that is not allowed should be rejected", validate(validator, "data.exe", pdf).isTypeValid());
+    }
+
+    /**
+     * Tests that the rows of a csv file are counted and the first rows are validated
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testRows() {
+        HashMap<String, Object> config = new HashMap<String, Object>();
+        config.put(StringValidator.OPTION_MIN_LENGTH, "1");
+        FilePreValidator validator = new FilePreValidator();
+        validator.setHeaderRow(true);
+        validator.setValidatedRowCount(3);
+        validator.setChunkSize(4096);
+        validator.addColumnRule(1, new ValidationRule(FormFieldConstants.VALIDATE_STRING_REFERENCE, config, "Name is required"));
+
+        StringBuilder csv = new StringBuilder("id,name\r\n");
+        csv.append("1,\"Smith, \"\"Jo\"\"\nJr\"\r\n");
+        csv.append("\n");
+        csv.append("2,  \r\n");
+        csv.append("3,\"\"\n");
+        csv.append("4,\n");
+        for (int i = 5; i <= 1000; i++) {
+            csv.append(i).append(",name ").append(i).append('\n');
+        }
+        csv.append("1001,last");
+
+        FilePreValidationResult result = validate(validator, "people.csv", toBytes(csv.toString()));
+        assertTrue("The type should be accepted", result.isTypeValid());
+        assertEquals("The header and blank lines should not be counted", 1001, result.getRowCount());
+        assertTrue("The whole file should be read", result.isRowCountComplete());
+        assertEquals("Only the first rows should be validated", 3, result.getValidatedRowCount());
+        assertEquals("Rows 2 and 3 have no name", 2, result.getErrors().size());
+        assertEquals("The error should be on row 2", 2, result.getErrors().get(0).getRowNumber());
+        assertEquals("The error should be on the name column", 1, result.getErrors().get(0).getColumn());
+        assertEquals("The error should hold the message of the rule", "Name is required", result.getErrors().get(0).getMessage());
+        assertEquals("The second error should be on row 3", 3, result.getErrors().get(1).getRowNumber());
+
+        validator.setCountAllRows(false);
+        result = validate(validator, "people.csv", toBytes(csv.toString()));
+        assertFalse("Reading should stop after the validated rows", result.isRowCountComplete());
+        assertTrue("The row count should be at least the validated rows", result.getRowCount() >= 3);
+    }
+
+    /**
+     * Tests that rules with validators that do not validate strings are rejected when they are added
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testNonStringRuleRejected() {
+        FilePreValidator validator = new FilePreValidator();
+        try {
+            validator.addColumnRule(0, new ValidationRule(FormFieldConstants.VALIDATE_DATE_REFERENCE, new HashMap<String, Object>()));
+            fail("A date rule should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests that a file that ends inside a quoted field is invalid
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testUnterminatedQuote() {
+        FilePreValidator validator = new FilePreValidator();
+        FilePreValidationResult result = validate(validator, "data.csv", toBytes("a,b\n1,\"open\n2,3\n"));
+        assertTrue("The type should be accepted", result.isTypeValid());
+        assertTrue("The open quote should be reported", result.hasUnterminatedQuote());
+        assertFalse("The result should be invalid", result.isValid());
+        assertEquals("The quoted line break should not end the row", 2, result.getRowCount());
+    }
+
+    /**
+     * Tests that fields are read correctly when the bytes of characters are split across parts
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSplitCharacters() {
+        final List<List<String>> rows = new ArrayList<List<String>>();
+        CsvReader reader = new CsvReader(';', 10, new CsvReader.RowHandler() {
+
+            @Override
+            public void onRow(long rowNumber, List<String> fields) {
+                rows.add(fields);
+            }
+        });
+        byte[] data = toBytes("\uFEFFcaf\u00e9;\u20ac5\r\n\"x;y\";\uD83D\uDE00\r");
+        for (int i = 0; i < data.length; i++) {
+            reader.read(new byte[] {data[i]});
+        }
+        assertTrue("The quotes should be closed", reader.finish());
+        assertEquals("Two rows should be read", 2, reader.getRowCount());
+        assertEquals("The byte order mark should be skipped", Arrays.asList("caf\u00e9", "\u20ac5"), rows.get(0));
+        assertEquals("Quoted delimiters and supplementary characters should be kept", Arrays.asList("x;y", "\uD83D\uDE00"), rows.get(1));
+    }
+}
@@ -0,0 +1,88 @@
+package org.ssgwt.client.ui.form;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the DropDownInputField
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class DropDownInputFieldTest extends GWTTestCase {
+
+    /**
+     * A drop down that displays strings
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class StringInputField extends DropDownInputField<Object, String> {
+
+        @Override
+        public String getValue(Object object) {
+            return null;
+        }
+
+        @Override
+        public void setValue(Object object, String value) {
+        }
+
+        @Override
+        public String getListLabel(String object) {
+            return object;
+        }
+
+        @Override
+        public String getListId(String object) {
+            return object;
+        }
+
+        @Override
+        public void setPrompt() {
+        }
+    }
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that the values of a previous item list are not selected after the items are replaced
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testReplaceItems() {
+        StringInputField field = new StringInputField();
+        field.setListBoxItems(Arrays.asList("a", "b", "c", "d"));
+        field.setListBoxItems(Arrays.asList("x", "y"));
+
+        field.setValue("d");
+        assertEquals("A value of the previous items should not be selected", 0, field.getSelectedIndex());
+        field.setValue("y");
+        assertEquals("The value of a new item should be selected", "y", field.getValue());
+    }
+
+    /**
+     * Tests that the items can be set when there is no prompt
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testNullPrompt() {
+        StringInputField field = new StringInputField();
+        field.prompt = null;
+        field.setListBoxItems(Arrays.asList("a", "b"));
+        field.setListBoxItems(Arrays.asList("a", "b"));
+        assertEquals("The prompt and the items should be in the list", 3, field.getItemCount());
+    }
+}
@@ -0,0 +1,154 @@
+package org.ssgwt.client.ui.form;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.ssgwt.client.validation.FormFieldConstants;
+import org.ssgwt.client.validation.validators.StringValidator;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the DynamicForm
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class DynamicFormTest extends GWTTestCase {
+
+    /**
+     * The data object used by the form in the tests
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class Person {
+
+        /**
+         * The colour selected for the person
+         */
+        String colour;
+    }
+
+    /**
+     * A drop down that selects the colour of a person
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class ColourInputField extends DropDownInputField<Person, String> {
+
+        @Override
+        public String getValue(Person object) {
+            return object.colour;
+        }
+
+        @Override
+        public void setValue(Person object, String value) {
+            object.colour = value;
+        }
+
+        @Override
+        public String getListLabel(String object) {
+            return object;
+        }
+
+        @Override
+        public String getListId(String object) {
+            return object;
+        }
+
+        @Override
+        public void setPrompt() {
+        }
+    }
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that a field that does not dispatch value change events is
+     * copied when only changed fields are copied
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testCopyChangedFieldsOnlyWithDropDown() {
+        ColourInputField colourField = new ColourInputField();
+        colourField.setListBoxItems(Arrays.asList("red", "green", "blue"));
+        DynamicForm<Person> form = new DynamicForm<Person>();
+        form.setCopyChangedFieldsOnly(true);
+        form.addField(colourField, "Colour");
+
+        Person person = new Person();
+        person.colour = "red";
+        form.setData(person);
+        assertEquals("The drop down should display the value of the data object", "red", colourField.getValue());
+
+        colourField.setValue("blue");
+        assertEquals("The value of the drop down should be copied to the data object", "blue", form.getData().colour);
+    }
+
+    /**
+     * Tests that a field that does not dispatch value change events is
+     * validated when the user changes it during live validation
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testLiveValidationWithDropDown() {
+        ColourInputField colourField = new ColourInputField();
+        colourField.setListBoxItems(Arrays.asList("red", "green", "blue"));
+        DynamicForm<Person> form = new DynamicForm<Person>();
+        form.addField(colourField, "Colour");
+        HashMap<String, Object> config = new HashMap<String, Object>();
+        config.put(StringValidator.OPTION_MIN_LENGTH, "1");
+        form.addFieldValidation(colourField, FormFieldConstants.VALIDATE_STRING_REFERENCE, config);
+        form.setLiveValidation(true);
+        assertFalse("The form should be invalid while no colour is selected", form.isValid());
+
+        colourField.setValue("blue");
+        DomEvent.fireNativeEvent(Document.get().createChangeEvent(), colourField);
+        assertTrue("The drop down should be validated when it changes", form.isValid());
+
+        colourField.setValue(null);
+        DomEvent.fireNativeEvent(Document.get().createChangeEvent(), colourField);
+        assertFalse("The drop down should be invalid when the selection is cleared", form.isValid());
+    }
+
+    /**
+     * Tests that removing an invalid field during live validation makes the form valid
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testRemoveInvalidField() {
+        ColourInputField colourField = new ColourInputField();
+        colourField.setListBoxItems(Arrays.asList("red", "green", "blue"));
+        DynamicForm<Person> form = new DynamicForm<Person>();
+        form.addField(colourField, "Colour");
+        HashMap<String, Object> config = new HashMap<String, Object>();
+        config.put(StringValidator.OPTION_MIN_LENGTH, "1");
+        form.addFieldValidation(colourField, FormFieldConstants.VALIDATE_STRING_REFERENCE, config);
+        form.setLiveValidation(true);
+        assertFalse("The form should be invalid while no colour is selected", form.isValid());
+
+        form.removeField(colourField);
+        assertTrue("The form should be valid once the invalid field is removed", form.isValid());
+        assertNull("The removed field should not be validated", form.doValidation());
+
+        colourField.setValue("blue");
+        DomEvent.fireNativeEvent(Document.get().createChangeEvent(), colourField);
+        assertTrue("The removed field should not be validated when it changes", form.isValid());
+    }
+}
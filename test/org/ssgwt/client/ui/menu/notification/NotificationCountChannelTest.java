@@ -0,0 +1,161 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.menu.notification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the NotificationCountChannel
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class NotificationCountChannelTest extends GWTTestCase {
+
+    /**
+     * A display that records the counts that are set on it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class RecordingDisplay implements NotificationCountDisplay {
+
+        /**
+         * The counts currently displayed
+         */
+        final HashMap<String, Integer> counts = new HashMap<String, Integer>();
+
+        /**
+         * The counts passed to each call of setNotificationCounts
+         */
+        final List<HashMap<String, Integer>> updates = new ArrayList<HashMap<String, Integer>>();
+
+        @Override
+        public int getNotificationCount(String referenceName) {
+            Integer count = counts.get(referenceName);
+            return count == null ? 0 : count;
+        }
+
+        @Override
+        public void setNotificationCounts(HashMap<String, Integer> notificationCounts) {
+            updates.add(notificationCounts);
+            counts.putAll(notificationCounts);
+        }
+    }
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Test that a burst of deltas is applied to the display as one update
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testDeltasAreCoalesced() {
+        RecordingDisplay display = new RecordingDisplay();
+        display.counts.put("inbox", 2);
+        LocalNotificationCountTransport transport = new LocalNotificationCountTransport();
+        NotificationCountChannel channel = new NotificationCountChannel(display, transport);
+        channel.connect();
+
+        transport.pushDelta("inbox", 1);
+        transport.pushDelta("inbox", 3);
+        transport.pushDelta("tasks", 1);
+        channel.flush();
+
+        assertEquals("The deltas were not applied in one update", 1, display.updates.size());
+        assertEquals("The inbox count was not as expected", 6, display.getNotificationCount("inbox"));
+        assertEquals("The tasks count was not as expected", 1, display.getNotificationCount("tasks"));
+    }
+
+    /**
+     * Test that counts that did not change are not set on the display
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testUnchangedCountsAreNotSet() {
+        RecordingDisplay display = new RecordingDisplay();
+        display.counts.put("inbox", 2);
+        display.counts.put("tasks", 5);
+        LocalNotificationCountTransport transport = new LocalNotificationCountTransport();
+        NotificationCountChannel channel = new NotificationCountChannel(display, transport);
+        channel.connect();
+
+        transport.pushDelta("inbox", 1);
+        transport.pushDelta("inbox", -1);
+        transport.pushCount("tasks", 4);
+        channel.flush();
+
+        assertEquals("The display was not updated once", 1, display.updates.size());
+        assertFalse("The unchanged inbox count was set", display.updates.get(0).containsKey("inbox"));
+        assertEquals("The tasks count was not as expected", Integer.valueOf(4), display.updates.get(0).get("tasks"));
+    }
+
+    /**
+     * Test that a count replaces earlier deltas and that later deltas are added to it
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testCountReplacesDeltas() {
+        RecordingDisplay display = new RecordingDisplay();
+        display.counts.put("inbox", 2);
+        LocalNotificationCountTransport transport = new LocalNotificationCountTransport();
+        NotificationCountChannel channel = new NotificationCountChannel(display, transport);
+        channel.connect();
+
+        transport.pushDelta("inbox", 5);
+        transport.pushCount("inbox", 10);
+        transport.pushDelta("inbox", -15);
+        channel.flush();
+
+        assertEquals("The count was not clamped to 0", 0, display.getNotificationCount("inbox"));
+    }
+
+    /**
+     * Test that updates are ignored once the channel is disconnected
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testDisconnect() {
+        RecordingDisplay display = new RecordingDisplay();
+        LocalNotificationCountTransport transport = new LocalNotificationCountTransport();
+        NotificationCountChannel channel = new NotificationCountChannel(display, transport);
+        channel.connect();
+        assertTrue("The transport was not connected", transport.isConnected());
+
+        transport.pushDelta("inbox", 1);
+        channel.disconnect();
+        assertFalse("The transport was not disconnected", transport.isConnected());
+        channel.onNotificationCountDelta("inbox", 1);
+        channel.flush();
+
+        assertTrue("The display was updated after the channel was disconnected", display.updates.isEmpty());
+    }
+}
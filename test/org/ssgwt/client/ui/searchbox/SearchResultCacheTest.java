@@ -0,0 +1,59 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the SearchResultCache
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class SearchResultCacheTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that results derived from an entry expire with that entry
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testDerivedEntryExpiresWithParent() {
+        SearchResultCache<String> cache = new SearchResultCache<String>(10, 1000);
+        long expiredTime = System.currentTimeMillis() - 2000;
+        List<String> results = Arrays.asList("Jo", "Joe");
+        cache.put("jo", results, true, expiredTime);
+        assertNull("An entry older than the time to live should not be returned", cache.get("jo"));
+
+        cache.put("jo", results, true);
+        SearchResultCache.Entry<String> parent = cache.getCompletePrefixEntry("joe", 1);
+        assertNotNull("The complete prefix entry should be found", parent);
+        cache.put("joe", Arrays.asList("Joe"), true, parent.getCreatedTime());
+        assertEquals("The derived entry should keep the created time of its parent", parent.getCreatedTime(), cache.get("joe").getCreatedTime());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the TrigramSearchBoxIndex
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class TrigramSearchBoxIndexTest extends GWTTestCase {
+
+    /**
+     * The names held by the index
+     */
+    private static final String[] NAMES = {"John Smith", "Johnny Walker", "Mary Johnson", "Peter Jones", "Smithers"};
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates an index holding a few names
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The index
+     */
+    private TrigramSearchBoxIndex<String> createIndex() {
+        TrigramSearchBoxIndex<String> index = new TrigramSearchBoxIndex<String>();
+        for (String name : NAMES) {
+            index.add(name, name);
+        }
+        return index;
+    }
+
+    /**
+     * Test that prefix matches are ranked above word prefix matches
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSearchRanking() {
+        List<String> results = createIndex().search("smith", 10);
+        assertEquals("The number of results was not as expected", 2, results.size());
+        assertEquals("The prefix match was not ranked first", "Smithers", results.get(0));
+        assertEquals("The word prefix match was not ranked second", "John Smith", results.get(1));
+    }
+
+    /**
+     * Test that a search string with a typing error still matches
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSearchToleratesTypingErrors() {
+        List<String> results = createIndex().search("jonh smith", 10);
+        assertEquals("The number of results was not as expected", 1, results.size());
+        assertEquals("The close match was not found", "John Smith", results.get(0));
+    }
+
+    /**
+     * Test that the maximum number of results is honoured
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSearchMaxResults() {
+        assertEquals("The maximum number of results was not honoured", 2, createIndex().search("john", 2).size());
+    }
+
+    /**
+     * Test that removed items are no longer matched
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testRemove() {
+        TrigramSearchBoxIndex<String> index = createIndex();
+        index.remove("Smithers");
+        List<String> results = index.search("smith", 10);
+        assertEquals("The number of items was not as expected", 4, index.size());
+        assertEquals("The number of results was not as expected", 1, results.size());
+        assertEquals("The remaining match was not found", "John Smith", results.get(0));
+    }
+
+    /**
+     * Retrieves the names that contain the search string, the way the search
+     * box matched before the index was added
+     *
+     * @param searchString - The search string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The names that contain the search string
+     */
+    private HashSet<String> substringSearch(String searchString) {
+        HashSet<String> results = new HashSet<String>();
+        for (String name : NAMES) {
+            if (name.toLowerCase().indexOf(searchString.toLowerCase()) >= 0) {
+                results.add(name);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Test that search strings shorter than a trigram and search strings that
+     * start in the middle of a word match the same names as a substring search
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testSearchMatchesSubstringSearch() {
+        TrigramSearchBoxIndex<String> index = createIndex();
+        String[] searchStrings = {"j", "n", "r", "oh", "mi", "s", "ohn", "mith", "alk", "hn s", "n s", "ers", "ete"};
+        for (String searchString : searchStrings) {
+            HashSet<String> expected = substringSearch(searchString);
+            List<String> results = index.search(searchString, NAMES.length);
+            assertEquals("The results for '" + searchString + "' differ from the substring search",
+                expected, new HashSet<String>(results));
+            assertEquals("The results for '" + searchString + "' contain duplicates", expected.size(), results.size());
+        }
+    }
+
+    /**
+     * Test that the matches of a short search string are ranked like longer ones
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testShortSearchRanking() {
+        List<String> results = createIndex().search("sm", 10);
+        ArrayList<String> expected = new ArrayList<String>();
+        expected.add("Smithers");
+        expected.add("John Smith");
+        assertEquals("The short search results were not ranked as expected", expected, results);
+    }
+}
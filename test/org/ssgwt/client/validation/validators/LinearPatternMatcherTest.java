@@ -0,0 +1,162 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.validation.validators;
+
+import java.util.Random;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the LinearPatternMatcher. The matcher is compared with the
+ * regular expressions it replaces on random values, and is timed on long
+ * values that make the regular expressions backtrack.
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class LinearPatternMatcherTest extends GWTTestCase {
+
+    /**
+     * The parts random values are built from, chosen so that the values
+     * regularly match each of the patterns
+     */
+    private static final String[] VALUE_PARTS = {"a", "Z", "0", "9", "ab", "co", ".", "@", "-", "_", "+", "&", " ", "'", "(", "/", "à", "Œ", "!"};
+
+    /**
+     * The number of random values compared
+     */
+    private static final int FUZZ_ITERATIONS = 20000;
+
+    /**
+     * The length of the values used to time the matcher
+     */
+    private static final int LONG_VALUE_LENGTH = 200000;
+
+    /**
+     * The maximum number of milliseconds matching a long value may take
+     */
+    private static final long MAX_MATCH_TIME = 1000;
+
+    /**
+     * The built in patterns of the StringRegexValidator
+     */
+    private static final String[] PATTERNS = {
+        StringRegexValidator.REGEX_NAME_PATTERN,
+        StringRegexValidator.REGEX_NAME_PATTERN_NUMBERS,
+        StringRegexValidator.REGEX_NAME_PATTERN_WITH_SPECIAL_CHARACTERS,
+        StringRegexValidator.REGEX_EMAIL_PATTERN,
+        StringRegexValidator.REGEX_ALPHA_NUMERIC_PATTERN,
+        StringRegexValidator.REGEX_TELEPHONE_NUMBER_PATTERN
+    };
+
+    /**
+     * Retrieves the module name
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Test that the matcher accepts and rejects the same random values as the regular expressions
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testMatchesRegularExpressionsOnRandomValues() {
+        Random random = new Random(19102026);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            StringBuilder builder = new StringBuilder();
+            int parts = random.nextInt(9);
+            for (int j = 0; j < parts; j++) {
+                builder.append(VALUE_PARTS[random.nextInt(VALUE_PARTS.length)]);
+            }
+            String value = builder.toString();
+            for (String pattern : PATTERNS) {
+                assertEquals("Pattern " + pattern + " on [" + value + "]", value.matches(pattern), LinearPatternMatcher.matches(value, pattern));
+            }
+            assertEquals("Username [" + value + "]", value.matches(UsernameValidator.USERNAME_PATTERN), LinearPatternMatcher.isUsername(value));
+            assertEquals("Email [" + value + "]", value.matches(EmailValidator.EMAIL_PATTERN), LinearPatternMatcher.isEmail(value));
+        }
+    }
+
+    /**
+     * Test the matcher on values known to be valid or invalid
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testKnownValues() {
+        assertTrue(LinearPatternMatcher.isEmail("john.smith@mail-server.example.com"));
+        assertFalse(LinearPatternMatcher.isEmail("john..smith@example.com"));
+        assertFalse(LinearPatternMatcher.isEmail("john@example.c0m"));
+        assertFalse(LinearPatternMatcher.isEmail("john@example"));
+        assertTrue(LinearPatternMatcher.isUsername("john.smith-1"));
+        assertFalse(LinearPatternMatcher.isUsername(".john"));
+        assertTrue(LinearPatternMatcher.isName("Jean-Luc Picard"));
+        assertFalse(LinearPatternMatcher.isName("Jean-"));
+        assertTrue(LinearPatternMatcher.isNameWithNumbers("Smith & Sons 2"));
+        assertTrue(LinearPatternMatcher.isNameWithSpecialCharacters("(Pty) Ltd/Inc"));
+        assertTrue(LinearPatternMatcher.isTelephoneNumber("+27821234567"));
+        assertFalse(LinearPatternMatcher.isTelephoneNumber("0123456789012345"));
+        assertTrue(LinearPatternMatcher.isAlphaNumeric(""));
+    }
+
+    /**
+     * Test that long values that almost match, which make the regular
+     * expressions backtrack exponentially, are matched in linear time
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testLongValuesAreMatchedInLinearTime() {
+        String word = repeat("a", LONG_VALUE_LENGTH);
+        String words = repeat("ab ", LONG_VALUE_LENGTH / 3);
+        String labels = repeat("a.", LONG_VALUE_LENGTH / 2);
+
+        long start = System.currentTimeMillis();
+        assertFalse(LinearPatternMatcher.isUsername(word + "!"));
+        assertFalse(LinearPatternMatcher.isEmail(labels + "@a"));
+        assertFalse(LinearPatternMatcher.isEmail("a@" + labels + "1"));
+        assertFalse(LinearPatternMatcher.isName(words + "-"));
+        assertFalse(LinearPatternMatcher.isNameWithNumbers(words + "'"));
+        assertFalse(LinearPatternMatcher.isNameWithSpecialCharacters(words + "!"));
+        assertTrue(LinearPatternMatcher.isAlphaNumeric(word));
+        long time = System.currentTimeMillis() - start;
+
+        assertTrue("Matching took " + time + "ms", time < MAX_MATCH_TIME);
+    }
+
+    /**
+     * Builds a value by repeating a string
+     *
+     * @param string - The string to repeat
+     * @param count - The number of times to repeat the string
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The repeated string
+     */
+    private static String repeat(String string, int count) {
+        StringBuilder builder = new StringBuilder(string.length() * count);
+        for (int i = 0; i < count; i++) {
+            builder.append(string);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.server.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.ssgwt.client.validation.FormFieldConstants;
+import org.ssgwt.client.validation.ValidationRule;
+import org.ssgwt.client.validation.ValidatorChain;
+import org.ssgwt.client.validation.validators.StringValidator;
+
+/**
+ * Test cases for the BulkValidator
+ *
+ * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+ * @since  19 October 2026
+ */
+public class BulkValidatorTest extends TestCase {
+
+    /**
+     * String validator that records the threads it was called on
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    private static class ThreadRecordingValidator extends StringValidator {
+
+        /**
+         * The names of the threads the validator was called on
+         */
+        final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+
+        /**
+         * Records the thread and waits briefly so that the batches overlap
+         *
+         * @param value - The value to validate
+         *
+         * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+         * @since  19 October 2026
+         *
+         * @return Whether the value is valid
+         */
+        @Override
+        public boolean isValid(String value) {
+            if (threadNames.add(Thread.currentThread().getName())) {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.isValid(value);
+        }
+    }
+
+    /**
+     * Creates the rows of a file with an id and a name column, every tenth row has no name
+     *
+     * @param rowCount - The number of rows
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The rows
+     */
+    private static List<String[]> createRows(int rowCount) {
+        List<String[]> rows = new ArrayList<String[]>(rowCount);
+        for (int i = 1; i <= rowCount; i++) {
+            rows.add(new String[] {String.valueOf(i), i % 10 == 0 ? "  " : "name " + i});
+        }
+        return rows;
+    }
+
+    /**
+     * Creates a rule that requires a value
+     *
+     * @param errorMessage - The error message of the rule
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     *
+     * @return The rule
+     */
+    private static ValidationRule createRequiredRule(String errorMessage) {
+        HashMap<String, Object> config = new HashMap<String, Object>();
+        config.put(StringValidator.OPTION_MIN_LENGTH, "1");
+        return new ValidationRule(FormFieldConstants.VALIDATE_STRING_REFERENCE, config, errorMessage);
+    }
+
+    /**
+     * Tests that the batches are validated on several threads and the results are handled in row order
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testBatchesAcrossThreads() throws InterruptedException {
+        ThreadRecordingValidator recorder = new ThreadRecordingValidator();
+        recorder.setConfiguration(new HashMap<String, Object>());
+        ValidatorChain<String> chain = new ValidatorChain<String>();
+        chain.addValidator(recorder);
+
+        BulkValidator validator = new BulkValidator(4);
+        validator.setBatchSize(25);
+        validator.addColumnChain(0, chain);
+
+        final List<BulkValidator.RowResult> results = new ArrayList<BulkValidator.RowResult>();
+        final Set<String> handlerThreads = new HashSet<String>();
+        long invalidRowCount = validator.validate(createRows(1000).iterator(), new BulkValidator.RowHandler() {
+
+            @Override
+            public void onRowValidated(BulkValidator.RowResult result) {
+                handlerThreads.add(Thread.currentThread().getName());
+                results.add(result);
+            }
+        });
+
+        assertEquals("All rows should be valid", 0, invalidRowCount);
+        assertEquals("Each row should be handled", 1000, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("The rows should be handled in row order", i + 1, results.get(i).getRowNumber());
+        }
+        assertTrue("The batches should be validated on more than one thread", recorder.threadNames.size() > 1);
+        assertEquals("The handler should be called on the calling thread",
+            Collections.singleton(Thread.currentThread().getName()), handlerThreads);
+        assertEquals("The rule should be timed for each row", 1000, validator.getRuleTimings().get(0).getInvocations());
+    }
+
+    /**
+     * Tests that the errors of the invalid rows are collected with the message of the rule
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testErrorCollection() throws InterruptedException {
+        BulkValidator validator = new BulkValidator(3);
+        validator.setBatchSize(7);
+        validator.addColumnRule(1, createRequiredRule("Name is required"));
+        validator.addColumnRule(2, createRequiredRule(null));
+
+        List<String[]> rows = createRows(100);
+        rows.set(4, new String[] {"5", "name 5", "extra"});
+        final List<BulkValidator.RowResult> invalidRows = new ArrayList<BulkValidator.RowResult>();
+        long invalidRowCount = validator.validate(rows.iterator(), new BulkValidator.RowHandler() {
+
+            @Override
+            public void onRowValidated(BulkValidator.RowResult result) {
+                if (!result.isValid()) {
+                    invalidRows.add(result);
+                }
+            }
+        });
+
+        assertEquals("Only row 5 has the third column", 99, invalidRowCount);
+        assertEquals("Each invalid row should be handled", 99, invalidRows.size());
+        BulkValidator.RowResult row10 = invalidRows.get(8);
+        assertEquals("The ninth invalid row should be row 10", 10, row10.getRowNumber());
+        assertEquals("Row 10 should fail both columns", 2, row10.getErrors().size());
+        BulkValidator.CellError nameError = row10.getErrors().get(0);
+        assertEquals("The error should be on the name column", 1, nameError.getColumn());
+        assertEquals("The value should be trimmed", "", nameError.getValue());
+        assertEquals("The error should hold the message of the rule", "Name is required", nameError.getMessage());
+        assertEquals("The error should hold the name of the validator", new StringValidator().getName(), nameError.getValidatorName());
+        BulkValidator.CellError missingError = row10.getErrors().get(1);
+        assertEquals("The missing column should be validated as empty", 2, missingError.getColumn());
+        assertEquals("The default message should be used without a rule message",
+            new StringValidator().getDefaultValidationMessage(), missingError.getMessage());
+        assertEquals("Row 1 should only fail the missing column", 1, invalidRows.get(0).getErrors().size());
+    }
+
+    /**
+     * Tests that rules with validators that do not validate strings are rejected when they are added
+     *
+     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
+     * @since  19 October 2026
+     */
+    public void testNonStringRuleRejected() {
+        BulkValidator validator = new BulkValidator(2);
+        String[] references = new String[] {FormFieldConstants.VALIDATE_DATE_REFERENCE, FormFieldConstants.VALIDATE_AGE_REFERENCE};
+        for (String reference : references) {
+            try {
+                validator.addColumnRule(0, new ValidationRule(reference, new HashMap<String, Object>()));
+                fail("A " + reference + " rule should be rejected");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        assertTrue("The rejected rules should not be added", validator.getRuleTimings().isEmpty());
+    }
+}